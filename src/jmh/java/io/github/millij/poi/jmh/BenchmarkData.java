@@ -0,0 +1,235 @@
+package io.github.millij.poi.jmh;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import io.github.millij.poi.ss.model.Column;
+import io.github.millij.poi.util.BeanAccessor;
+import io.github.millij.poi.util.PropertyAccessor;
+import io.github.millij.poi.util.Spreadsheet;
+
+
+/**
+ * Deterministic generator of the benchmark inputs. The same seed is used for every call, so the generated workbooks
+ * and rows are identical across the runs.
+ */
+public final class BenchmarkData {
+
+    private static final long SEED = 0x5EED_F00DL;
+
+    // No. of distinct text values (repeated values, as in the real data)
+    private static final int TEXT_CARDINALITY = 1000;
+
+
+    private BenchmarkData() {
+        super();
+        // Utility Class
+    }
+
+
+    // Column Kind
+    // ------------------------------------------------------------------------
+
+    public enum ColumnKind {
+        TEXT, NUMBER, BOOLEAN;
+    }
+
+
+    // Workbook
+    // ------------------------------------------------------------------------
+
+    /**
+     * Generates a workbook with a single sheet (header row and the data rows).
+     *
+     * @param xlsx <code>true</code> for an OOXML (.xlsx) workbook, <code>false</code> for POIFS (.xls)
+     * @param headers column headers
+     * @param kinds column kinds
+     * @param mix cell type mix
+     * @param rows no. of data rows
+     *
+     * @return the workbook file contents
+     */
+    public static byte[] workbook(final boolean xlsx, final List<String> headers, final List<ColumnKind> kinds,
+            final CellMix mix, final int rows) throws IOException {
+        final Random random = new Random(SEED);
+
+        try (final Workbook wb = xlsx ? new XSSFWorkbook() : new HSSFWorkbook()) {
+            final Sheet sheet = wb.createSheet("data");
+
+            // Header
+            final Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < headers.size(); i++) {
+                headerRow.createCell(i).setCellValue(headers.get(i));
+            }
+
+            // Data Rows
+            for (int rowNum = 1; rowNum <= rows; rowNum++) {
+                final Row row = sheet.createRow(rowNum);
+                for (int i = 0; i < kinds.size(); i++) {
+                    setCellValue(row.createCell(i), cellValue(random, kinds.get(i), mix));
+                }
+            }
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+
+
+    // Rows
+    // ------------------------------------------------------------------------
+
+    /**
+     * Generates the beans of the passed shape, with all the mapped properties set.
+     */
+    public static List<Object> beans(final Shape shape, final int rows) throws Exception {
+        final Random random = new Random(SEED);
+
+        final BeanAccessor<?> beanAccessor = BeanAccessor.of(shape.getBeanType());
+        final Map<String, Column> propColumnMap = Spreadsheet.getSchema(shape.getBeanType()).getPropertyColumnMap();
+
+        final List<PropertyAccessor> accessors = new ArrayList<>();
+        for (final String propName : propColumnMap.keySet()) {
+            accessors.add(beanAccessor.getProperty(propName));
+        }
+
+        final List<Object> beans = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            final Object bean = beanAccessor.newInstance();
+            for (final PropertyAccessor accessor : accessors) {
+                accessor.set(bean, propertyValue(random, accessor.getType()));
+            }
+            beans.add(bean);
+        }
+        return beans;
+    }
+
+    /**
+     * Generates the rows as Maps (header to value).
+     */
+    public static List<Map<String, Object>> maps(final List<String> headers, final List<ColumnKind> kinds,
+            final CellMix mix, final int rows) {
+        final Random random = new Random(SEED);
+
+        final List<Map<String, Object>> maps = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            final Map<String, Object> map = new HashMap<>();
+            for (int c = 0; c < headers.size(); c++) {
+                map.put(headers.get(c), cellValue(random, kinds.get(c), mix));
+            }
+            maps.add(map);
+        }
+        return maps;
+    }
+
+
+    // Columns
+    // ------------------------------------------------------------------------
+
+    public static List<String> headers(final int columns) {
+        final List<String> headers = new ArrayList<>(columns);
+        for (int i = 1; i <= columns; i++) {
+            headers.add("Column " + i);
+        }
+        return headers;
+    }
+
+    /**
+     * @return alternating text and number columns.
+     */
+    public static List<ColumnKind> kinds(final int columns) {
+        final List<ColumnKind> kinds = new ArrayList<>(columns);
+        for (int i = 0; i < columns; i++) {
+            kinds.add(i % 2 == 0 ? ColumnKind.TEXT : ColumnKind.NUMBER);
+        }
+        return kinds;
+    }
+
+
+    // Output
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return an {@link OutputStream} discarding all the bytes written.
+     */
+    public static OutputStream nullOutputStream() {
+        return new OutputStream() {
+
+            @Override
+            public void write(final int b) {
+                // discard
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                // discard
+            }
+
+        };
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static Object cellValue(final Random random, final ColumnKind kind, final CellMix mix) {
+        final Object value;
+        switch (kind) {
+            case TEXT:
+                final int code = random.nextInt(TEXT_CARDINALITY);
+                value = mix == CellMix.NUMBER ? (Object) Double.valueOf(code) : "value-" + code;
+                break;
+            case NUMBER:
+                value = random.nextInt(10_000_000) / 100.0;
+                break;
+            case BOOLEAN:
+            default:
+                value = random.nextBoolean();
+                break;
+        }
+
+        return mix == CellMix.STRING ? String.valueOf(value) : value;
+    }
+
+    private static Object propertyValue(final Random random, final Class<?> type) {
+        if (type == String.class) {
+            return "value-" + random.nextInt(TEXT_CARDINALITY);
+        }
+        if (type == Long.class || type == long.class) {
+            return (long) random.nextInt(Integer.MAX_VALUE);
+        }
+        if (type == Double.class || type == double.class) {
+            return random.nextInt(10_000_000) / 100.0;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return random.nextBoolean();
+        }
+        return null;
+    }
+
+    private static void setCellValue(final Cell cell, final Object value) {
+        if (value instanceof Double) {
+            cell.setCellValue((Double) value);
+        } else if (value instanceof Boolean) {
+            cell.setCellValue((Boolean) value);
+        } else {
+            cell.setCellValue(String.valueOf(value));
+        }
+    }
+
+
+}
@@ -0,0 +1,98 @@
+package io.github.millij.poi.jmh;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Runs the benchmarks with the GC profiler, and summarizes the allocations per row (normalized allocation per
+ * operation, divided by the <code>rows</code> param).
+ *
+ * <p>
+ * Arguments : <code>&lt;includes regex&gt; &lt;json results file&gt; [jmh options...]</code>
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+
+    private BenchmarkRunner() {
+        super();
+        // Main Class
+    }
+
+
+    public static void main(final String[] args) throws Exception {
+        final String includes = args.length > 0 ? args[0] : ".*Benchmark.*";
+        final String resultsFile = args.length > 1 ? args[1] : "jmh-results.json";
+        final String[] jmhArgs = args.length > 2 ? Arrays.copyOfRange(args, 2, args.length) : new String[0];
+
+        final File resultsDir = new File(resultsFile).getAbsoluteFile().getParentFile();
+        if (!resultsDir.exists()) {
+            resultsDir.mkdirs();
+        }
+
+        final Options options = new OptionsBuilder() //
+                .parent(new CommandLineOptions(jmhArgs)) //
+                .include(includes) //
+                .addProfiler(GCProfiler.class) //
+                .resultFormat(ResultFormatType.JSON) //
+                .result(resultsFile) //
+                .build();
+
+        final Collection<RunResult> results = new Runner(options).run();
+        printAllocationPerRow(results);
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static void printAllocationPerRow(final Collection<RunResult> results) {
+        System.out.println();
+        System.out.println("Allocation per row :");
+
+        for (final RunResult result : results) {
+            final BenchmarkParams params = result.getParams();
+            final String rows = params.getParam("rows");
+            final Result<?> allocNorm = findSecondary(result.getSecondaryResults(), ALLOC_NORM);
+            if (Objects.isNull(rows) || Objects.isNull(allocNorm)) {
+                continue;
+            }
+
+            final StringBuilder paramsDesc = new StringBuilder();
+            for (final String key : params.getParamsKeys()) {
+                paramsDesc.append(key).append('=').append(params.getParam(key)).append(' ');
+            }
+
+            final double bytesPerRow = allocNorm.getScore() / Integer.parseInt(rows);
+            System.out.printf("  %-55s %-55s %12.1f B/row%n", params.getBenchmark(), paramsDesc, bytesPerRow);
+        }
+    }
+
+    private static Result<?> findSecondary(final Map<String, Result> secondaryResults, final String suffix) {
+        // Label prefix differs across the JMH versions (ex. "·gc.alloc.rate.norm")
+        for (final Map.Entry<String, Result> entry : secondaryResults.entrySet()) {
+            if (entry.getKey().endsWith(suffix)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+
+}
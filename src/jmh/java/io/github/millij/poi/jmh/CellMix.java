@@ -0,0 +1,24 @@
+package io.github.millij.poi.jmh;
+
+
+/**
+ * String / Number mix of the generated cells.
+ */
+public enum CellMix {
+
+    /**
+     * Cells of the native type of each column (text, numeric, boolean).
+     */
+    NATIVE,
+
+    /**
+     * All the cells as Strings (ex. numbers stored as text).
+     */
+    STRING,
+
+    /**
+     * Text columns hold numeric codes, stored as numeric cells.
+     */
+    NUMBER;
+
+}
@@ -0,0 +1,87 @@
+package io.github.millij.poi.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.millij.poi.ss.reader.SpreadsheetReader;
+import io.github.millij.poi.ss.reader.XlsEventReader;
+import io.github.millij.poi.ss.reader.XlsReader;
+import io.github.millij.poi.ss.reader.XlsxReader;
+
+
+/**
+ * Spreadsheet to Bean read benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ReadBeanBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    public int rows;
+
+    @Param({ "NARROW", "WIDE" })
+    public Shape shape;
+
+    @Param({ "NATIVE", "STRING", "NUMBER" })
+    public CellMix mix;
+
+    @Param({ "XLSX", "XLS", "XLS_EVENT" })
+    public String reader;
+
+
+    private byte[] content;
+    private SpreadsheetReader spreadsheetReader;
+
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final boolean xlsx = "XLSX".equals(reader);
+        content = BenchmarkData.workbook(xlsx, shape.getHeaders(), shape.getKinds(), mix, rows);
+
+        switch (reader) {
+            case "XLSX":
+                spreadsheetReader = new XlsxReader();
+                break;
+            case "XLS":
+                spreadsheetReader = new XlsReader();
+                break;
+            case "XLS_EVENT":
+                spreadsheetReader = new XlsEventReader();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown reader : " + reader);
+        }
+    }
+
+
+    // Benchmarks
+    // ------------------------------------------------------------------------
+
+    @Benchmark
+    public List<?> read() throws Exception {
+        return spreadsheetReader.read(shape.getBeanType(), new ByteArrayInputStream(content));
+    }
+
+
+}
@@ -0,0 +1,69 @@
+package io.github.millij.poi.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.millij.poi.ss.reader.SpreadsheetReader;
+import io.github.millij.poi.ss.reader.XlsxReader;
+
+
+/**
+ * Spreadsheet to Map read benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ReadMapBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    public int rows;
+
+    @Param({ "4", "16", "64" })
+    public int columns;
+
+    @Param({ "NATIVE", "STRING", "NUMBER" })
+    public CellMix mix;
+
+
+    private byte[] content;
+    private SpreadsheetReader spreadsheetReader;
+
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        content = BenchmarkData.workbook(true, BenchmarkData.headers(columns), BenchmarkData.kinds(columns), mix, rows);
+        spreadsheetReader = new XlsxReader();
+    }
+
+
+    // Benchmarks
+    // ------------------------------------------------------------------------
+
+    @Benchmark
+    public List<Map<String, Object>> read() throws Exception {
+        return spreadsheetReader.read(new ByteArrayInputStream(content));
+    }
+
+
+}
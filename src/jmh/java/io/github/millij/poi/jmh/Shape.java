@@ -0,0 +1,88 @@
+package io.github.millij.poi.jmh;
+
+import static io.github.millij.poi.jmh.BenchmarkData.ColumnKind.BOOLEAN;
+import static io.github.millij.poi.jmh.BenchmarkData.ColumnKind.NUMBER;
+import static io.github.millij.poi.jmh.BenchmarkData.ColumnKind.TEXT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.github.millij.poi.jmh.BenchmarkData.ColumnKind;
+import io.github.millij.poi.jmh.bean.NarrowBean;
+import io.github.millij.poi.jmh.bean.WideBean;
+
+
+/**
+ * Bean shapes, along with the columns (headers and kinds) of the sheets mapped to them.
+ */
+public enum Shape {
+
+    NARROW(NarrowBean.class, //
+            Arrays.asList("Id", "Name", "Amount", "Active"), //
+            Arrays.asList(NUMBER, TEXT, NUMBER, BOOLEAN)),
+
+    WIDE(WideBean.class, //
+            headers("Text ", 8, "Number ", 8), //
+            kinds(TEXT, 8, NUMBER, 8));
+
+
+    private final Class<?> beanType;
+
+    private final List<String> headers;
+    private final List<ColumnKind> kinds;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    Shape(final Class<?> beanType, final List<String> headers, final List<ColumnKind> kinds) {
+        this.beanType = beanType;
+
+        this.headers = Collections.unmodifiableList(headers);
+        this.kinds = Collections.unmodifiableList(kinds);
+    }
+
+
+    // Getters
+    // ------------------------------------------------------------------------
+
+    public Class<?> getBeanType() {
+        return beanType;
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    public List<ColumnKind> getKinds() {
+        return kinds;
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static List<String> headers(final String prefix1, final int count1, final String prefix2,
+            final int count2) {
+        final List<String> headers = new ArrayList<>();
+        for (int i = 1; i <= count1; i++) {
+            headers.add(prefix1 + i);
+        }
+        for (int i = 1; i <= count2; i++) {
+            headers.add(prefix2 + i);
+        }
+        return headers;
+    }
+
+    private static List<ColumnKind> kinds(final ColumnKind kind1, final int count1, final ColumnKind kind2,
+            final int count2) {
+        final List<ColumnKind> kinds = new ArrayList<>();
+        kinds.addAll(Collections.nCopies(count1, kind1));
+        kinds.addAll(Collections.nCopies(count2, kind2));
+        return kinds;
+    }
+
+
+}
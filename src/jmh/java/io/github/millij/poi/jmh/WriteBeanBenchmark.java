@@ -0,0 +1,92 @@
+package io.github.millij.poi.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.millij.poi.ss.writer.SpreadsheetWriter;
+import io.github.millij.poi.ss.writer.XlsWriter;
+import io.github.millij.poi.ss.writer.XlsxStreamingWriter;
+import io.github.millij.poi.ss.writer.XlsxWriter;
+
+
+/**
+ * Bean to Spreadsheet write benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class WriteBeanBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    public int rows;
+
+    @Param({ "NARROW", "WIDE" })
+    public Shape shape;
+
+    @Param({ "XLSX", "XLSX_STREAMING", "XLS" })
+    public String writer;
+
+
+    private List<Object> beans;
+
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        beans = BenchmarkData.beans(shape, rows);
+    }
+
+
+    // Benchmarks
+    // ------------------------------------------------------------------------
+
+    @Benchmark
+    public SpreadsheetWriter write() throws Exception {
+        final SpreadsheetWriter spreadsheetWriter = WriteBeanBenchmark.newWriter(writer);
+        this.addSheet(spreadsheetWriter, shape.getBeanType());
+        spreadsheetWriter.write(BenchmarkData.nullOutputStream());
+        return spreadsheetWriter;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    static SpreadsheetWriter newWriter(final String writer) {
+        switch (writer) {
+            case "XLSX":
+                return new XlsxWriter();
+            case "XLSX_STREAMING":
+                return new XlsxStreamingWriter();
+            case "XLS":
+                return new XlsWriter();
+            default:
+                throw new IllegalArgumentException("Unknown writer : " + writer);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void addSheet(final SpreadsheetWriter spreadsheetWriter, final Class<T> beanType) {
+        spreadsheetWriter.addSheet(beanType, (List<T>) beans);
+    }
+
+
+}
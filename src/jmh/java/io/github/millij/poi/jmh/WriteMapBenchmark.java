@@ -0,0 +1,73 @@
+package io.github.millij.poi.jmh;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.millij.poi.ss.writer.SpreadsheetWriter;
+
+
+/**
+ * Map to Spreadsheet write benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class WriteMapBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    public int rows;
+
+    @Param({ "4", "16", "64" })
+    public int columns;
+
+    @Param({ "NATIVE", "STRING", "NUMBER" })
+    public CellMix mix;
+
+    @Param({ "XLSX", "XLSX_STREAMING", "XLS" })
+    public String writer;
+
+
+    private List<String> headers;
+    private List<Map<String, Object>> rowsData;
+
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Setup(Level.Trial)
+    public void setup() {
+        headers = BenchmarkData.headers(columns);
+        rowsData = BenchmarkData.maps(headers, BenchmarkData.kinds(columns), mix, rows);
+    }
+
+
+    // Benchmarks
+    // ------------------------------------------------------------------------
+
+    @Benchmark
+    public SpreadsheetWriter write() throws Exception {
+        final SpreadsheetWriter spreadsheetWriter = WriteBeanBenchmark.newWriter(writer);
+        spreadsheetWriter.addSheet(rowsData, headers);
+        spreadsheetWriter.write(BenchmarkData.nullOutputStream());
+        return spreadsheetWriter;
+    }
+
+
+}
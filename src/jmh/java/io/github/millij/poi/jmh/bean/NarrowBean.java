@@ -0,0 +1,70 @@
+package io.github.millij.poi.jmh.bean;
+
+import io.github.millij.poi.ss.model.annotations.Sheet;
+import io.github.millij.poi.ss.model.annotations.SheetColumn;
+
+
+/**
+ * Narrow bean shape : 4 columns of mixed types.
+ */
+@Sheet("Narrow")
+public class NarrowBean {
+
+    @SheetColumn("Id")
+    private Long id;
+
+    @SheetColumn("Name")
+    private String name;
+
+    @SheetColumn("Amount")
+    private Double amount;
+
+    @SheetColumn("Active")
+    private Boolean active;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public NarrowBean() {
+        // Default
+    }
+
+
+    // Getters and Setters
+    // ------------------------------------------------------------------------
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Double amount) {
+        this.amount = amount;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+
+}
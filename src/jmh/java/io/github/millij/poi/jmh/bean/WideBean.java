@@ -0,0 +1,202 @@
+package io.github.millij.poi.jmh.bean;
+
+import io.github.millij.poi.ss.model.annotations.Sheet;
+import io.github.millij.poi.ss.model.annotations.SheetColumn;
+
+
+/**
+ * Wide bean shape : 16 columns, 8 text and 8 numeric.
+ */
+@Sheet("Wide")
+public class WideBean {
+
+    @SheetColumn("Text 1")
+    private String text1;
+
+    @SheetColumn("Text 2")
+    private String text2;
+
+    @SheetColumn("Text 3")
+    private String text3;
+
+    @SheetColumn("Text 4")
+    private String text4;
+
+    @SheetColumn("Text 5")
+    private String text5;
+
+    @SheetColumn("Text 6")
+    private String text6;
+
+    @SheetColumn("Text 7")
+    private String text7;
+
+    @SheetColumn("Text 8")
+    private String text8;
+
+    @SheetColumn("Number 1")
+    private Double number1;
+
+    @SheetColumn("Number 2")
+    private Double number2;
+
+    @SheetColumn("Number 3")
+    private Double number3;
+
+    @SheetColumn("Number 4")
+    private Double number4;
+
+    @SheetColumn("Number 5")
+    private Double number5;
+
+    @SheetColumn("Number 6")
+    private Double number6;
+
+    @SheetColumn("Number 7")
+    private Double number7;
+
+    @SheetColumn("Number 8")
+    private Double number8;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public WideBean() {
+        // Default
+    }
+
+
+    // Getters and Setters
+    // ------------------------------------------------------------------------
+
+    public String getText1() {
+        return text1;
+    }
+
+    public void setText1(String text1) {
+        this.text1 = text1;
+    }
+
+    public String getText2() {
+        return text2;
+    }
+
+    public void setText2(String text2) {
+        this.text2 = text2;
+    }
+
+    public String getText3() {
+        return text3;
+    }
+
+    public void setText3(String text3) {
+        this.text3 = text3;
+    }
+
+    public String getText4() {
+        return text4;
+    }
+
+    public void setText4(String text4) {
+        this.text4 = text4;
+    }
+
+    public String getText5() {
+        return text5;
+    }
+
+    public void setText5(String text5) {
+        this.text5 = text5;
+    }
+
+    public String getText6() {
+        return text6;
+    }
+
+    public void setText6(String text6) {
+        this.text6 = text6;
+    }
+
+    public String getText7() {
+        return text7;
+    }
+
+    public void setText7(String text7) {
+        this.text7 = text7;
+    }
+
+    public String getText8() {
+        return text8;
+    }
+
+    public void setText8(String text8) {
+        this.text8 = text8;
+    }
+
+    public Double getNumber1() {
+        return number1;
+    }
+
+    public void setNumber1(Double number1) {
+        this.number1 = number1;
+    }
+
+    public Double getNumber2() {
+        return number2;
+    }
+
+    public void setNumber2(Double number2) {
+        this.number2 = number2;
+    }
+
+    public Double getNumber3() {
+        return number3;
+    }
+
+    public void setNumber3(Double number3) {
+        this.number3 = number3;
+    }
+
+    public Double getNumber4() {
+        return number4;
+    }
+
+    public void setNumber4(Double number4) {
+        this.number4 = number4;
+    }
+
+    public Double getNumber5() {
+        return number5;
+    }
+
+    public void setNumber5(Double number5) {
+        this.number5 = number5;
+    }
+
+    public Double getNumber6() {
+        return number6;
+    }
+
+    public void setNumber6(Double number6) {
+        this.number6 = number6;
+    }
+
+    public Double getNumber7() {
+        return number7;
+    }
+
+    public void setNumber7(Double number7) {
+        this.number7 = number7;
+    }
+
+    public Double getNumber8() {
+        return number8;
+    }
+
+    public void setNumber8(Double number8) {
+        this.number8 = number8;
+    }
+
+
+}
@@ -1,23 +1,56 @@
 package io.github.millij.poi.ss.handler;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.BitSet;
+import java.util.Objects;
 
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
 import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.github.millij.poi.util.JfrEvents;
 import io.github.millij.poi.util.Spreadsheet;
 import io.github.millij.poi.util.Strings;
 
 
-abstract class AbstractSheetContentsHandler implements SheetContentsHandler {
+/**
+ * Base {@link SheetContentsHandler} of the Row handlers, collecting the cell values of each row into a reusable
+ * {@link RowBuffer}.
+ * 
+ * <p>
+ * Apart from the XSSF (SAX) callbacks, the typed cell values can also be fed through
+ * {@link #cell(int, Object, CellType)} by the readers which do not produce cell references (HSSF).
+ * </p>
+ */
+public abstract class AbstractSheetContentsHandler implements SheetContentsHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSheetContentsHandler.class);
 
     private int currentRow = 0;
-    private Map<String, Object> currentRowObj;
+    private String sheetName = null;
+    private boolean inSheet = false;
+    private final RowBuffer currentRowData = new RowBuffer();
+
+    // Indexes of the columns to read (all, when not set)
+    private BitSet columnProjection = null;
+
+    // Max no. of rows to read from a sheet
+    private int rowLimit = Integer.MAX_VALUE;
+    private int rowCount = 0;
+
+    // Metrics (callbacks skipped when not enabled)
+    private ReadMetrics metrics = ReadMetrics.NOOP;
+    private boolean metered = false;
+    private int cellCount = 0;
+
+    // JFR : rows read (across the sheets), and the batch of rows in progress
+    private long rowsRead = 0;
+    private JfrEvents.Event batchEvent = JfrEvents.Event.NOOP;
+    private int batchRows = 0;
+
+    // Progress and the cancellation (checks skipped when not set)
+    private ReadMonitor monitor = null;
 
 
     // Methods
@@ -27,7 +60,188 @@ abstract class AbstractSheetContentsHandler implements SheetContentsHandler {
 
     abstract void beforeRowStart(int rowNum);
 
-    abstract void afterRowEnd(int rowNum, Map<String, Object> rowObj);
+    abstract void afterRowEnd(int rowNum, RowBuffer rowData);
+
+    abstract void beforeSheetStart(String sheetName);
+
+    abstract void afterSheetEnd(String sheetName);
+
+    /**
+     * @return the type of the row objects (the bean type, or {@link java.util.Map}).
+     * 
+     * @since 3.3.0
+     */
+    public abstract Class<?> getRowType();
+
+
+    // Column Projection
+
+    /**
+     * Restricts the columns to read. The cells of the other columns are dropped.
+     * 
+     * @param columnIdxs indexes of the columns to read, or <code>null</code> to read all the columns.
+     */
+    void setColumnProjection(final BitSet columnIdxs) {
+        this.columnProjection = columnIdxs;
+        LOGGER.debug("Column projection : {}", columnIdxs);
+    }
+
+    /**
+     * Checks whether the cells of the column are to be read. The readers use this to drop the cells of the columns
+     * not needed at the earliest, i.e., before resolving and formatting the cell values.
+     * 
+     * <p>
+     * All the columns are read until the header row is processed.
+     * </p>
+     * 
+     * @param colIdx column index of the cell (indexed from 0)
+     * 
+     * @return <code>true</code> if the column is to be read.
+     * 
+     * @since 3.3.0
+     */
+    public boolean isColumnNeeded(final int colIdx) {
+        return Objects.isNull(columnProjection) || (colIdx >= 0 && columnProjection.get(colIdx));
+    }
+
+
+    // Row Limit
+
+    /**
+     * Limits the no. of (non-header) rows read from a sheet. Once the limit is reached, the rest of the sheet is
+     * skipped by throwing a {@link SheetEndException}.
+     * 
+     * @param rowLimit max no. of rows to read from a sheet
+     * 
+     * @since 3.3.0
+     */
+    public void setRowLimit(final int rowLimit) {
+        this.rowLimit = rowLimit;
+    }
+
+    /**
+     * Counts a row read, and signals the end of the sheet once the row limit is reached.
+     */
+    void rowRead(final int rowNum) {
+        if (metered) {
+            metrics.rowRead();
+        }
+
+        if (Objects.nonNull(monitor)) {
+            monitor.rowRead();
+        }
+
+        // Batch event
+        rowsRead++;
+        if (++batchRows >= JfrEvents.ROWS_BATCH_SIZE) {
+            this.commitBatch();
+            batchEvent = JfrEvents.begin(JfrEvents.Type.ROWS_BOUND);
+        }
+
+        if (++rowCount >= rowLimit) {
+            throw new SheetEndException(String.format("Row limit %d reached at the row #%d", rowLimit, rowNum));
+        }
+    }
+
+    /**
+     * Resets the Sheet state (the column projection and the row count), at the start of a new sheet.
+     */
+    void resetSheet() {
+        this.columnProjection = null;
+        this.rowCount = 0;
+
+        this.commitBatch();
+        this.batchEvent = JfrEvents.begin(JfrEvents.Type.ROWS_BOUND);
+    }
+
+    /**
+     * @return the no. of (non-header) rows read so far, across all the sheets.
+     * 
+     * @since 3.3.0
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    private void commitBatch() {
+        if (batchRows > 0) {
+            batchEvent.beanType(this.getRowType()).rows(batchRows).commit();
+        }
+
+        this.batchEvent = JfrEvents.Event.NOOP;
+        this.batchRows = 0;
+    }
+
+
+    // Metrics
+
+    /**
+     * Sets the {@link ReadMetrics} to report the rows, the cells and the bind and listener timings to.
+     * 
+     * @param metrics the {@link ReadMetrics}
+     * 
+     * @since 3.3.0
+     */
+    public void setMetrics(final ReadMetrics metrics) {
+        this.metrics = Objects.isNull(metrics) ? ReadMetrics.NOOP : metrics;
+        this.metered = this.metrics.isEnabled();
+    }
+
+    ReadMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return <code>true</code> if the metrics are enabled, and hence the callbacks are to be made.
+     */
+    boolean isMetered() {
+        return metered;
+    }
+
+    /**
+     * Counts a row skipped, when metered.
+     */
+    void rowSkipped() {
+        if (metered) {
+            metrics.rowSkipped();
+        }
+    }
+
+
+    // Progress
+
+    /**
+     * Sets the {@link ReadMonitor} to check the cancellation against before every row, and to report the rows read to.
+     * 
+     * @param monitor the {@link ReadMonitor}, or <code>null</code> to skip the checks
+     * 
+     * @since 3.3.0
+     */
+    public void setMonitor(final ReadMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+
+    // Typed Cell
+
+    /**
+     * Adds a typed cell value to the current Row. This is the counterpart of
+     * {@link #cell(String, String, XSSFComment)} for the readers which already have the cell column index and the
+     * typed value (like the HSSF readers).
+     * 
+     * @param colIdx column index of the cell (indexed from 0)
+     * @param cellVal value of the cell
+     * @param type {@link CellType} of the value
+     */
+    public void cell(final int colIdx, final Object cellVal, final CellType type) {
+        // Sanity Checks
+        if (cellVal == null || !this.isColumnNeeded(colIdx)) {
+            return;
+        }
+
+        currentRowData.set(colIdx, cellVal, type);
+        cellCount++;
+    }
 
 
     // SheetContentsHandler Implementations
@@ -35,18 +249,29 @@ abstract class AbstractSheetContentsHandler implements SheetContentsHandler {
 
     @Override
     public void startRow(final int rowNum) {
+        // Cancellation
+        if (Objects.nonNull(monitor)) {
+            monitor.checkCancelled();
+        }
+
         // Callback
         this.beforeRowStart(rowNum);
 
         // Handle row
         this.currentRow = rowNum;
-        this.currentRowObj = new HashMap<>();
+        this.currentRowData.clear();
+        this.cellCount = 0;
     }
 
     @Override
     public void endRow(final int rowNum) {
+        // Metrics
+        if (metered) {
+            metrics.cellsRead(cellCount);
+        }
+
         // Callback
-        this.afterRowEnd(rowNum, new HashMap<>(currentRowObj));
+        this.afterRowEnd(rowNum, currentRowData);
     }
 
     @Override
@@ -62,12 +287,50 @@ abstract class AbstractSheetContentsHandler implements SheetContentsHandler {
             return;
         }
 
-        // CellColRef
-        final String cellColRef = Spreadsheet.getCellColumnReference(cellRef);
+        // Cell Column Index
+        final int cellColIdx = Spreadsheet.getCellColumnIndex(cellRef);
+        if (!this.isColumnNeeded(cellColIdx)) {
+            return;
+        }
+
+        // Set the CellValue in the Row
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("cell - Saving Column value : {} - {}", cellColIdx, cellVal);
+        }
+        currentRowData.set(cellColIdx, cellVal, CellType.STRING);
+        cellCount++;
+    }
+
+    /**
+     * Called by the readers at the start of each sheet, before its rows.
+     * 
+     * @param sheetName name of the Sheet
+     * 
+     * @since 3.3.0
+     */
+    public void startSheet(final String sheetName) {
+        this.sheetName = sheetName;
+        this.inSheet = true;
 
-        // Set the CellValue in the Map
-        LOGGER.debug("cell - Saving Column value : {} - {}", cellColRef, cellVal);
-        currentRowObj.put(cellColRef, cellVal);
+        // Callback
+        this.beforeSheetStart(sheetName);
+    }
+
+    /**
+     * Called at the end of each sheet (also when the rest of the sheet is skipped), to complete the sheet state.
+     * Calling it again, before the next sheet starts, has no effect.
+     * 
+     * @since 3.3.0
+     */
+    @Override
+    public void endSheet() {
+        this.commitBatch();
+
+        // Callback, once per sheet started
+        if (inSheet) {
+            inSheet = false;
+            this.afterSheetEnd(sheetName);
+        }
     }
 
     @Override
@@ -0,0 +1,57 @@
+package io.github.millij.poi.ss.handler;
+
+import java.util.List;
+
+import io.github.millij.poi.ss.reader.SpreadsheetReader;
+
+
+/**
+ * Callback of the rows in batches (chunks) of a fixed size, for the bulk sinks (ex. JDBC batch inserts). The rows are
+ * collected by a {@link BatchingRowListener}, and the last (partial) batch of every sheet is delivered at the end of
+ * the sheet.
+ *
+ * <p>
+ * The batch {@link List} is recycled across the calls, to avoid the allocations : it is only valid during the
+ * {@link #batch(String, List)} call, and should be copied if the rows are to be kept.
+ * </p>
+ *
+ * @param <T> the Row object type
+ *
+ * @see SpreadsheetReader#readBatches(Class, java.io.InputStream, int, BatchRowListener)
+ * @since 3.3.0
+ */
+@FunctionalInterface
+public interface BatchRowListener<T> {
+
+    /**
+     * Called with every batch of the rows.
+     * 
+     * @param sheetName name of the Sheet the rows belong to
+     * @param rows the rows of the batch (reused after the call)
+     */
+    void batch(String sheetName, List<T> rows);
+
+
+    // Default Methods
+
+    /**
+     * Called at the start of every sheet read.
+     * 
+     * @param sheetName name of the Sheet
+     */
+    default void startSheet(final String sheetName) {
+        //
+    }
+
+    /**
+     * Called at the end of every sheet read, after the last batch of the sheet.
+     * 
+     * @param sheetName name of the Sheet
+     * @param rowCount no. of the rows delivered from the sheet
+     */
+    default void endSheet(final String sheetName, final long rowCount) {
+        //
+    }
+
+
+}
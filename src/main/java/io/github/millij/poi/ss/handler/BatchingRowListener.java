@@ -0,0 +1,166 @@
+package io.github.millij.poi.ss.handler;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * {@link RowListener} collecting the rows into batches of a fixed size, and delivering them to a
+ * {@link BatchRowListener}. A batch is delivered once full, and at the end of every sheet (see
+ * {@link #afterSheet(String)}) or on {@link #flush()}.
+ *
+ * <p>
+ * A single chunk array is recycled across the batches. The listener is thread-safe, as the rows may be delivered
+ * concurrently (ex. by an unordered {@link RowPipeline}).
+ * </p>
+ *
+ * @param <T> the Row object type
+ *
+ * @since 3.3.0
+ */
+public final class BatchingRowListener<T> implements RowListener<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchingRowListener.class);
+
+    private final BatchRowListener<T> delegate;
+    private final Batch<T> batch;
+
+    private String sheetName;
+    private long sheetRows;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param delegate the {@link BatchRowListener} to deliver the batches to
+     * @param batchSize no. of the rows in a (full) batch
+     */
+    public BatchingRowListener(final BatchRowListener<T> delegate, final int batchSize) {
+        super();
+
+        // Sanity checks
+        if (Objects.isNull(delegate)) {
+            throw new IllegalArgumentException("BatchingRowListener :: Batch Row listener is NULL");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("BatchingRowListener :: Batch size should be positive");
+        }
+
+        // init
+        this.delegate = delegate;
+        this.batch = new Batch<>(batchSize);
+
+        this.sheetName = null;
+        this.sheetRows = 0;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Delivers the rows collected so far (if any) as a batch.
+     */
+    public synchronized void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        LOGGER.debug("Delivering a batch of {} rows of the Sheet : {}", batch.size(), sheetName);
+        try {
+            delegate.batch(sheetName, batch);
+        } finally {
+            batch.clear();
+        }
+    }
+
+
+    // RowListener Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public synchronized void row(final int rowNum, final T rowObj) {
+        if (Objects.isNull(rowObj)) {
+            return;
+        }
+
+        batch.append(rowObj);
+        sheetRows++;
+        if (batch.isFull()) {
+            this.flush();
+        }
+    }
+
+    @Override
+    public synchronized void beforeSheet(final String sheetName) {
+        this.flush();
+
+        this.sheetName = sheetName;
+        this.sheetRows = 0;
+        delegate.startSheet(sheetName);
+    }
+
+    @Override
+    public synchronized void afterSheet(final String sheetName) {
+        this.flush();
+        delegate.endSheet(sheetName, sheetRows);
+    }
+
+
+    // Batch
+    // ------------------------------------------------------------------------
+
+    /**
+     * Fixed size List view of the recycled chunk array.
+     */
+    private static final class Batch<T> extends AbstractList<T> implements RandomAccess {
+
+        private final Object[] rows;
+        private int size;
+
+        private Batch(final int capacity) {
+            super();
+
+            // init
+            this.rows = new Object[capacity];
+            this.size = 0;
+        }
+
+        private void append(final T row) {
+            rows[size++] = row;
+        }
+
+        private boolean isFull() {
+            return size == rows.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return (T) rows[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(rows, 0, size, null);
+            size = 0;
+        }
+
+    }
+
+
+}
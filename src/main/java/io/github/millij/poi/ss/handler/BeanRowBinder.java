@@ -0,0 +1,234 @@
+package io.github.millij.poi.ss.handler;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.millij.poi.ss.model.Column;
+import io.github.millij.poi.util.BeanAccessor;
+import io.github.millij.poi.util.Converters;
+import io.github.millij.poi.util.PropertyAccessor;
+import io.github.millij.poi.util.PropertyConverter;
+import io.github.millij.poi.util.Spreadsheet;
+import io.github.millij.poi.util.Strings;
+
+
+/**
+ * Precompiled plan to bind the Row data to a Bean. The header to property resolution (including the name
+ * normalization) happens only once, when the plan is created from the header row, and each of the data rows is then
+ * bound in a single pass over the resolved columns.
+ *
+ * @param <T> the Bean type
+ *
+ * @since 3.3.0
+ */
+public final class BeanRowBinder<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BeanRowBinder.class);
+
+    private final Class<T> beanClz;
+    private final BeanAccessor<T> beanAccessor;
+
+    private final ColumnBinding[] bindings;
+
+    private final ReadMetrics metrics;
+    private final boolean metered;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    private BeanRowBinder(final Class<T> beanClz, final ColumnBinding[] bindings, final ReadMetrics metrics) {
+        super();
+
+        // init
+        this.beanClz = beanClz;
+        this.beanAccessor = BeanAccessor.of(beanClz);
+
+        this.bindings = bindings;
+
+        this.metrics = metrics;
+        this.metered = metrics.isEnabled();
+    }
+
+
+    // Static Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Resolves the binding plan of the bean type against the header row.
+     *
+     * @param <T> the Bean type
+     * @param beanClz the Bean {@link Class}
+     * @param headerColIdxMap normalized header name to column index mapping of the header row
+     *
+     * @return the resolved {@link BeanRowBinder}
+     */
+    public static <T> BeanRowBinder<T> of(final Class<T> beanClz, final Map<String, Integer> headerColIdxMap) {
+        return of(beanClz, headerColIdxMap, ReadMetrics.NOOP);
+    }
+
+    /**
+     * Resolves the binding plan of the bean type against the header row, reporting the binding time and the
+     * conversion failures of the rows to the passed {@link ReadMetrics}.
+     *
+     * @param <T> the Bean type
+     * @param beanClz the Bean {@link Class}
+     * @param headerColIdxMap normalized header name to column index mapping of the header row
+     * @param metrics the {@link ReadMetrics}
+     *
+     * @return the resolved {@link BeanRowBinder}
+     */
+    public static <T> BeanRowBinder<T> of(final Class<T> beanClz, final Map<String, Integer> headerColIdxMap,
+            final ReadMetrics metrics) {
+        // Sanity checks
+        if (Objects.isNull(beanClz) || Objects.isNull(headerColIdxMap)) {
+            throw new IllegalArgumentException("#BeanRowBinder.of :: Bean type or Header refs are NULL");
+        }
+
+        final BeanAccessor<T> beanAccessor = BeanAccessor.of(beanClz);
+        final Map<String, Column> propColumnMap = Spreadsheet.getSchema(beanClz).getPropertyColumnMap();
+
+        final List<ColumnBinding> bindings = new ArrayList<>();
+        for (final String propName : propColumnMap.keySet()) {
+            // Prop Column Definition
+            final Column propColDef = propColumnMap.get(propName);
+            final String propColName = propColDef.getName();
+
+            // Header Column Index
+            final Integer propColIdx = headerColIdxMap.get(Strings.normalize(propColName));
+            if (Objects.isNull(propColIdx)) {
+                LOGGER.debug("{} :: No Cell Ref found [Prop - Col] : [{} - {}]", beanClz, propName, propColName);
+                continue;
+            }
+
+            // Property Accessor
+            final PropertyAccessor accessor = beanAccessor.getProperty(propName);
+            if (Objects.isNull(accessor) || !accessor.isWritable()) {
+                LOGGER.debug("{} :: No Setter found [Prop - Col] : [{} - {}]", beanClz, propName, propColName);
+                continue;
+            }
+
+            // Converter
+            final PropertyConverter converter = Converters.resolve(accessor, propColDef.getFormat(), //
+                    propColDef.getDatetimeType());
+
+            bindings.add(new ColumnBinding(propColIdx, accessor.getName(), converter));
+        }
+
+        LOGGER.debug("{} :: Resolved column bindings : {}", beanClz, bindings);
+        final ColumnBinding[] bindingArr = bindings.toArray(new ColumnBinding[bindings.size()]);
+        return new BeanRowBinder<>(beanClz, bindingArr, Objects.isNull(metrics) ? ReadMetrics.NOOP : metrics);
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Binds the row data to a new Bean instance.
+     *
+     * @param rowData the Row data
+     *
+     * @return the Bean, or <code>null</code> if none of the bound columns has a value in the row.
+     */
+    public T bind(final RowBuffer rowData) {
+        // Sanity checks
+        if (Objects.isNull(rowData)) {
+            return null;
+        }
+
+        final long start = metered ? System.nanoTime() : 0L;
+
+        T bean = null;
+        try {
+            for (final ColumnBinding binding : bindings) {
+                // Property Value
+                final Object propValue = rowData.getValue(binding.colIdx);
+                if (Objects.isNull(propValue)) {
+                    continue;
+                }
+
+                // Create new Instance, on the first value found
+                if (Objects.isNull(bean)) {
+                    bean = beanAccessor.newInstance();
+                }
+
+                // Set Value
+                final int result = binding.converter.set(bean, propValue);
+                if (result == PropertyConverter.INVALID || result == PropertyConverter.FAILED) {
+                    String resultName = PropertyConverter.describe(result);
+                    String errMsg = String.format("Error setting prop - %s, val - %s : %s", binding.propName, propValue,
+                            resultName);
+                    LOGGER.error(errMsg);
+
+                    if (metered) {
+                        metrics.conversionFailed(binding.propName);
+                    }
+                }
+            }
+        } catch (Exception ex) {
+            String errMsg = String.format("Error while creating bean - %s, from - %s", beanClz, rowData);
+            LOGGER.error(errMsg, ex);
+            return null;
+        } finally {
+            if (metered) {
+                metrics.phaseTime(ReadMetrics.Phase.BIND, System.nanoTime() - start);
+            }
+        }
+
+        if (Objects.isNull(bean)) {
+            LOGGER.debug("#bind :: Skipping the bean creation as the ROW data in INVALID");
+        }
+
+        return bean;
+    }
+
+
+    /**
+     * @return the indexes of the columns bound to the bean properties.
+     */
+    public BitSet getColumnIndexes() {
+        final BitSet colIdxs = new BitSet();
+        for (final ColumnBinding binding : bindings) {
+            colIdxs.set(binding.colIdx);
+        }
+        return colIdxs;
+    }
+
+
+    // Column Binding
+    // ------------------------------------------------------------------------
+
+    private static final class ColumnBinding {
+
+        private final int colIdx;
+        private final String propName;
+
+        private final PropertyConverter converter;
+
+
+        private ColumnBinding(final int colIdx, final String propName, final PropertyConverter converter) {
+            super();
+
+            // init
+            this.colIdx = colIdx;
+            this.propName = propName;
+
+            this.converter = converter;
+        }
+
+        @Override
+        public String toString() {
+            return "ColumnBinding [colIdx=" + colIdx + ", prop=" + propName + "]";
+        }
+
+    }
+
+
+}
@@ -0,0 +1,54 @@
+package io.github.millij.poi.ss.handler;
+
+import io.github.millij.poi.ss.reader.SpreadsheetReader;
+
+
+/**
+ * Token to cancel a read in progress, from any thread. The {@link SpreadsheetReader} implementations check the token
+ * before every row and while reading the workbook data, and once cancelled, abort the parsing and release the
+ * resources. The cancelled read then throws a {@link io.github.millij.poi.SpreadsheetReadException} caused by a
+ * {@link ReadCancelledException}, the rows read so far being delivered to the listener.
+ *
+ * <p>
+ * A token can not be reset : once cancelled, it cancels every read it is set on, including the reads started later.
+ * Hence a new token is needed for the next read. A {@link ProgressListener} returning <code>false</code> cancels only
+ * its read, but not the token.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public final class CancellationToken {
+
+    private volatile boolean cancelled;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public CancellationToken() {
+        super();
+
+        // init
+        this.cancelled = false;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Requests the cancellation of the read(s) the token is set on.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * @return <code>true</code> if the cancellation is requested.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+
+}
@@ -0,0 +1,129 @@
+package io.github.millij.poi.ss.handler;
+
+import java.util.Objects;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import io.github.millij.poi.util.Spreadsheet;
+import io.github.millij.poi.util.Strings;
+
+
+/**
+ * SAX handler of the sheet XML, which drops the cells (the <code>c</code> elements, along with their contents) of the
+ * columns not needed by the {@link AbstractSheetContentsHandler}, before they reach the cell values handler (ex.
+ * <code>XSSFSheetXMLHandler</code> or {@link RawSheetXMLHandler}). Hence the shared strings lookup and the formatting
+ * of the dropped cells are skipped altogether.
+ *
+ * <p>
+ * The cells without the reference (<code>r</code> attribute) are always passed on, as the column index of such cells
+ * is tracked by the delegate.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public class ColumnProjectionHandler extends DefaultHandler {
+
+    private final ContentHandler delegate;
+    private final AbstractSheetContentsHandler sheetHandler;
+
+    // Depth of the dropped cell elements
+    private int skipDepth;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param delegate the sheet XML handler, to pass the needed cells on
+     * @param sheetHandler the row handler, which decides the needed columns
+     */
+    public ColumnProjectionHandler(final ContentHandler delegate, final AbstractSheetContentsHandler sheetHandler) {
+        super();
+
+        // Sanity checks
+        if (Objects.isNull(delegate) || Objects.isNull(sheetHandler)) {
+            throw new IllegalArgumentException("ColumnProjectionHandler :: Delegate or Sheet handler is NULL");
+        }
+
+        // init
+        this.delegate = delegate;
+        this.sheetHandler = sheetHandler;
+
+        this.skipDepth = 0;
+    }
+
+
+    // Getters and Setters
+    // ------------------------------------------------------------------------
+
+    public AbstractSheetContentsHandler getSheetHandler() {
+        return sheetHandler;
+    }
+
+
+    // DefaultHandler Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    public void startDocument() throws SAXException {
+        skipDepth = 0;
+        delegate.startDocument();
+    }
+
+    @Override
+    public void endDocument() throws SAXException {
+        delegate.endDocument();
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes attrs)
+            throws SAXException {
+        if (skipDepth > 0) {
+            skipDepth++;
+            return;
+        }
+
+        if ("c".equals(localName)) {
+            final String cellRef = attrs.getValue("r");
+            if (!Strings.isBlank(cellRef) && !sheetHandler.isColumnNeeded(Spreadsheet.getCellColumnIndex(cellRef))) {
+                skipDepth = 1;
+                return;
+            }
+        }
+
+        delegate.startElement(uri, localName, qName, attrs);
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+        if (skipDepth > 0) {
+            skipDepth--;
+            return;
+        }
+
+        delegate.endElement(uri, localName, qName);
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) throws SAXException {
+        if (skipDepth > 0) {
+            return;
+        }
+
+        delegate.characters(ch, start, length);
+    }
+
+    @Override
+    public void ignorableWhitespace(final char[] ch, final int start, final int length) throws SAXException {
+        if (skipDepth > 0) {
+            return;
+        }
+
+        delegate.ignorableWhitespace(ch, start, length);
+    }
+
+
+}
@@ -0,0 +1,32 @@
+package io.github.millij.poi.ss.handler;
+
+import io.github.millij.poi.ss.reader.SpreadsheetReader;
+
+
+/**
+ * Callback of the periodic progress reports of a read, made by the {@link SpreadsheetReader} implementations after
+ * every configured no. of rows and at the end of every sheet.
+ *
+ * <p>
+ * The listener is either set on the reader, as the default of all its reads, or is the {@link RowListener} of a read
+ * itself (implementing this interface too), to get the progress of only that read. The reports of a read are never
+ * made concurrently, but the default listener of a reader gets the reports of its concurrent reads from different
+ * threads, hence should be thread-safe.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * Called with the progress of the read so far.
+     *
+     * @param progress the {@link ReadProgress}
+     *
+     * @return <code>true</code> to continue reading, or <code>false</code> to cancel the read.
+     */
+    boolean progress(ReadProgress progress);
+
+
+}
@@ -0,0 +1,264 @@
+package io.github.millij.poi.ss.handler;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.Styles;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+import io.github.millij.poi.ss.reader.OffHeapSharedStrings;
+import io.github.millij.poi.util.Spreadsheet;
+import io.github.millij.poi.util.Strings;
+
+
+/**
+ * SAX handler of the sheet XML, delivering the raw (unformatted) cell values to an
+ * {@link AbstractSheetContentsHandler}. This is the raw values counterpart of POI's <code>XSSFSheetXMLHandler</code>,
+ * which formats every numeric cell through the <code>DataFormatter</code>.
+ *
+ * <p>
+ * The cell values are typed by the cell <code>t</code> attribute :
+ * </p>
+ * <ul>
+ * <li>shared strings, inline strings and formula strings as {@link String}</li>
+ * <li>booleans as {@link Boolean}</li>
+ * <li>numbers as {@link Double} (the serial number for dates and times)</li>
+ * <li>errors are skipped</li>
+ * </ul>
+ *
+ * <p>
+ * When the {@link Styles} are passed, the numeric cells with a date format are delivered as {@link java.util.Date}.
+ * The date format of a style is resolved lazily, only once per style. Without the styles, the style resolution is
+ * skipped completely.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public class RawSheetXMLHandler extends DefaultHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RawSheetXMLHandler.class);
+
+    // Style date format states
+    private static final byte STYLE_UNRESOLVED = 0;
+    private static final byte STYLE_DATE = 1;
+    private static final byte STYLE_NOT_DATE = 2;
+
+
+    private final SharedStrings sharedStrings;
+    private final OffHeapSharedStrings offHeapStrings;
+    private final Styles styles;
+    private byte[] styleDateStates;
+
+    private final AbstractSheetContentsHandler sheetHandler;
+
+    // Parse state
+    private int rowNum;
+    private int colIdx;
+    private String cellType;
+    private int cellStyleIdx;
+
+    private boolean inValue;
+    private boolean inInlineStr;
+    private boolean inPhonetic;
+    private final StringBuilder value;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param sharedStrings the shared strings table of the workbook
+     * @param styles the styles of the workbook, to detect the date cells. Pass <code>null</code> to skip the styles
+     *        resolution, in which case the dates are delivered as their serial numbers.
+     * @param sheetHandler the row handler
+     */
+    public RawSheetXMLHandler(final SharedStrings sharedStrings, final Styles styles,
+            final AbstractSheetContentsHandler sheetHandler) {
+        super();
+
+        // Sanity checks
+        if (Objects.isNull(sharedStrings) || Objects.isNull(sheetHandler)) {
+            throw new IllegalArgumentException("RawSheetXMLHandler :: SharedStrings or Sheet handler is NULL");
+        }
+
+        // init
+        this.sharedStrings = sharedStrings;
+        this.offHeapStrings = sharedStrings instanceof OffHeapSharedStrings //
+                ? (OffHeapSharedStrings) sharedStrings
+                : null;
+        this.styles = styles;
+        this.styleDateStates = new byte[0];
+
+        this.sheetHandler = sheetHandler;
+
+        this.rowNum = -1;
+        this.colIdx = -1;
+        this.value = new StringBuilder(64);
+    }
+
+
+    // DefaultHandler Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes attrs) {
+        switch (localName) {
+            case "row":
+                final String rowRef = attrs.getValue("r");
+                rowNum = Strings.isBlank(rowRef) ? rowNum + 1 : Integer.parseInt(rowRef) - 1; // 0-based
+                colIdx = -1;
+                sheetHandler.startRow(rowNum);
+                break;
+
+            case "c":
+                final String cellRef = attrs.getValue("r");
+                colIdx = Strings.isBlank(cellRef) ? colIdx + 1 : Spreadsheet.getCellColumnIndex(cellRef);
+                cellType = attrs.getValue("t");
+
+                final String styleRef = attrs.getValue("s");
+                cellStyleIdx = Strings.isBlank(styleRef) ? -1 : Integer.parseInt(styleRef);
+
+                value.setLength(0);
+                break;
+
+            case "v":
+                inValue = true;
+                break;
+
+            case "is":
+                inInlineStr = true;
+                break;
+
+            case "t":
+                inValue = inInlineStr && !inPhonetic;
+                break;
+
+            case "rPh":
+                inPhonetic = true;
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) {
+        switch (localName) {
+            case "row":
+                sheetHandler.endRow(rowNum);
+                break;
+
+            case "c":
+                this.endCell();
+                break;
+
+            case "v":
+            case "t":
+                inValue = false;
+                break;
+
+            case "is":
+                inInlineStr = false;
+                break;
+
+            case "rPh":
+                inPhonetic = false;
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+        if (inValue) {
+            value.append(ch, start, length);
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private void endCell() {
+        if (value.length() == 0) {
+            return; // No value
+        }
+
+        final String text = value.toString();
+        try {
+            switch (Objects.isNull(cellType) ? "n" : cellType) {
+                case "s":
+                    final String sstValue = this.getSharedString(Integer.parseInt(text));
+                    sheetHandler.cell(colIdx, sstValue, CellType.STRING);
+                    break;
+
+                case "inlineStr":
+                case "str":
+                    sheetHandler.cell(colIdx, text, CellType.STRING);
+                    break;
+
+                case "b":
+                    sheetHandler.cell(colIdx, "1".equals(text) || "true".equals(text), CellType.BOOLEAN);
+                    break;
+
+                case "e":
+                    break; // Skip errors
+
+                case "n":
+                default:
+                    final double numValue = Double.parseDouble(text);
+                    final Object cellValue = this.isDateStyle(cellStyleIdx) && DateUtil.isValidExcelDate(numValue)
+                            ? DateUtil.getJavaDate(numValue)
+                            : numValue;
+                    sheetHandler.cell(colIdx, cellValue, CellType.NUMERIC);
+                    break;
+            }
+        } catch (NumberFormatException ex) {
+            LOGGER.warn("Row[#] {} - Cell[#] {} : Invalid value of type '{}' - {}", rowNum, colIdx, cellType, text);
+        }
+    }
+
+    private String getSharedString(final int idx) {
+        // Off the heap, decoded without the rich text
+        if (Objects.nonNull(offHeapStrings)) {
+            return offHeapStrings.getString(idx);
+        }
+
+        return sharedStrings.getItemAt(idx).getString();
+    }
+
+    private boolean isDateStyle(final int styleIdx) {
+        // Sanity checks
+        if (Objects.isNull(styles) || styleIdx < 0) {
+            return false;
+        }
+
+        // Cached state
+        if (styleIdx >= styleDateStates.length) {
+            styleDateStates = Arrays.copyOf(styleDateStates, Math.max(styleIdx + 1, styleDateStates.length * 2));
+        }
+        if (styleDateStates[styleIdx] != STYLE_UNRESOLVED) {
+            return styleDateStates[styleIdx] == STYLE_DATE;
+        }
+
+        // Resolve
+        final XSSFCellStyle style = styles.getStyleAt(styleIdx);
+        final boolean isDate = Objects.nonNull(style) //
+                && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+
+        styleDateStates[styleIdx] = isDate ? STYLE_DATE : STYLE_NOT_DATE;
+        return isDate;
+    }
+
+
+}
@@ -0,0 +1,55 @@
+package io.github.millij.poi.ss.handler;
+
+import io.github.millij.poi.SpreadsheetReadException;
+
+
+/**
+ * Signal that the read is cancelled, through the {@link CancellationToken} or by the {@link ProgressListener}. As with
+ * the other {@link StopReadingException}s, the readers abort the parsing and release the resources, but rather than
+ * returning normally, they throw a {@link SpreadsheetReadException} caused by this exception, so that the callers can
+ * tell a cancelled read from a complete one.
+ *
+ * @since 3.3.0
+ */
+public class ReadCancelledException extends StopReadingException {
+
+    private static final long serialVersionUID = 1L;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public ReadCancelledException() {
+        this("Reading cancelled");
+    }
+
+    public ReadCancelledException(String message) {
+        super(message);
+    }
+
+
+    // Static Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Get the {@link ReadCancelledException} the passed exception is (or is caused by), if any. The parsers may wrap
+     * the exceptions thrown from the content handlers (ex. in a <code>SAXException</code>).
+     *
+     * @param ex the exception
+     *
+     * @return the cancellation, or <code>null</code> if the exception is not a cancellation.
+     */
+    public static ReadCancelledException getCancellation(final Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof ReadCancelledException) {
+                return (ReadCancelledException) t;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return null;
+    }
+
+
+}
@@ -0,0 +1,114 @@
+package io.github.millij.poi.ss.handler;
+
+import io.github.millij.poi.ss.reader.SpreadsheetReader;
+
+
+/**
+ * Metrics callbacks of a read, made by the {@link SpreadsheetReader} implementations : the rows read and skipped, the
+ * cells, the bytes inflated, the conversion failures and the time spent in each of the {@link Phase}s.
+ *
+ * <p>
+ * The callbacks are made from the parser thread, and (with the pipelined or the parallel reads) from the worker
+ * threads as well, hence the implementations should be thread-safe. See {@link SimpleReadMetrics}.
+ * </p>
+ *
+ * <p>
+ * The readers check {@link #isEnabled()} once per sheet, and skip all the callbacks (and the clock reads) when the
+ * metrics are disabled. Hence the default {@link #NOOP} metrics cost nothing on the row path.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public interface ReadMetrics {
+
+    /**
+     * Phases of a read. The {@link #PARSE} time of a sheet includes the {@link #BIND} and the {@link #LISTENER} time
+     * of its rows (when bound on the parser thread).
+     */
+    enum Phase {
+
+        /** Opening the workbook : unzipping the package (.xlsx) or loading the file system (.xls) */
+        OPEN,
+
+        /** Loading the shared strings table and the styles */
+        SHARED_STRINGS,
+
+        /** Parsing the sheets */
+        PARSE,
+
+        /** Binding the rows to the beans (or Maps) */
+        BIND,
+
+        /** {@link RowListener} callbacks */
+        LISTENER;
+
+    }
+
+    /**
+     * Disabled metrics.
+     */
+    ReadMetrics NOOP = new ReadMetrics() {
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+    };
+
+
+    // Default Methods
+
+    /**
+     * @return <code>false</code> to skip all the callbacks.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called for every (non-header) row read and delivered for binding.
+     */
+    default void rowRead() {
+        //
+    }
+
+    /**
+     * Called for every row dropped : empty rows, rows before the header row or with no header, and the rows which
+     * could not be bound.
+     */
+    default void rowSkipped() {
+        //
+    }
+
+    /**
+     * @param count no. of the cells read in a row (after the column projection)
+     */
+    default void cellsRead(final int count) {
+        //
+    }
+
+    /**
+     * @param bytes no. of the (uncompressed) bytes read from the workbook parts
+     */
+    default void bytesInflated(final long bytes) {
+        //
+    }
+
+    /**
+     * @param propName name of the bean property, which the cell value could not be converted or set to
+     */
+    default void conversionFailed(final String propName) {
+        //
+    }
+
+    /**
+     * @param phase the {@link Phase}
+     * @param nanos time spent in the phase, in nanoseconds
+     */
+    default void phaseTime(final Phase phase, final long nanos) {
+        //
+    }
+
+
+}
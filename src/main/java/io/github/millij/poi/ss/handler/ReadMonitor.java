@@ -0,0 +1,208 @@
+package io.github.millij.poi.ss.handler;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Progress and the cancellation of a single read : counts the rows and the bytes parsed, checks the
+ * {@link CancellationToken} and reports the {@link ReadProgress} to the {@link ProgressListener} after every
+ * <code>interval</code> rows and at the end of every sheet.
+ *
+ * <p>
+ * Created by the readers for every read, only when either the token or the listener is set. The sheets read in
+ * parallel are monitored by their own sheet monitors (see {@link #forSheet()}), which share the counts of the read
+ * monitor. The listener callbacks are serialized, and hence the listener is never called concurrently by a read.
+ * </p>
+ *
+ * <p>
+ * A <code>false</code> from the listener cancels only this read (and its sheets), but not the token, which may be
+ * shared with the other reads.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public final class ReadMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadMonitor.class);
+
+    private final CancellationToken token;
+    private final ProgressListener listener;
+    private final int interval;
+
+    // The read monitor (this, unless a sheet monitor), sharing the counts
+    private final ReadMonitor aggregate;
+    private final AtomicLong rowsRead;
+    private final AtomicLong bytesRead;
+    private volatile long totalBytes;
+
+    // Cancelled by the listener
+    private final AtomicBoolean stopped;
+
+    private volatile String sheetName;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public ReadMonitor(final CancellationToken token, final ProgressListener listener, final int interval) {
+        super();
+
+        // Sanity checks
+        if (interval < 1) {
+            throw new IllegalArgumentException("ReadMonitor :: Invalid progress interval : " + interval);
+        }
+
+        // init
+        this.token = token;
+        this.listener = listener;
+        this.interval = interval;
+
+        this.aggregate = this;
+        this.rowsRead = new AtomicLong();
+        this.bytesRead = new AtomicLong();
+        this.totalBytes = -1;
+
+        this.stopped = new AtomicBoolean();
+    }
+
+    private ReadMonitor(final ReadMonitor aggregate) {
+        super();
+
+        // init
+        this.token = aggregate.token;
+        this.listener = aggregate.listener;
+        this.interval = aggregate.interval;
+
+        this.aggregate = aggregate;
+        this.rowsRead = aggregate.rowsRead;
+        this.bytesRead = aggregate.bytesRead;
+
+        this.stopped = aggregate.stopped;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Creates the monitor of a sheet read in parallel with the other sheets. The sheet monitor has its own current
+     * sheet, but counts the rows and the bytes of the read.
+     *
+     * @return a new sheet monitor, sharing the counts of the read
+     */
+    public ReadMonitor forSheet() {
+        return new ReadMonitor(aggregate);
+    }
+
+    /**
+     * @return <code>true</code> if the read is cancelled through the token, or by the listener.
+     */
+    public boolean isCancelled() {
+        return stopped.get() || (Objects.nonNull(token) && token.isCancelled());
+    }
+
+    /**
+     * Checks the cancellation.
+     *
+     * @throws ReadCancelledException if the read is cancelled
+     */
+    public void checkCancelled() {
+        if (this.isCancelled()) {
+            throw new ReadCancelledException();
+        }
+    }
+
+    /**
+     * @param totalBytes total no. of bytes of the workbook data to parse
+     */
+    public void setTotalBytes(final long totalBytes) {
+        aggregate.totalBytes = totalBytes;
+    }
+
+    /**
+     * Marks the start of a sheet.
+     *
+     * @param sheetName name of the sheet
+     * @param sheetBytes no. of bytes of the sheet data, used as the total when not known (<code>-1</code> if unknown)
+     */
+    public void startSheet(final String sheetName, final long sheetBytes) {
+        this.checkCancelled();
+
+        this.sheetName = sheetName;
+        if (aggregate.totalBytes < 0 && sheetBytes > 0) {
+            aggregate.totalBytes = sheetBytes;
+        }
+    }
+
+    /**
+     * Marks the end of a sheet, and reports the progress.
+     */
+    public void endSheet() {
+        this.report();
+    }
+
+    /**
+     * Called as the workbook data is parsed.
+     *
+     * @param count no. of the bytes parsed
+     */
+    public void bytesRead(final long count) {
+        bytesRead.addAndGet(count);
+        this.checkCancelled();
+    }
+
+    /**
+     * Called for every (non-header) row read, and reports the progress after every <code>interval</code> rows.
+     */
+    public void rowRead() {
+        final long rows = rowsRead.incrementAndGet();
+        if (Objects.nonNull(listener) && rows % interval == 0) {
+            this.report();
+        }
+    }
+
+    /**
+     * @return the current {@link ReadProgress}
+     */
+    public ReadProgress getProgress() {
+        return new ReadProgress(sheetName, rowsRead.get(), bytesRead.get(), aggregate.totalBytes);
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private void report() {
+        if (Objects.isNull(listener)) {
+            this.checkCancelled();
+            return;
+        }
+
+        // Serialized, across the sheet monitors
+        ReadProgress progress = null;
+        boolean proceed = true;
+        synchronized (aggregate) {
+            try {
+                progress = this.getProgress();
+                proceed = listener.progress(progress);
+            } catch (RuntimeException ex) {
+                LOGGER.error("Error while reporting the progress : {}", progress, ex);
+            }
+        }
+
+        if (!proceed) {
+            LOGGER.debug("Reading cancelled by the progress listener : {}", progress);
+            stopped.set(true);
+            throw new ReadCancelledException("Reading cancelled by the progress listener");
+        }
+
+        this.checkCancelled();
+    }
+
+
+}
@@ -0,0 +1,88 @@
+package io.github.millij.poi.ss.handler;
+
+
+/**
+ * Snapshot of the progress of a read, as reported to the {@link ProgressListener}.
+ *
+ * <p>
+ * The bytes are those of the workbook data parsed so far : for the .xlsx files, the (uncompressed) sheet parts, and
+ * for the .xls files, the file. The total is known when reading all the sheets or a single sheet of an .xlsx file,
+ * and when the size of the .xls stream is known upfront (ex. a file).
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public final class ReadProgress {
+
+    private final String sheetName;
+
+    private final long rowsRead;
+    private final long bytesRead;
+    private final long totalBytes;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public ReadProgress(final String sheetName, final long rowsRead, final long bytesRead, final long totalBytes) {
+        super();
+
+        // init
+        this.sheetName = sheetName;
+
+        this.rowsRead = rowsRead;
+        this.bytesRead = bytesRead;
+        this.totalBytes = totalBytes;
+    }
+
+
+    // Getters
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return name of the sheet being read
+     */
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    /**
+     * @return no. of (non-header) rows read so far, across the sheets
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    /**
+     * @return no. of bytes of the workbook data parsed so far
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * @return total no. of bytes of the workbook data to parse, <code>-1</code> if not known
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * @return fraction (0 to 1) of the bytes parsed so far, <code>-1</code> if the total is not known
+     */
+    public double getFraction() {
+        return totalBytes <= 0 ? -1 : Math.min(1D, (double) bytesRead / totalBytes);
+    }
+
+
+    // Object Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    public String toString() {
+        return "ReadProgress [sheetName=" + sheetName + ", rowsRead=" + rowsRead + ", bytesRead=" + bytesRead
+                + ", totalBytes=" + totalBytes + "]";
+    }
+
+
+}
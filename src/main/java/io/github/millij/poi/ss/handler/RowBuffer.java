@@ -0,0 +1,147 @@
+package io.github.millij.poi.ss.handler;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.poi.ss.usermodel.CellType;
+
+
+/**
+ * Reusable, column index addressed buffer of a single Row's cell values. Each of the cell slot holds the value and its
+ * {@link CellType} tag.
+ *
+ * <p>
+ * A single instance is reused for all the rows of a sheet (it is cleared at the start of each row), and hence the
+ * buffer contents are valid only until the row callback returns.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public final class RowBuffer {
+
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private Object[] values;
+    private CellType[] types;
+
+    private int lastColIdx;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public RowBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RowBuffer(final int capacity) {
+        super();
+
+        // init
+        this.values = new Object[Math.max(capacity, 1)];
+        this.types = new CellType[values.length];
+
+        this.lastColIdx = -1;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Clears the values of the previous row.
+     */
+    public void clear() {
+        if (lastColIdx >= 0) {
+            Arrays.fill(values, 0, lastColIdx + 1, null);
+            Arrays.fill(types, 0, lastColIdx + 1, null);
+        }
+
+        lastColIdx = -1;
+    }
+
+    /**
+     * Set the value of a cell.
+     *
+     * @param colIdx column index of the cell (indexed from 0)
+     * @param value cell value
+     * @param type {@link CellType} of the value
+     */
+    public void set(final int colIdx, final Object value, final CellType type) {
+        // Sanity checks
+        if (colIdx < 0 || Objects.isNull(value)) {
+            return;
+        }
+
+        // Grow
+        if (colIdx >= values.length) {
+            final int newCapacity = Math.max(colIdx + 1, values.length * 2);
+            values = Arrays.copyOf(values, newCapacity);
+            types = Arrays.copyOf(types, newCapacity);
+        }
+
+        values[colIdx] = value;
+        types[colIdx] = type;
+
+        if (colIdx > lastColIdx) {
+            lastColIdx = colIdx;
+        }
+    }
+
+    /**
+     * Copies the current row values, to be used beyond the row callback (ex. when the rows are processed
+     * asynchronously).
+     *
+     * @return a new {@link RowBuffer} with the values of the current row.
+     */
+    public RowBuffer copy() {
+        final RowBuffer copy = new RowBuffer(lastColIdx + 1);
+        if (lastColIdx >= 0) {
+            System.arraycopy(values, 0, copy.values, 0, lastColIdx + 1);
+            System.arraycopy(types, 0, copy.types, 0, lastColIdx + 1);
+        }
+
+        copy.lastColIdx = lastColIdx;
+        return copy;
+    }
+
+    /**
+     * @param colIdx column index of the cell (indexed from 0)
+     *
+     * @return the cell value, or <code>null</code> if the cell has no value.
+     */
+    public Object getValue(final int colIdx) {
+        return colIdx >= 0 && colIdx <= lastColIdx ? values[colIdx] : null;
+    }
+
+    /**
+     * @param colIdx column index of the cell (indexed from 0)
+     *
+     * @return the {@link CellType} of the cell value, or <code>null</code> if the cell has no value.
+     */
+    public CellType getType(final int colIdx) {
+        return colIdx >= 0 && colIdx <= lastColIdx ? types[colIdx] : null;
+    }
+
+    /**
+     * @return the highest column index with a value in the row, or <code>-1</code> if the row is empty.
+     */
+    public int getLastColumnIndex() {
+        return lastColIdx;
+    }
+
+    public boolean isEmpty() {
+        return lastColIdx < 0;
+    }
+
+
+    // Object Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    public String toString() {
+        return "RowBuffer " + Arrays.toString(Arrays.copyOf(values, lastColIdx + 1));
+    }
+
+
+}
@@ -1,13 +1,19 @@
 package io.github.millij.poi.ss.handler;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.github.millij.poi.util.Spreadsheet;
+import io.github.millij.poi.util.JfrEvents;
+import io.github.millij.poi.util.Strings;
+
 
 
 /**
@@ -22,7 +28,9 @@ public class RowContentsAsMapHandler extends AbstractSheetContentsHandler {
     private final RowListener<Map<String, Object>> listener;
 
     private final int headerRowNum;
-    private final Map<String, String> headerCellRefsMap;
+    private String[] headerNames;
+
+    private final Set<String> projection;
 
     private final int lastRowNum;
 
@@ -31,13 +39,28 @@ public class RowContentsAsMapHandler extends AbstractSheetContentsHandler {
     // ------------------------------------------------------------------------
 
     public RowContentsAsMapHandler(RowListener<Map<String, Object>> listener, int headerRowNum, int lastRowNum) {
+        this(listener, headerRowNum, lastRowNum, null);
+    }
+
+    /**
+     * @param listener Row listener
+     * @param headerRowNum header row number
+     * @param lastRowNum last row number
+     * @param columns names of the columns to read. <code>null</code> or empty collection reads all the columns.
+     * 
+     * @since 3.3.0
+     */
+    public RowContentsAsMapHandler(RowListener<Map<String, Object>> listener, int headerRowNum, int lastRowNum,
+            Collection<String> columns) {
         super();
 
         // init
         this.listener = listener;
 
         this.headerRowNum = headerRowNum;
-        this.headerCellRefsMap = new HashMap<>();
+        this.headerNames = new String[0];
+
+        this.projection = Objects.isNull(columns) || columns.isEmpty() ? null : this.normalize(columns);
 
         this.lastRowNum = lastRowNum;
     }
@@ -48,9 +71,16 @@ public class RowContentsAsMapHandler extends AbstractSheetContentsHandler {
 
     @Override
     void beforeRowStart(final int rowNum) {
+        // Rows after the Last ROW are not needed, skip the rest of the sheet
+        if (rowNum > lastRowNum) {
+            throw new SheetEndException(String.format("Last row #%d passed", lastRowNum));
+        }
+
         try {
             // Row Callback
             listener.beforeRow(rowNum);
+        } catch (StopReadingException ex) {
+            throw ex;
         } catch (Exception ex) {
             String errMsg = String.format("Error calling #beforeRow callback  row - %d", rowNum);
             LOGGER.error(errMsg, ex);
@@ -59,64 +89,155 @@ public class RowContentsAsMapHandler extends AbstractSheetContentsHandler {
 
 
     @Override
-    void afterRowEnd(final int rowNum, final Map<String, Object> rowDataMap) {
+    void afterRowEnd(final int rowNum, final RowBuffer rowData) {
         // Sanity Checks
-        if (Objects.isNull(rowDataMap) || rowDataMap.isEmpty()) {
+        if (Objects.isNull(rowData) || rowData.isEmpty()) {
             LOGGER.debug("INVALID Row data Passed - Row #{}", rowNum);
+            this.rowSkipped();
             return;
         }
 
         // Skip rows before Header ROW and after Last ROW
         if (rowNum < headerRowNum || rowNum > lastRowNum) {
+            this.rowSkipped();
             return;
         }
 
         // Process Header ROW
         if (rowNum == headerRowNum) {
-            final Map<String, String> headerCellRefs = this.asHeaderNameToCellRefMap(rowDataMap);
-            headerCellRefsMap.putAll(headerCellRefs);
+            final JfrEvents.Event event = JfrEvents.begin(JfrEvents.Type.HEADER_RESOLUTION);
+            headerNames = this.asHeaderNames(rowData);
+            if (Objects.nonNull(projection)) {
+                this.setColumnProjection(this.asColumnProjection(headerNames));
+            }
+
+            event.beanType(Map.class).columns(headerNames.length).commit();
             return;
         }
 
         // Check for Column Definitions before processing NON-Header ROWs
-
-        // Row As Bean
-        final Map<String, Object> rowBean = Spreadsheet.rowAsMap(headerCellRefsMap, rowDataMap);
-        if (Objects.isNull(rowBean)) {
-            LOGGER.debug("Unable to construct Row data Bean object - Row #{}", rowNum);
+        if (Objects.isNull(headerNames)) {
+            LOGGER.debug("Header Row not found, skipping the Row #{}", rowNum);
+            this.rowSkipped();
             return;
         }
 
+        // Row As Bean
+        final boolean metered = this.isMetered();
+        final long start = metered ? System.nanoTime() : 0L;
+        final Map<String, Object> rowBean = this.asRowMap(rowData);
+        final long bound = metered ? System.nanoTime() : 0L;
+
         // Row Callback
         try {
             listener.row(rowNum, rowBean);
+        } catch (StopReadingException ex) {
+            throw ex;
         } catch (Exception ex) {
             String errMsg = String.format("Error calling #row callback  row - %d, bean - %s", rowNum, rowBean);
             LOGGER.error(errMsg, ex);
+        } finally {
+            if (metered) {
+                this.getMetrics().phaseTime(ReadMetrics.Phase.BIND, bound - start);
+                this.getMetrics().phaseTime(ReadMetrics.Phase.LISTENER, System.nanoTime() - bound);
+            }
         }
+
+        // Row Limit
+        this.rowRead(rowNum);
+    }
+
+
+    @Override
+    void beforeSheetStart(final String sheetName) {
+        // New Sheet : its header row is yet to be read
+        this.resetSheet();
+        headerNames = null;
+
+        try {
+            // Sheet Callback
+            listener.beforeSheet(sheetName);
+        } catch (StopReadingException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            String errMsg = String.format("Error calling #beforeSheet callback  sheet - %s", sheetName);
+            LOGGER.error(errMsg, ex);
+        }
+    }
+
+    @Override
+    void afterSheetEnd(final String sheetName) {
+        try {
+            // Sheet Callback
+            listener.afterSheet(sheetName);
+        } catch (StopReadingException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            String errMsg = String.format("Error calling #afterSheet callback  sheet - %s", sheetName);
+            LOGGER.error(errMsg, ex);
+        }
+    }
+
+
+    @Override
+    public Class<?> getRowType() {
+        return Map.class;
     }
 
 
     // Private Methods
     // ------------------------------------------------------------------------
 
-    private Map<String, String> asHeaderNameToCellRefMap(final Map<String, Object> headerRowData) {
-        // Sanity checks
-        if (Objects.isNull(headerRowData) || headerRowData.isEmpty()) {
-            return new HashMap<>();
+    private String[] asHeaderNames(final RowBuffer headerRowData) {
+        // Column Index to Header name
+        final String[] names = new String[headerRowData.getLastColumnIndex() + 1];
+        for (int colIdx = 0; colIdx < names.length; colIdx++) {
+            final Object header = headerRowData.getValue(colIdx);
+            names[colIdx] = Objects.isNull(header) ? null : String.valueOf(header);
+        }
+
+        LOGGER.debug("Header Names : {}", (Object) names);
+        return names;
+    }
+
+    private Set<String> normalize(final Collection<String> columns) {
+        final Set<String> normalNames = new HashSet<>();
+        for (final String column : columns) {
+            if (Objects.nonNull(column)) {
+                normalNames.add(Strings.normalize(column));
+            }
         }
+        return normalNames;
+    }
+
+    private BitSet asColumnProjection(final String[] names) {
+        final BitSet colIdxs = new BitSet(names.length);
+        for (int colIdx = 0; colIdx < names.length; colIdx++) {
+            if (Objects.isNull(names[colIdx])) {
+                continue;
+            }
+
+            if (projection.contains(Strings.normalize(names[colIdx]))) {
+                colIdxs.set(colIdx);
+            } else {
+                names[colIdx] = null; // Skip in the Row Map
+            }
+        }
+        return colIdxs;
+    }
 
-        // Get Bean Column definitions
-        final Map<String, String> headerCellRefs = new HashMap<String, String>();
-        for (final String colRef : headerRowData.keySet()) {
-            final Object header = headerRowData.get(colRef);
+    private Map<String, Object> asRowMap(final RowBuffer rowData) {
+        final Map<String, Object> rowMap = new HashMap<>();
+        for (int colIdx = 0; colIdx < headerNames.length; colIdx++) {
+            final String headerName = headerNames[colIdx];
+            if (Objects.isNull(headerName)) {
+                continue;
+            }
 
-            final String headerName = Objects.isNull(header) ? "" : String.valueOf(header);
-            headerCellRefs.put(headerName, colRef);
+            rowMap.put(headerName, rowData.getValue(colIdx));
         }
 
-        LOGGER.debug("Header Name to Cell Refs : {}", headerCellRefs);
-        return headerCellRefs;
+        return rowMap;
     }
 
 
@@ -1,5 +1,6 @@
 package io.github.millij.poi.ss.handler;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -7,8 +8,7 @@ import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.github.millij.poi.ss.model.Column;
-import io.github.millij.poi.util.Spreadsheet;
+import io.github.millij.poi.util.JfrEvents;
 import io.github.millij.poi.util.Strings;
 
 
@@ -17,12 +17,12 @@ public class RowContentsHandler<T> extends AbstractSheetContentsHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(RowContentsHandler.class);
 
     private final Class<T> beanClz;
-    private final Map<String, Column> beanPropColumnMap;
 
     private final RowListener<T> listener;
+    private final RowPipeline<T> pipeline;
 
     private final int headerRowNum;
-    private final Map<String, String> headerCellRefsMap;
+    private BeanRowBinder<T> rowBinder;
 
     private final int lastRowNum;
 
@@ -31,16 +31,36 @@ public class RowContentsHandler<T> extends AbstractSheetContentsHandler {
     // ------------------------------------------------------------------------
 
     public RowContentsHandler(Class<T> beanClz, RowListener<T> listener, int headerRowNum, int lastRowNum) {
+        this(beanClz, listener, null, headerRowNum, lastRowNum);
+    }
+
+    /**
+     * Pipelined Row handler : the rows are only copied on the parser thread, and are bound and delivered to the
+     * listener by the {@link RowPipeline} workers.
+     * 
+     * @param beanClz Class type of the Bean
+     * @param pipeline the {@link RowPipeline} to process the rows
+     * @param headerRowNum header row number
+     * @param lastRowNum last row number
+     * 
+     * @since 3.3.0
+     */
+    public RowContentsHandler(Class<T> beanClz, RowPipeline<T> pipeline, int headerRowNum, int lastRowNum) {
+        this(beanClz, pipeline.getListener(), pipeline, headerRowNum, lastRowNum);
+    }
+
+    private RowContentsHandler(Class<T> beanClz, RowListener<T> listener, RowPipeline<T> pipeline, int headerRowNum,
+            int lastRowNum) {
         super();
 
         // init
         this.beanClz = beanClz;
-        this.beanPropColumnMap = Spreadsheet.getPropertyToColumnDefMap(beanClz);
 
         this.listener = listener;
+        this.pipeline = pipeline;
 
         this.headerRowNum = headerRowNum;
-        this.headerCellRefsMap = new HashMap<>();
+        this.rowBinder = null;
 
         this.lastRowNum = lastRowNum;
     }
@@ -51,9 +71,16 @@ public class RowContentsHandler<T> extends AbstractSheetContentsHandler {
 
     @Override
     void beforeRowStart(final int rowNum) {
+        // Rows after the Last ROW are not needed, skip the rest of the sheet
+        if (rowNum > lastRowNum) {
+            throw new SheetEndException(String.format("Last row #%d passed", lastRowNum));
+        }
+
         try {
             // Row Callback
             listener.beforeRow(rowNum);
+        } catch (StopReadingException ex) {
+            throw ex;
         } catch (Exception ex) {
             String errMsg = String.format("Error calling #beforeRow callback  row - %d", rowNum);
             LOGGER.error(errMsg, ex);
@@ -62,65 +89,142 @@ public class RowContentsHandler<T> extends AbstractSheetContentsHandler {
 
 
     @Override
-    void afterRowEnd(final int rowNum, final Map<String, Object> rowDataMap) {
+    void afterRowEnd(final int rowNum, final RowBuffer rowData) {
         // Sanity Checks
-        if (Objects.isNull(rowDataMap) || rowDataMap.isEmpty()) {
+        if (Objects.isNull(rowData) || rowData.isEmpty()) {
             LOGGER.debug("INVALID Row data Passed - Row #{}", rowNum);
+            this.rowSkipped();
             return;
         }
 
         // Skip rows before Header ROW and after Last ROW
         if (rowNum < headerRowNum || rowNum > lastRowNum) {
+            this.rowSkipped();
             return;
         }
 
         // Process Header ROW
         if (rowNum == headerRowNum) {
-            final Map<String, String> headerCellRefs = this.asHeaderNameToCellRefMap(rowDataMap);
-            headerCellRefsMap.putAll(headerCellRefs);
+            final JfrEvents.Event event = JfrEvents.begin(JfrEvents.Type.HEADER_RESOLUTION);
+            final Map<String, Integer> headerColIdxs = this.asHeaderNameToColumnIndexMap(rowData);
+            rowBinder = BeanRowBinder.of(beanClz, headerColIdxs, this.getMetrics());
+
+            // Read only the columns bound to the bean, from here on
+            final BitSet colIdxs = rowBinder.getColumnIndexes();
+            this.setColumnProjection(colIdxs);
+
+            event.beanType(beanClz).columns(colIdxs.cardinality()).commit();
             return;
         }
 
         // Check for Column Definitions before processing NON-Header ROWs
+        if (Objects.isNull(rowBinder)) {
+            LOGGER.debug("Header Row not found, skipping the Row #{}", rowNum);
+            this.rowSkipped();
+            return;
+        }
+
+        // Pipelined : bind and deliver asynchronously
+        if (Objects.nonNull(pipeline)) {
+            pipeline.submit(rowNum, rowData, rowBinder);
+            this.rowRead(rowNum);
+            return;
+        }
 
         // Row As Bean
-        final T rowBean = Spreadsheet.rowAsBean(beanClz, beanPropColumnMap, headerCellRefsMap, rowDataMap);
+        final T rowBean = rowBinder.bind(rowData);
         if (Objects.isNull(rowBean)) {
             LOGGER.debug("Unable to construct Row data Bean object - Row #{}", rowNum);
+            this.rowSkipped();
             return;
         }
 
         // Row Callback
+        final boolean metered = this.isMetered();
+        final long start = metered ? System.nanoTime() : 0L;
         try {
             listener.row(rowNum, rowBean);
+        } catch (StopReadingException ex) {
+            throw ex;
         } catch (Exception ex) {
             String errMsg = String.format("Error calling #row callback  row - %d, bean - %s", rowNum, rowBean);
             LOGGER.error(errMsg, ex);
+        } finally {
+            if (metered) {
+                this.getMetrics().phaseTime(ReadMetrics.Phase.LISTENER, System.nanoTime() - start);
+            }
         }
+
+        // Row Limit
+        this.rowRead(rowNum);
+    }
+
+
+    @Override
+    void beforeSheetStart(final String sheetName) {
+        // New Sheet : its header row is yet to be read
+        this.resetSheet();
+        rowBinder = null;
+
+        try {
+            // Sheet Callback
+            listener.beforeSheet(sheetName);
+        } catch (StopReadingException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            String errMsg = String.format("Error calling #beforeSheet callback  sheet - %s", sheetName);
+            LOGGER.error(errMsg, ex);
+        }
+    }
+
+    @Override
+    void afterSheetEnd(final String sheetName) {
+        // Rows in flight, are to be delivered before the end of the sheet
+        if (Objects.nonNull(pipeline)) {
+            pipeline.drain();
+        }
+
+        try {
+            // Sheet Callback
+            listener.afterSheet(sheetName);
+        } catch (StopReadingException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            String errMsg = String.format("Error calling #afterSheet callback  sheet - %s", sheetName);
+            LOGGER.error(errMsg, ex);
+        }
+    }
+
+
+    @Override
+    public Class<?> getRowType() {
+        return beanClz;
     }
 
 
     // Private Methods
     // ------------------------------------------------------------------------
 
-    private Map<String, String> asHeaderNameToCellRefMap(final Map<String, Object> headerRowData) {
+    private Map<String, Integer> asHeaderNameToColumnIndexMap(final RowBuffer headerRowData) {
         // Sanity checks
         if (Objects.isNull(headerRowData) || headerRowData.isEmpty()) {
             return new HashMap<>();
         }
 
         // Get Bean Column definitions
-        final Map<String, String> headerCellRefs = new HashMap<String, String>();
-        for (final String colRef : headerRowData.keySet()) {
-            final Object header = headerRowData.get(colRef);
-
-            final String headerName = Objects.isNull(header) ? "" : String.valueOf(header);
-            final String normalHeaderName = Strings.normalize(headerName);
-            headerCellRefs.put(normalHeaderName, colRef);
+        final Map<String, Integer> headerColIdxs = new HashMap<String, Integer>();
+        for (int colIdx = 0; colIdx <= headerRowData.getLastColumnIndex(); colIdx++) {
+            final Object header = headerRowData.getValue(colIdx);
+            if (Objects.isNull(header)) {
+                continue;
+            }
+
+            final String normalHeaderName = Strings.normalize(String.valueOf(header));
+            headerColIdxs.put(normalHeaderName, colIdx);
         }
 
-        LOGGER.debug("Header Name to Cell Refs : {}", headerCellRefs);
-        return headerCellRefs;
+        LOGGER.debug("Header Name to Column Index : {}", headerColIdxs);
+        return headerColIdxs;
     }
 
 
@@ -28,5 +28,29 @@ public interface RowListener<T> {
         //
     }
 
+    /**
+     * This method will be called at the start of every sheet read, before its rows, by the {@link SpreadsheetReader}
+     * implementation.
+     * 
+     * @param sheetName name of the Sheet
+     * 
+     * @since 3.3.0
+     */
+    default void beforeSheet(final String sheetName) {
+        //
+    }
+
+    /**
+     * This method will be called at the end of every sheet read, after all its rows are delivered (also when the rest
+     * of the sheet is skipped, or the reading is stopped), by the {@link SpreadsheetReader} implementation.
+     * 
+     * @param sheetName name of the Sheet
+     * 
+     * @since 3.3.0
+     */
+    default void afterSheet(final String sheetName) {
+        //
+    }
+
 
 }
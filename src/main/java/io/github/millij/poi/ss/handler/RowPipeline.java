@@ -0,0 +1,368 @@
+package io.github.millij.poi.ss.handler;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Pipeline of the rows read, which decouples the parsing of a sheet from the binding of the rows to beans and the
+ * {@link RowListener} callbacks.
+ *
+ * <p>
+ * The parser thread only copies the raw row values and queues them (see {@link #submit(int, RowBuffer, BeanRowBinder)}
+ * ), while a pool of workers binds the rows to beans and calls the listener. The no. of rows in flight (queued, being
+ * bound or waiting for their turn) is bounded by the capacity of the pipeline : the parser thread blocks once the
+ * capacity is reached, until the workers catch up.
+ * </p>
+ *
+ * <p>
+ * With the {@link Ordering#STRICT} ordering, the rows are delivered to the listener in the order of the rows, one at a
+ * time. With the {@link Ordering#UNORDERED} ordering, the rows are delivered as soon as they are bound, concurrently
+ * from the workers, hence the listener should be thread-safe.
+ * </p>
+ *
+ * <p>
+ * The pipeline must be closed once the parsing is done, which waits for the rows in flight to be delivered.
+ * </p>
+ *
+ * <p>
+ * The workers block (waiting for the rows) for the whole read, while the parser thread blocks on a full pipeline.
+ * Hence the workers should not share a bounded pool with the parser threads (ex. the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()}), where the parsers could take all the threads and wait
+ * forever for the workers. See {@link #defaultExecutor()}.
+ * </p>
+ *
+ * @param <T> the Row object type
+ *
+ * @since 3.3.0
+ */
+public final class RowPipeline<T> implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RowPipeline.class);
+
+    /**
+     * Order of the rows delivered to the listener.
+     */
+    public enum Ordering {
+
+        /** In the order of the rows, one row at a time */
+        STRICT,
+
+        /** As soon as the rows are bound, concurrently */
+        UNORDERED;
+
+    }
+
+
+    private final RowListener<T> listener;
+
+    private final Executor executor;
+    private final int workers;
+    private final Ordering ordering;
+
+    private final int capacity;
+    private final Semaphore permits;
+    private final LinkedBlockingQueue<Item<T>> queue;
+
+    // Rows bound, waiting for their turn (strict ordering)
+    private final Map<Long, Item<T>> boundRows;
+    private final Object deliveryLock;
+    private long nextSeq;
+
+    private long seq;
+    private CountDownLatch workersDone;
+
+    private volatile boolean stopped;
+    private final AtomicReference<RuntimeException> failure;
+    private boolean failureThrown;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * @param listener Row listener
+     * @param executor the {@link Executor} to run the workers on
+     * @param workers no. of workers binding the rows
+     * @param capacity max no. of rows in flight, before the parser thread blocks
+     * @param ordering order of the rows delivered to the listener
+     */
+    public RowPipeline(final RowListener<T> listener, final Executor executor, final int workers, final int capacity,
+            final Ordering ordering) {
+        super();
+
+        // Sanity checks
+        if (Objects.isNull(listener) || Objects.isNull(executor) || Objects.isNull(ordering)) {
+            throw new IllegalArgumentException("RowPipeline :: Listener, Executor or Ordering is NULL");
+        }
+        if (workers <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("RowPipeline :: Workers and Capacity should be positive");
+        }
+
+        // init
+        this.listener = listener;
+
+        this.executor = executor;
+        this.workers = workers;
+        this.ordering = ordering;
+
+        this.capacity = capacity;
+        this.permits = new Semaphore(capacity);
+        this.queue = new LinkedBlockingQueue<>();
+
+        this.boundRows = new ConcurrentHashMap<>();
+        this.deliveryLock = new Object();
+        this.nextSeq = 0;
+
+        this.seq = 0;
+        this.workersDone = null;
+
+        this.stopped = false;
+        this.failure = new AtomicReference<>();
+        this.failureThrown = false;
+    }
+
+
+    // Static Utilities
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return the default {@link Executor} of the workers : a cached pool of daemon threads, dedicated to the workers.
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+
+    // Getters and Setters
+    // ------------------------------------------------------------------------
+
+    public RowListener<T> getListener() {
+        return listener;
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Queues a row, to be bound and delivered by the workers. Blocks while the pipeline is full.
+     *
+     * @param rowNum the Row Number in the sheet. (indexed from 0)
+     * @param rowData the row values, which are copied
+     * @param binder the binder of the row to bean
+     */
+    void submit(final int rowNum, final RowBuffer rowData, final BeanRowBinder<T> binder) {
+        // Start the workers, on the first row
+        if (Objects.isNull(workersDone)) {
+            this.startWorkers();
+        }
+
+        this.checkFailure();
+        try {
+            permits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new StopReadingException("Interrupted while waiting for the Row pipeline");
+        }
+
+        queue.add(new Item<>(seq++, rowNum, rowData.copy(), binder));
+    }
+
+    /**
+     * Waits for the rows in flight to be delivered (ex. at the end of a sheet), keeping the workers running.
+     *
+     * @throws RuntimeException the failure of the workers, if any (including a {@link StopReadingException} from the
+     *         listener)
+     */
+    void drain() {
+        if (Objects.isNull(workersDone) || stopped) {
+            this.checkFailure();
+            return;
+        }
+
+        try {
+            permits.acquire(capacity);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new StopReadingException("Interrupted while draining the Row pipeline");
+        }
+
+        permits.release(capacity);
+        this.checkFailure();
+    }
+
+    /**
+     * Waits for the rows in flight to be delivered, and stops the workers.
+     *
+     * @throws RuntimeException the failure of the workers, if any (including a {@link StopReadingException} from the
+     *         listener)
+     */
+    @Override
+    public void close() {
+        if (Objects.isNull(workersDone)) {
+            return;
+        }
+
+        // Signal the end of rows
+        queue.add(Item.end());
+        try {
+            workersDone.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+        }
+
+        LOGGER.debug("Closed the Row pipeline : {} rows", seq);
+        this.checkFailure();
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private void startWorkers() {
+        workersDone = new CountDownLatch(workers);
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::work);
+        }
+    }
+
+    private void checkFailure() {
+        final RuntimeException ex = failure.get();
+        if (Objects.nonNull(ex) && !failureThrown) {
+            failureThrown = true;
+            throw ex;
+        }
+    }
+
+    private void work() {
+        try {
+            while (true) {
+                final Item<T> item = queue.take();
+                if (item.isEnd()) {
+                    queue.add(item); // for the other workers
+                    return;
+                }
+
+                this.process(item);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.fail(new StopReadingException("Row pipeline worker interrupted"));
+        } finally {
+            workersDone.countDown();
+        }
+    }
+
+    private void process(final Item<T> item) {
+        // Bind, unless stopped
+        if (!stopped) {
+            try {
+                item.rowBean = item.binder.bind(item.rowData);
+            } catch (RuntimeException ex) {
+                this.fail(ex);
+            }
+        }
+        item.rowData = null;
+
+        if (ordering == Ordering.UNORDERED) {
+            this.deliver(item);
+            return;
+        }
+
+        // Deliver the bound rows, in order
+        boundRows.put(item.seq, item);
+        synchronized (deliveryLock) {
+            Item<T> next;
+            while (Objects.nonNull(next = boundRows.remove(nextSeq))) {
+                nextSeq++;
+                this.deliver(next);
+            }
+        }
+    }
+
+    private void deliver(final Item<T> item) {
+        try {
+            if (stopped || Objects.isNull(item.rowBean)) {
+                return;
+            }
+
+            listener.row(item.rowNum, item.rowBean);
+        } catch (StopReadingException ex) {
+            this.fail(ex);
+        } catch (Exception ex) {
+            final String errMsg =
+                    String.format("Error calling #row callback  row - %d, bean - %s", item.rowNum, item.rowBean);
+            LOGGER.error(errMsg, ex);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void fail(final RuntimeException ex) {
+        failure.compareAndSet(null, ex);
+        stopped = true;
+    }
+
+
+    // Default Executor
+    // ------------------------------------------------------------------------
+
+    private static final class DefaultExecutor {
+
+        private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+        private static final Executor INSTANCE = Executors.newCachedThreadPool(runnable -> {
+            final String name = "poi-object-mapper-pipeline-worker-" + THREAD_COUNTER.incrementAndGet();
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    }
+
+
+    // Item
+    // ------------------------------------------------------------------------
+
+    private static final class Item<T> {
+
+        private final long seq;
+        private final int rowNum;
+        private RowBuffer rowData;
+        private final BeanRowBinder<T> binder;
+
+        private T rowBean;
+
+        private Item(final long seq, final int rowNum, final RowBuffer rowData, final BeanRowBinder<T> binder) {
+            this.seq = seq;
+            this.rowNum = rowNum;
+            this.rowData = rowData;
+            this.binder = binder;
+        }
+
+        private static <T> Item<T> end() {
+            return new Item<>(-1, -1, null, null);
+        }
+
+        private boolean isEnd() {
+            return seq < 0;
+        }
+
+    }
+
+
+}
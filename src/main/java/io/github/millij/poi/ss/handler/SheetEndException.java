@@ -0,0 +1,54 @@
+package io.github.millij.poi.ss.handler;
+
+
+/**
+ * Signal that the rest of the current sheet is not needed, ex. once the last row to read (or the row limit) is
+ * reached. The readers abort the parsing of the current sheet and move on to the next sheet, if any.
+ *
+ * <p>
+ * When a single sheet is read, this is no different from a {@link StopReadingException}.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public class SheetEndException extends StopReadingException {
+
+    private static final long serialVersionUID = 1L;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public SheetEndException() {
+        this("End of the sheet reached");
+    }
+
+    public SheetEndException(String message) {
+        super(message);
+    }
+
+
+    // Static Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Checks whether the passed exception is (or is caused by) a {@link SheetEndException}.
+     *
+     * @param ex the exception
+     *
+     * @return <code>true</code> if it is a sheet end signal.
+     */
+    public static boolean isSheetEndSignal(final Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof SheetEndException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+
+}
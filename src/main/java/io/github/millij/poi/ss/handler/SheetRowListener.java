@@ -0,0 +1,32 @@
+package io.github.millij.poi.ss.handler;
+
+import io.github.millij.poi.ss.reader.SpreadsheetReader;
+
+
+/**
+ * Row level Callback for the {@link SpreadsheetReader} implementations reading multiple sheets at once, where the rows
+ * are tagged with the sheet they belong to.
+ *
+ * <p>
+ * When the sheets are read in parallel, the callbacks of different sheets are made concurrently from different
+ * threads, hence the implementations should be thread-safe. The rows of a sheet are still delivered in order, from a
+ * single thread.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+@FunctionalInterface
+public interface SheetRowListener<T> {
+
+    /**
+     * This method will be called after every row by the {@link SpreadsheetReader} implementation.
+     *
+     * @param sheetNo the Sheet No. in the workbook (indexed from 1)
+     * @param sheetName name of the Sheet
+     * @param rowNum the Row Number in the sheet. (indexed from 0)
+     * @param rowObj the java bean constructed using the Row data.
+     */
+    void row(int sheetNo, String sheetName, int rowNum, T rowObj);
+
+
+}
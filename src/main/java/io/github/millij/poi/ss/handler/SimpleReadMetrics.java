@@ -0,0 +1,153 @@
+package io.github.millij.poi.ss.handler;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Thread-safe {@link ReadMetrics}, accumulating the counters and the phase timings across the reads it is set on.
+ *
+ * @since 3.3.0
+ */
+public final class SimpleReadMetrics implements ReadMetrics {
+
+    private final LongAdder rowsRead = new LongAdder();
+    private final LongAdder rowsSkipped = new LongAdder();
+    private final LongAdder cells = new LongAdder();
+    private final LongAdder bytesInflated = new LongAdder();
+    private final LongAdder conversionFailures = new LongAdder();
+
+    private final Map<Phase, LongAdder> phaseNanos;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public SimpleReadMetrics() {
+        super();
+
+        // init
+        this.phaseNanos = new EnumMap<>(Phase.class);
+        for (final Phase phase : Phase.values()) {
+            phaseNanos.put(phase, new LongAdder());
+        }
+    }
+
+
+    // ReadMetrics Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public void rowRead() {
+        rowsRead.increment();
+    }
+
+    @Override
+    public void rowSkipped() {
+        rowsSkipped.increment();
+    }
+
+    @Override
+    public void cellsRead(final int count) {
+        cells.add(count);
+    }
+
+    @Override
+    public void bytesInflated(final long bytes) {
+        bytesInflated.add(bytes);
+    }
+
+    @Override
+    public void conversionFailed(final String propName) {
+        conversionFailures.increment();
+    }
+
+    @Override
+    public void phaseTime(final Phase phase, final long nanos) {
+        phaseNanos.get(phase).add(nanos);
+    }
+
+
+    // Getters
+    // ------------------------------------------------------------------------
+
+    public long getRowsRead() {
+        return rowsRead.sum();
+    }
+
+    public long getRowsSkipped() {
+        return rowsSkipped.sum();
+    }
+
+    public long getCells() {
+        return cells.sum();
+    }
+
+    public long getBytesInflated() {
+        return bytesInflated.sum();
+    }
+
+    public long getConversionFailures() {
+        return conversionFailures.sum();
+    }
+
+    /**
+     * @param phase the {@link Phase}
+     *
+     * @return cumulative time spent in the phase, in nanoseconds
+     */
+    public long getPhaseNanos(final Phase phase) {
+        // Sanity checks
+        if (Objects.isNull(phase)) {
+            throw new IllegalArgumentException("SimpleReadMetrics :: Phase is NULL");
+        }
+
+        return phaseNanos.get(phase).sum();
+    }
+
+    /**
+     * @return the rows read per second, over the time spent opening the workbooks, loading the shared strings and
+     *         parsing the sheets.
+     */
+    public double getRowsPerSecond() {
+        final long nanos = this.getPhaseNanos(Phase.OPEN) //
+                + this.getPhaseNanos(Phase.SHARED_STRINGS) //
+                + this.getPhaseNanos(Phase.PARSE);
+        return nanos <= 0 ? 0 : this.getRowsRead() * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    /**
+     * Resets all the counters and the timings.
+     */
+    public void reset() {
+        rowsRead.reset();
+        rowsSkipped.reset();
+        cells.reset();
+        bytesInflated.reset();
+        conversionFailures.reset();
+        phaseNanos.values().forEach(LongAdder::reset);
+    }
+
+
+    // Object Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    public String toString() {
+        final StringBuilder phases = new StringBuilder();
+        for (final Phase phase : Phase.values()) {
+            phases.append(phases.length() == 0 ? "" : ", ") //
+                    .append(phase).append('=').append(TimeUnit.NANOSECONDS.toMillis(this.getPhaseNanos(phase)))
+                    .append("ms");
+        }
+
+        return "SimpleReadMetrics [rowsRead=" + this.getRowsRead() + ", rowsSkipped=" + this.getRowsSkipped()
+                + ", cells=" + this.getCells() + ", bytesInflated=" + this.getBytesInflated()
+                + ", conversionFailures=" + this.getConversionFailures() + ", phases={" + phases + "}]";
+    }
+
+
+}
@@ -0,0 +1,56 @@
+package io.github.millij.poi.ss.handler;
+
+
+/**
+ * Signal to stop reading the spreadsheet any further. Unlike the other exceptions thrown from the {@link RowListener}
+ * callbacks (which are logged and ignored), this exception aborts the underlying parsing, and the reader returns
+ * normally after releasing the resources.
+ *
+ * <p>
+ * This is a control flow signal and hence it does not capture the stack trace.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public class StopReadingException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public StopReadingException() {
+        this("Reading stopped");
+    }
+
+    public StopReadingException(String message) {
+        super(message, null, false, false);
+    }
+
+
+    // Static Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Checks whether the passed exception is (or is caused by) a {@link StopReadingException}. The parsers may wrap
+     * the exceptions thrown from the content handlers (ex. in a <code>SAXException</code>).
+     *
+     * @param ex the exception
+     *
+     * @return <code>true</code> if it is a stop reading signal.
+     */
+    public static boolean isStopSignal(final Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof StopReadingException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+
+}
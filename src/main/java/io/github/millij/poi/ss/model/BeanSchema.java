@@ -0,0 +1,94 @@
+package io.github.millij.poi.ss.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import io.github.millij.poi.ss.model.annotations.Sheet;
+import io.github.millij.poi.ss.model.annotations.SheetColumn;
+
+
+/**
+ * Immutable Spreadsheet schema of a Bean type, i.e., the {@link Sheet} name and the {@link SheetColumn} definitions of
+ * its properties.
+ *
+ * <p>
+ * The {@link Column} definitions held by the schema are shared between all the readers and writers of the bean type,
+ * and hence should never be modified.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public final class BeanSchema {
+
+    private final Class<?> beanType;
+    private final String sheetName;
+
+    private final Map<String, Column> propColumnMap;
+    private final List<String> columnNames;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public BeanSchema(final Class<?> beanType, final String sheetName, final Map<String, Column> propColumnMap) {
+        super();
+
+        // init
+        this.beanType = beanType;
+        this.sheetName = sheetName;
+
+        this.propColumnMap = Collections.unmodifiableMap(propColumnMap);
+        this.columnNames = Collections.unmodifiableList(sortedColumnNames(propColumnMap));
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static List<String> sortedColumnNames(final Map<String, Column> propColumnMap) {
+        final List<Column> columns = new ArrayList<>(propColumnMap.values());
+        Collections.sort(columns);
+
+        return columns.stream().map(Column::getName).collect(Collectors.toList());
+    }
+
+
+    // Getters and Setters
+    // ------------------------------------------------------------------------
+
+    public Class<?> getBeanType() {
+        return beanType;
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    /**
+     * @return the unmodifiable Bean property name to {@link Column} definition mapping.
+     */
+    public Map<String, Column> getPropertyColumnMap() {
+        return propColumnMap;
+    }
+
+    /**
+     * @return the unmodifiable list of Column names, sorted by the {@link Column} order.
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+
+    // Object Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    public String toString() {
+        return "BeanSchema [beanType=" + beanType + ", sheetName=" + sheetName + ", columns=" + propColumnMap + "]";
+    }
+
+
+}
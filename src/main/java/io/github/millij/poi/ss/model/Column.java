@@ -35,6 +35,24 @@ public class Column implements Comparable<Column> {
         this.name = name;
     }
 
+    /**
+     * Copy constructor.
+     * 
+     * @param other the {@link Column} to copy the definition from
+     * 
+     * @since 3.3.0
+     */
+    public Column(Column other) {
+        super();
+
+        // init
+        this.name = other.name;
+        this.nullable = other.nullable;
+        this.format = other.format;
+        this.order = other.order;
+        this.datetimeType = other.datetimeType;
+    }
+
 
     // Methods
     // ------------------------------------------------------------------------
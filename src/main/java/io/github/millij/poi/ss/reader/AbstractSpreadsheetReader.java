@@ -1,14 +1,26 @@
 package io.github.millij.poi.ss.reader;
 
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.CancellationToken;
+import io.github.millij.poi.ss.handler.ProgressListener;
+import io.github.millij.poi.ss.handler.ReadMetrics;
+import io.github.millij.poi.ss.handler.ReadCancelledException;
+import io.github.millij.poi.ss.handler.ReadMonitor;
 import io.github.millij.poi.ss.handler.RowBeanCollector;
+import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.handler.SimpleReadMetrics;
+import io.github.millij.poi.ss.model.annotations.Sheet;
+import io.github.millij.poi.util.Spreadsheet;
+import io.github.millij.poi.util.Strings;
 
 
 /**
@@ -18,10 +30,25 @@ abstract class AbstractSpreadsheetReader implements SpreadsheetReader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSpreadsheetReader.class);
 
+    /**
+     * Default no. of rows between the progress reports.
+     */
+    public static final int DEFAULT_PROGRESS_INTERVAL = 1000;
+
 
     protected final int headerRowIdx;
     protected final int lastRowIdx;
 
+    protected Collection<String> columnProjection;
+
+    protected int limit = Integer.MAX_VALUE;
+
+    protected ReadMetrics metrics = ReadMetrics.NOOP;
+
+    protected volatile CancellationToken cancellationToken;
+    protected volatile ProgressListener progressListener;
+    protected int progressInterval = DEFAULT_PROGRESS_INTERVAL;
+
 
     // Constructor
     // ------------------------------------------------------------------------
@@ -38,6 +65,145 @@ abstract class AbstractSpreadsheetReader implements SpreadsheetReader {
     }
 
 
+    // Getters and Setters
+    // ------------------------------------------------------------------------
+
+    public Collection<String> getColumnProjection() {
+        return columnProjection;
+    }
+
+    /**
+     * Restricts the columns read to Map, to the passed column (header) names. The cells of the other columns are
+     * dropped as early as possible, i.e., before the cell values are resolved and formatted, and the row Maps contain
+     * only the projected columns. The header names are matched ignoring the case and the surrounding whitespace.
+     * 
+     * <p>
+     * Reading to beans is always projected to the columns mapped by the bean properties.
+     * </p>
+     * 
+     * @param columnNames names of the columns to read. <code>null</code> or empty to read all the columns.
+     * 
+     * @since 3.3.0
+     */
+    public void setColumnProjection(final Collection<String> columnNames) {
+        this.columnProjection = columnNames;
+    }
+
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Limits the no. of rows (excluding the header row) read from each sheet. The parsing of a sheet is aborted as
+     * soon as the limit is reached, which makes the reading of the first few rows (ex. for a preview) of a large sheet
+     * take no longer than a small one.
+     * 
+     * @param limit max no. of rows to read from each sheet
+     * 
+     * @since 3.3.0
+     */
+    public void setLimit(final int limit) {
+        // Sanity checks
+        if (limit <= 0) {
+            throw new IllegalArgumentException("SpreadsheetReader :: Row limit should be positive");
+        }
+
+        this.limit = limit;
+    }
+
+
+    public ReadMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the {@link ReadMetrics} to report the rows read and skipped, the cells, the bytes inflated, the conversion
+     * failures and the time spent in each of the read phases to. Defaults to the {@link ReadMetrics#NOOP}, which skips
+     * all the callbacks.
+     * 
+     * @param metrics the {@link ReadMetrics} (see {@link SimpleReadMetrics})
+     * 
+     * @since 3.3.0
+     */
+    public void setMetrics(final ReadMetrics metrics) {
+        // Sanity checks
+        if (Objects.isNull(metrics)) {
+            throw new IllegalArgumentException("SpreadsheetReader :: Metrics is NULL, use ReadMetrics.NOOP instead");
+        }
+
+        this.metrics = metrics;
+    }
+
+
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    /**
+     * Sets the {@link CancellationToken} to cancel the reads with. The token is checked before every row and while
+     * reading the workbook data, and once cancelled, the parsing is aborted and the read throws a
+     * {@link SpreadsheetReadException} caused by a {@link ReadCancelledException}.
+     * 
+     * <p>
+     * The token is taken at the start of every read, and cancels all the reads it is taken by, including the reads
+     * started after the cancellation, until it is replaced. To cancel a single read, use the {@link ProgressListener}
+     * of the read instead (see {@link #setProgressListener(ProgressListener)}).
+     * </p>
+     * 
+     * @param cancellationToken the {@link CancellationToken}, or <code>null</code> to not check the cancellation
+     * 
+     * @since 3.3.0
+     */
+    public void setCancellationToken(final CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+
+    public ProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * Sets the default {@link ProgressListener} to report the progress of the reads to, after every
+     * {@link #getProgressInterval()} rows and at the end of every sheet. Returning <code>false</code> from the listener
+     * cancels the read being reported, as with the {@link #setCancellationToken}, but not the other reads.
+     * 
+     * <p>
+     * A {@link RowListener} passed to a read may as well implement the {@link ProgressListener}, to get the progress of
+     * (and to cancel) only that read, in place of the default listener. As the reads of a shared reader report to the
+     * default listener concurrently, it should be thread-safe.
+     * </p>
+     * 
+     * @param progressListener the {@link ProgressListener}, or <code>null</code> to not report the progress
+     * 
+     * @since 3.3.0
+     */
+    public void setProgressListener(final ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+
+    public int getProgressInterval() {
+        return progressInterval;
+    }
+
+    /**
+     * @param progressInterval no. of rows between the progress reports. Defaults to
+     *        {@link #DEFAULT_PROGRESS_INTERVAL}.
+     * 
+     * @since 3.3.0
+     */
+    public void setProgressInterval(final int progressInterval) {
+        // Sanity checks
+        if (progressInterval <= 0) {
+            throw new IllegalArgumentException("SpreadsheetReader :: Progress interval should be positive");
+        }
+
+        this.progressInterval = progressInterval;
+    }
+
+
     // Abstract Methods
     // ------------------------------------------------------------------------
 
@@ -72,6 +238,20 @@ abstract class AbstractSpreadsheetReader implements SpreadsheetReader {
         return beans;
     }
 
+    @Override
+    public <T> List<T> read(final Class<T> beanClz, final InputStream is, final String sheetName)
+            throws SpreadsheetReadException {
+        // Row Collector
+        final RowBeanCollector<T> beanCollector = new RowBeanCollector<>();
+
+        // Read with callback to fill list
+        this.read(beanClz, is, sheetName, beanCollector);
+
+        // Result
+        final List<T> beans = beanCollector.getBeans();
+        return beans;
+    }
+
 
     //
     // Read to Map
@@ -102,5 +282,105 @@ abstract class AbstractSpreadsheetReader implements SpreadsheetReader {
         return beans;
     }
 
+    @Override
+    public List<Map<String, Object>> read(final InputStream is, final String sheetName)
+            throws SpreadsheetReadException {
+        // Row Collector
+        final RowBeanCollector<Map<String, Object>> beanCollector = new RowBeanCollector<>();
+
+        // Read with callback to fill list
+        this.read(is, sheetName, beanCollector);
+
+        // Result
+        final List<Map<String, Object>> beans = beanCollector.getBeans();
+        return beans;
+    }
+
+
+    // Protected Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Resolves the name of the sheet to read : the passed name, or else the {@link Sheet} value of the bean type.
+     * 
+     * @param beanClz the Bean type
+     * @param sheetName the requested Sheet name
+     * 
+     * @return the Sheet name to read
+     */
+    protected String resolveSheetName(final Class<?> beanClz, final String sheetName) {
+        final String name = Strings.isBlank(sheetName) ? Spreadsheet.getSchema(beanClz).getSheetName() : sheetName;
+        if (Strings.isBlank(name)) {
+            final String errMsg = String.format("Sheet name is neither passed nor defined by the type %s", beanClz);
+            throw new IllegalArgumentException(errMsg);
+        }
+
+        return name;
+    }
+
+    /**
+     * Creates the {@link ReadMonitor} of a read, with the cancellation token as of the start of the read. The progress
+     * is reported to the listener of the read when it is a {@link ProgressListener}, or else to the default progress
+     * listener of the reader.
+     * 
+     * @param listener the listener of the read
+     * 
+     * @return a new {@link ReadMonitor} of the read, or <code>null</code> when there is neither the cancellation token
+     *         nor a progress listener.
+     * 
+     * @since 3.3.0
+     */
+    protected ReadMonitor newReadMonitor(final Object listener) {
+        final CancellationToken token = this.cancellationToken;
+        final ProgressListener progress =
+                listener instanceof ProgressListener ? (ProgressListener) listener : this.progressListener;
+        if (Objects.isNull(token) && Objects.isNull(progress)) {
+            return null;
+        }
+
+        return new ReadMonitor(token, progress, progressInterval);
+    }
+
+    /**
+     * Rethrows the cancellation of the read as a {@link SpreadsheetReadException} (caused by the
+     * {@link ReadCancelledException}), if the passed failure is (or is caused by) a cancellation.
+     * 
+     * @param ex the failure of the read
+     * 
+     * @throws SpreadsheetReadException if the read is cancelled
+     * 
+     * @since 3.3.0
+     */
+    protected void rethrowIfCancelled(final Throwable ex) throws SpreadsheetReadException {
+        final ReadCancelledException cancellation = ReadCancelledException.getCancellation(ex);
+        if (Objects.nonNull(cancellation)) {
+            LOGGER.debug("Reading cancelled : {}", cancellation.getMessage());
+            throw new SpreadsheetReadException(cancellation.getMessage(), cancellation);
+        }
+    }
+
+    /**
+     * @return the start time (in nanoseconds) of a read phase, when the metrics are enabled.
+     * 
+     * @since 3.3.0
+     */
+    protected long phaseStart() {
+        return metrics.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Reports the time spent in the phase since the passed start, when the metrics are enabled.
+     * 
+     * @param phase the {@link ReadMetrics.Phase}
+     * @param start the start time of the phase (see {@link #phaseStart()})
+     * 
+     * @since 3.3.0
+     */
+    protected void phaseTime(final ReadMetrics.Phase phase, final long start) {
+        if (metrics.isEnabled()) {
+            metrics.phaseTime(phase, System.nanoTime() - start);
+        }
+    }
+
 
 }
@@ -0,0 +1,200 @@
+package io.github.millij.poi.ss.reader;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.ProgressListener;
+import io.github.millij.poi.ss.handler.ReadCancelledException;
+import io.github.millij.poi.ss.handler.ReadProgress;
+import io.github.millij.poi.ss.handler.RowListener;
+
+
+/**
+ * Runs the reads asynchronously, for the <code>readAsync</code> methods of the {@link SpreadsheetReader}.
+ *
+ * <p>
+ * The default {@link Executor} runs every read on a new virtual thread when available (Java 21+, looked up
+ * reflectively as the library targets Java 8), or else on a cached pool of daemon threads.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+final class AsyncReads {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncReads.class);
+
+    private AsyncReads() {
+        super();
+        // Utility Class
+    }
+
+
+    // Static Utilities
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return the default {@link Executor} of the asynchronous reads.
+     */
+    static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    /**
+     * Runs the read on the executor. The returned future completes with the result once the read is done, or
+     * exceptionally with the {@link SpreadsheetReadException} of the failure. Cancelling the future stops the read, at
+     * the next row.
+     *
+     * @param executor the {@link Executor} to run the read on
+     * @param listener the Row listener of the read
+     * @param readTask the read, with the (cancellable) listener to read with
+     * @param result the result of the read, once done
+     *
+     * @return the {@link CompletableFuture} of the result
+     */
+    static <T, R> CompletableFuture<R> submit(final Executor executor, final RowListener<T> listener,
+            final RowIterator.ReadTask<T> readTask, final Supplier<R> result) {
+        // Sanity checks
+        if (Objects.isNull(executor) || Objects.isNull(listener)) {
+            throw new IllegalArgumentException("SpreadsheetReader :: Executor or Row listener is NULL");
+        }
+
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        final RowListener<T> cancellableListener = listener instanceof ProgressListener
+                ? new CancellableProgressListener<>(listener, future)
+                : new CancellableListener<>(listener, future);
+        try {
+            executor.execute(() -> {
+                // Cancelled before the start
+                if (future.isDone()) {
+                    return;
+                }
+
+                try {
+                    readTask.read(cancellableListener);
+                    future.complete(result.get());
+                } catch (SpreadsheetReadException ex) {
+                    future.completeExceptionally(ex);
+                } catch (RuntimeException ex) {
+                    final String errMsg = String.format("Error reading the spreadsheet : %s", ex.getMessage());
+                    future.completeExceptionally(new SpreadsheetReadException(errMsg, ex));
+                } catch (Error ex) {
+                    future.completeExceptionally(ex);
+                    throw ex;
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            final String errMsg = String.format("Unable to submit the read : %s", ex.getMessage());
+            future.completeExceptionally(new SpreadsheetReadException(errMsg, ex));
+        }
+
+        return future;
+    }
+
+
+    // Default Executor
+    // ------------------------------------------------------------------------
+
+    private static final class DefaultExecutor {
+
+        private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+        private static final Executor INSTANCE = newExecutor();
+
+        private static Executor newExecutor() {
+            try {
+                final Object executor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                LOGGER.debug("Reading asynchronously on the virtual threads");
+                return (Executor) executor;
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                LOGGER.debug("Virtual threads are not available, reading asynchronously on the daemon threads");
+            }
+
+            return Executors.newCachedThreadPool(runnable -> {
+                final String name = "poi-object-mapper-async-reader-" + THREAD_COUNTER.incrementAndGet();
+                final Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+    }
+
+
+    // Cancellable Listener
+    // ------------------------------------------------------------------------
+
+    /**
+     * Stops the read once the future is cancelled (or otherwise completed), at the next row.
+     */
+    private static class CancellableListener<T> implements RowListener<T> {
+
+        private final RowListener<T> delegate;
+        private final CompletableFuture<?> future;
+
+        private CancellableListener(final RowListener<T> delegate, final CompletableFuture<?> future) {
+            super();
+
+            // init
+            this.delegate = delegate;
+            this.future = future;
+        }
+
+        @Override
+        public void beforeRow(final int rowNum) {
+            this.checkCancelled();
+            delegate.beforeRow(rowNum);
+        }
+
+        @Override
+        public void row(final int rowNum, final T rowObj) {
+            this.checkCancelled();
+            delegate.row(rowNum, rowObj);
+        }
+
+        @Override
+        public void beforeSheet(final String sheetName) {
+            this.checkCancelled();
+            delegate.beforeSheet(sheetName);
+        }
+
+        @Override
+        public void afterSheet(final String sheetName) {
+            delegate.afterSheet(sheetName);
+        }
+
+        private void checkCancelled() {
+            if (future.isDone()) {
+                throw new ReadCancelledException("Asynchronous read cancelled");
+            }
+        }
+
+    }
+
+    /**
+     * Cancellable listener of a {@link RowListener} which is also the {@link ProgressListener} of the read.
+     */
+    private static final class CancellableProgressListener<T> extends CancellableListener<T>
+            implements ProgressListener {
+
+        private CancellableProgressListener(final RowListener<T> delegate, final CompletableFuture<?> future) {
+            super(delegate, future);
+        }
+
+        @Override
+        public boolean progress(final ReadProgress progress) {
+            return ((ProgressListener) super.delegate).progress(progress);
+        }
+
+    }
+
+
+}
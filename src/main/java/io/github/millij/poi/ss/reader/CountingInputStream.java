@@ -0,0 +1,111 @@
+package io.github.millij.poi.ss.reader;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+
+/**
+ * {@link InputStream} counting the bytes read through it. Used by the readers to report the bytes read to the
+ * {@link io.github.millij.poi.ss.handler.ReadMetrics}, only when the metrics are enabled, and to track the progress
+ * (and check the cancellation) of the reads as the data is read.
+ *
+ * @since 3.3.0
+ */
+final class CountingInputStream extends FilterInputStream {
+
+    private final LongConsumer onRead;
+
+    private long count;
+    private long mark;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    CountingInputStream(final InputStream in) {
+        this(in, null);
+    }
+
+    /**
+     * @param in the {@link InputStream} to count the bytes of
+     * @param onRead called with the no. of bytes of every read (may throw to abort the read), or <code>null</code>
+     */
+    CountingInputStream(final InputStream in, final LongConsumer onRead) {
+        super(in);
+
+        // init
+        this.onRead = onRead;
+        this.count = 0;
+        this.mark = -1;
+    }
+
+
+    // Getters and Setters
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return no. of bytes read so far
+     */
+    long getCount() {
+        return count;
+    }
+
+
+    // InputStream Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    public int read() throws IOException {
+        final int b = in.read();
+        if (b >= 0) {
+            this.counted(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int n = in.read(b, off, len);
+        if (n > 0) {
+            this.counted(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        final long skipped = in.skip(n);
+        this.counted(skipped);
+        return skipped;
+    }
+
+    @Override
+    public synchronized void mark(final int readLimit) {
+        in.mark(readLimit);
+        mark = count;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        in.reset();
+        if (mark >= 0) {
+            count = mark;
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private void counted(final long n) {
+        count += n;
+        if (Objects.nonNull(onRead)) {
+            onRead.accept(n);
+        }
+    }
+
+
+}
@@ -0,0 +1,417 @@
+package io.github.millij.poi.ss.reader;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Objects;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+
+/**
+ * {@link SharedStrings} implementation which keeps the shared strings table off the heap, in memory-mapped temporary
+ * files. Unlike the {@link ReadOnlySharedStringsTable}, which holds all the unique strings of the workbook in the heap,
+ * the strings are encoded (UTF-8) to a data file with an offset index, and are decoded on demand. Hence the heap usage
+ * does not grow with the size of the table.
+ *
+ * <p>
+ * The temporary files are deleted as soon as they are mapped, where the platform allows deleting a mapped file. The
+ * instance should be closed once the workbook is read, which releases the mapped memory (best-effort, else once the
+ * buffers are garbage collected) and deletes the temporary files left. Instances are thread-safe for reading, but must
+ * not be read once closed.
+ * </p>
+ *
+ * <p>
+ * As with the {@link ReadOnlySharedStringsTable}, only the text of the strings is kept, the phonetic runs are skipped.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public final class OffHeapSharedStrings implements SharedStrings, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OffHeapSharedStrings.class);
+
+    // Size of each mapped segment of the data file
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+    // Index entry size (long offset)
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES;
+
+
+    private final int count;
+    private final int uniqueCount;
+
+    private final MappedByteBuffer index;
+    private final MappedByteBuffer[] segments;
+
+    private final File dataFile;
+    private final File indexFile;
+
+    private volatile boolean closed;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    /**
+     * Loads the shared strings table of the workbook, off the heap.
+     *
+     * @param opcPkg the workbook package
+     */
+    public OffHeapSharedStrings(final OPCPackage opcPkg) throws IOException, SAXException {
+        this(getSharedStringsPart(opcPkg));
+    }
+
+    /**
+     * Loads the shared strings table part, off the heap.
+     *
+     * @param sstPart the shared strings table part. When <code>null</code> (no shared strings in the workbook), the
+     *        table is empty.
+     */
+    public OffHeapSharedStrings(final PackagePart sstPart) throws IOException, SAXException {
+        super();
+
+        // Temp Files
+        this.dataFile = Files.createTempFile("poi-sst-data", ".tmp").toFile();
+        this.indexFile = Files.createTempFile("poi-sst-index", ".tmp").toFile();
+        try {
+            // Write
+            final TableWriter tableWriter = new TableWriter(dataFile, indexFile);
+            try {
+                if (Objects.nonNull(sstPart)) {
+                    try (final InputStream sstInpStream = sstPart.getInputStream()) {
+                        tableWriter.parse(sstInpStream);
+                    }
+                }
+            } finally {
+                tableWriter.close();
+            }
+
+            // Map
+            this.count = tableWriter.count < 0 ? tableWriter.uniqueCount : tableWriter.count;
+            this.uniqueCount = tableWriter.uniqueCount;
+
+            this.index = map(indexFile, 0, indexFile.length());
+            this.segments = mapSegments(dataFile);
+        } catch (IOException | SAXException | RuntimeException ex) {
+            deleteQuietly(dataFile);
+            deleteQuietly(indexFile);
+            throw ex;
+        }
+
+        // Not needed once mapped, where the platform allows it
+        deleteQuietly(dataFile);
+        deleteQuietly(indexFile);
+
+        LOGGER.debug("Loaded the Shared Strings off the heap : {} unique strings", uniqueCount);
+    }
+
+
+    // SharedStrings Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public RichTextString getItemAt(final int idx) {
+        return new XSSFRichTextString(this.getString(idx));
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getUniqueCount() {
+        return uniqueCount;
+    }
+
+
+    // Closeable Impl
+    // ------------------------------------------------------------------------
+
+    /**
+     * Releases the mapped memory (best-effort) and deletes the temporary files. The table can not be read once
+     * closed.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        unmap(index);
+        for (final MappedByteBuffer segment : segments) {
+            unmap(segment);
+        }
+
+        delete(dataFile);
+        delete(indexFile);
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Decodes the string at the passed index. Unlike the {@link #getItemAt(int)}, no {@link RichTextString} is
+     * created.
+     *
+     * @param idx index of the string in the table
+     *
+     * @return the string (text) at the index
+     */
+    public String getString(final int idx) {
+        // Sanity checks
+        if (closed) {
+            throw new IllegalStateException("Shared Strings table is closed");
+        }
+        if (idx < 0 || idx >= uniqueCount) {
+            throw new IndexOutOfBoundsException("Shared String index out of range : " + idx);
+        }
+
+        final long start = index.getLong(idx * INDEX_ENTRY_SIZE);
+        final long end = index.getLong((idx + 1) * INDEX_ENTRY_SIZE);
+
+        // Copy, across the segments if needed
+        final byte[] bytes = new byte[(int) (end - start)];
+        int copied = 0;
+        while (copied < bytes.length) {
+            final long pos = start + copied;
+            final ByteBuffer segment = segments[(int) (pos >>> SEGMENT_SHIFT)].duplicate();
+            segment.position((int) (pos & (SEGMENT_SIZE - 1)));
+
+            final int len = Math.min(bytes.length - copied, segment.remaining());
+            segment.get(bytes, copied, len);
+            copied += len;
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static PackagePart getSharedStringsPart(final OPCPackage opcPkg) {
+        final List<PackagePart> parts = opcPkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+        return parts.isEmpty() ? null : parts.get(0);
+    }
+
+    private static MappedByteBuffer[] mapSegments(final File dataFile) throws IOException {
+        final long size = dataFile.length();
+        final MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT)];
+        for (int i = 0; i < segments.length; i++) {
+            final long pos = i * SEGMENT_SIZE;
+            segments[i] = map(dataFile, pos, Math.min(SEGMENT_SIZE, size - pos));
+        }
+
+        return segments;
+    }
+
+    private static MappedByteBuffer map(final File file, final long pos, final long size) throws IOException {
+        try (final RandomAccessFile raf = new RandomAccessFile(file, "r");
+                final FileChannel channel = raf.getChannel()) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, pos, size);
+        }
+    }
+
+    private static void deleteQuietly(final File file) {
+        if (!file.delete() && file.exists()) {
+            LOGGER.debug("Unable to delete the (mapped) file, deleting once closed : {}", file);
+        }
+    }
+
+    private static void delete(final File file) {
+        if (!file.delete() && file.exists()) {
+            LOGGER.debug("Unable to delete the (mapped) file, deleting on exit : {}", file);
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * Releases the mapped memory of the buffer right away, where the platform allows it. Otherwise it is released once
+     * the buffer is garbage collected.
+     */
+    private static void unmap(final ByteBuffer buffer) {
+        try {
+            try {
+                // Java 9+
+                final Class<?> unsafeClz = Class.forName("sun.misc.Unsafe");
+                final Method invokeCleaner = unsafeClz.getMethod("invokeCleaner", ByteBuffer.class);
+                final Field unsafeField = unsafeClz.getDeclaredField("theUnsafe");
+                unsafeField.setAccessible(true);
+                invokeCleaner.invoke(unsafeField.get(null), buffer);
+            } catch (NoSuchMethodException ex) {
+                // Java 8
+                final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                final Object cleaner = cleanerMethod.invoke(buffer);
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            LOGGER.debug("Unable to unmap the Shared Strings buffer, released once collected : {}", ex.getMessage());
+        }
+    }
+
+
+    // Table Writer
+    // ------------------------------------------------------------------------
+
+    /**
+     * Parses the shared strings table XML, and writes the strings (UTF-8) and their offsets to the temp files.
+     */
+    private static final class TableWriter extends DefaultHandler {
+
+        private final OutputStream dataOut;
+        private final DataOutputStream indexOut;
+
+        private int count;
+        private int uniqueCount;
+        private long offset;
+
+        // Parse state
+        private boolean inString;
+        private boolean inText;
+        private boolean inPhonetic;
+        private final StringBuilder text;
+
+
+        private TableWriter(final File dataFile, final File indexFile) throws IOException {
+            super();
+
+            // init
+            this.dataOut = new BufferedOutputStream(new FileOutputStream(dataFile), 1 << 16);
+            this.indexOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile), 1 << 16));
+
+            this.count = -1;
+            this.uniqueCount = 0;
+            this.offset = 0;
+
+            this.text = new StringBuilder(64);
+        }
+
+        private void parse(final InputStream sstInpStream) throws IOException, SAXException {
+            try {
+                final XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(this);
+                xmlReader.parse(new InputSource(sstInpStream));
+            } catch (ParserConfigurationException ex) {
+                throw new SAXException("Unable to configure the Shared Strings parser", ex);
+            }
+        }
+
+        private void close() throws IOException {
+            try {
+                // Offset of the end of the last string
+                indexOut.writeLong(offset);
+            } finally {
+                dataOut.close();
+                indexOut.close();
+            }
+        }
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName,
+                final Attributes attrs) {
+            switch (localName) {
+                case "sst":
+                    final String countAttr = attrs.getValue("count");
+                    count = Objects.isNull(countAttr) ? -1 : Integer.parseInt(countAttr);
+                    break;
+
+                case "si":
+                    inString = true;
+                    text.setLength(0);
+                    break;
+
+                case "t":
+                    inText = inString && !inPhonetic;
+                    break;
+
+                case "rPh":
+                    inPhonetic = true;
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+            switch (localName) {
+                case "si":
+                    inString = false;
+                    this.writeString();
+                    break;
+
+                case "t":
+                    inText = false;
+                    break;
+
+                case "rPh":
+                    inPhonetic = false;
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            if (inText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        private void writeString() throws SAXException {
+            final byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+            try {
+                indexOut.writeLong(offset);
+                dataOut.write(bytes);
+            } catch (IOException ex) {
+                throw new SAXException("Error writing the Shared Strings to the temp file", ex);
+            }
+
+            offset += bytes.length;
+            uniqueCount++;
+        }
+
+    }
+
+
+}
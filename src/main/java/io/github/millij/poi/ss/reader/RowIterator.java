@@ -0,0 +1,292 @@
+package io.github.millij.poi.ss.reader;
+
+import java.io.Closeable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.handler.StopReadingException;
+
+
+/**
+ * A lazy, pull based {@link Iterator} over the rows of a spreadsheet.
+ *
+ * <p>
+ * The (push based) parsing of the spreadsheet runs on a dedicated (named) daemon thread, which hands over the rows in
+ * chunks of 128 rows through a bounded queue of 4 chunks, i.e., the parsing stays suspended once it is that many rows
+ * ahead of the consumer. Closing the iterator (or the {@link #stream()}) aborts the parsing and releases the
+ * underlying workbook resources, hence the iterator should always be closed when it is not fully consumed (ex. after
+ * <code>limit</code> or <code>findFirst</code>).
+ * </p>
+ *
+ * <p>
+ * Any read failure is thrown from {@link #hasNext()} as an {@link IllegalStateException}, caused by the
+ * {@link SpreadsheetReadException}. Instances are not thread-safe and are meant to be consumed by a single thread.
+ * </p>
+ *
+ * @param <T> the Row object type
+ *
+ * @since 3.3.0
+ */
+public final class RowIterator<T> implements Iterator<T>, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RowIterator.class);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private static final Object END = new Object();
+
+    // Hand over, in chunks
+    private static final int CHUNK_SIZE = 128;
+    private static final int QUEUE_CHUNKS = 4;
+
+
+    private final Producer<T> producer;
+    private Thread producerThread;
+
+    private List<T> chunk;
+    private int chunkIdx;
+    private boolean done;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    RowIterator(final ReadTask<T> readTask) {
+        super();
+
+        // init
+        this.producer = new Producer<>(readTask, this);
+
+        this.chunk = null;
+        this.chunkIdx = 0;
+        this.done = false;
+    }
+
+
+    // Iterator
+    // ------------------------------------------------------------------------
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean hasNext() {
+        if (Objects.nonNull(chunk) && chunkIdx < chunk.size()) {
+            return true;
+        }
+        if (done) {
+            return false;
+        }
+
+        // Start parsing, on the first request
+        if (Objects.isNull(producerThread)) {
+            producerThread = new Thread(producer, "poi-object-mapper-reader-" + THREAD_COUNTER.incrementAndGet());
+            producerThread.setDaemon(true);
+            producerThread.start();
+        }
+
+        // Next Chunk
+        final Object item;
+        try {
+            item = producer.queue.take();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.close();
+            throw new IllegalStateException("Interrupted while waiting for the next row", ex);
+        }
+
+        if (item == END) {
+            done = true;
+            return false;
+        }
+
+        if (item instanceof Failure) {
+            done = true;
+            final Throwable cause = ((Failure) item).cause;
+            throw new IllegalStateException("Error reading the spreadsheet : " + cause.getMessage(), cause);
+        }
+
+        chunk = (List<T>) item;
+        chunkIdx = 0;
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return chunk.get(chunkIdx++);
+    }
+
+
+    // Closeable
+    // ------------------------------------------------------------------------
+
+    /**
+     * Stops the parsing (if still in progress) and waits for the workbook resources to be released.
+     */
+    @Override
+    public void close() {
+        done = true;
+        chunk = null;
+
+        // Signal Producer : once closed, its (pending) hand over is the last
+        producer.closed = true;
+        producer.queue.clear();
+        if (Objects.isNull(producerThread)) {
+            return;
+        }
+
+        // Wait for the producer to stop
+        try {
+            producerThread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        LOGGER.debug("Closed the Row Iterator : {}", producerThread.getName());
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return a sequential {@link Stream} over the remaining rows, which closes this iterator when closed.
+     */
+    public Stream<T> stream() {
+        final int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        final Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, characteristics);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+
+    // Read Task
+    // ------------------------------------------------------------------------
+
+    /**
+     * The (blocking) read to run, pushing the rows to the passed listener.
+     */
+    @FunctionalInterface
+    interface ReadTask<T> {
+
+        void read(RowListener<T> listener) throws SpreadsheetReadException;
+
+    }
+
+
+    // Producer
+    // ------------------------------------------------------------------------
+
+    private static final class Failure {
+
+        private final Throwable cause;
+
+        private Failure(final Throwable cause) {
+            this.cause = cause;
+        }
+
+    }
+
+    /**
+     * Runs the read task, and hands over the rows to the consumer in chunks. Only a weak reference of the iterator is
+     * held, so that the parsing is aborted even when an iterator is abandoned without closing.
+     */
+    private static final class Producer<T> implements Runnable, RowListener<T> {
+
+        private final ReadTask<T> readTask;
+        private final WeakReference<RowIterator<T>> owner;
+
+        private final BlockingQueue<Object> queue;
+        private volatile boolean closed;
+
+        private List<T> rows;
+
+
+        private Producer(final ReadTask<T> readTask, final RowIterator<T> owner) {
+            super();
+
+            // init
+            this.readTask = readTask;
+            this.owner = new WeakReference<>(owner);
+
+            this.queue = new ArrayBlockingQueue<>(QUEUE_CHUNKS);
+            this.closed = false;
+
+            this.rows = new ArrayList<>(CHUNK_SIZE);
+        }
+
+        @Override
+        public void run() {
+            Object last = END;
+            try {
+                readTask.read(this);
+            } catch (StopReadingException ex) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+            } catch (Throwable ex) {
+                last = new Failure(ex);
+            }
+
+            // Hand over the rows left and the end of rows
+            try {
+                if (!rows.isEmpty()) {
+                    this.handOver(rows);
+                }
+                this.handOver(last);
+            } catch (StopReadingException ex) {
+                LOGGER.debug("Row Iterator closed before the end of rows");
+            }
+        }
+
+        @Override
+        public void row(final int rowNum, final T rowObj) {
+            if (closed) {
+                throw new StopReadingException("Row Iterator closed");
+            }
+
+            rows.add(rowObj);
+            if (rows.size() >= CHUNK_SIZE) {
+                this.handOver(rows);
+                rows = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+
+        private void handOver(final Object item) {
+            try {
+                while (!closed) {
+                    if (queue.offer(item, 1, TimeUnit.SECONDS)) {
+                        return;
+                    }
+
+                    if (Objects.isNull(owner.get())) {
+                        break; // Iterator abandoned
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            throw new StopReadingException("Row Iterator closed");
+        }
+
+    }
+
+
+}
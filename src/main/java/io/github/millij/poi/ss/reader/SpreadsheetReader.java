@@ -4,10 +4,17 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.BatchRowListener;
+import io.github.millij.poi.ss.handler.BatchingRowListener;
+import io.github.millij.poi.ss.handler.RowBeanCollector;
 import io.github.millij.poi.ss.handler.RowListener;
 
 
@@ -196,6 +203,304 @@ public interface SpreadsheetReader {
     }
 
 
+    //
+    // Read by Sheet Name
+    // ------------------------------------------------------------------------
+
+    /**
+     * Reads the sheet with the given name of the spreadsheet file to beans of the given type. Only the requested sheet
+     * is opened and parsed.
+     * 
+     * <p>
+     * The {@link RowListener} implementation callback gets triggered after reading each Row. Best Suited for reading
+     * Large files in restricted memory environments.
+     * </p>
+     * 
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetName name of the Sheet to be read (case insensitive). <code>null</code> or blank name defaults to
+     *        the {@link io.github.millij.poi.ss.model.annotations.Sheet} value of the bean type.
+     * @param listener Custom {@link RowListener} implementation for row data callbacks.
+     * 
+     * @throws SpreadsheetReadException when the sheet is not found, the file data is not readable or row data to bean
+     *         mapping failed. By default, as reading by the sheet name is not supported.
+     * 
+     * @since 3.3.0
+     */
+    default <T> void read(Class<T> beanClz, InputStream is, String sheetName, RowListener<T> listener)
+            throws SpreadsheetReadException {
+        final String errMsg = String.format("%s :: Reading by the sheet name is not supported", this.getClass());
+        throw new SpreadsheetReadException(errMsg);
+    }
+
+    /**
+     * Reads the sheet with the given name of the spreadsheet file to beans of the given type. Only the requested sheet
+     * is opened and parsed.
+     * 
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetName name of the Sheet to be read (case insensitive). <code>null</code> or blank name defaults to
+     *        the {@link io.github.millij.poi.ss.model.annotations.Sheet} value of the bean type.
+     * 
+     * @return a {@link List} of objects of the parameterized type
+     * 
+     * @throws SpreadsheetReadException when the sheet is not found, the file data is not readable or row data to bean
+     *         mapping failed.
+     * 
+     * @see #read(Class, InputStream, String, RowListener)
+     * @since 3.3.0
+     */
+    default <T> List<T> read(Class<T> beanClz, InputStream is, String sheetName) throws SpreadsheetReadException {
+        final RowBeanCollector<T> beanCollector = new RowBeanCollector<>();
+        this.read(beanClz, is, sheetName, beanCollector);
+        return beanCollector.getBeans();
+    }
+
+    /**
+     * Reads the sheet with the given name of the spreadsheet file to beans of the given type.
+     * 
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param file {@link File} object of the spreadsheet file
+     * @param sheetName name of the Sheet to be read (case insensitive). <code>null</code> or blank name defaults to
+     *        the {@link io.github.millij.poi.ss.model.annotations.Sheet} value of the bean type.
+     * 
+     * @return a {@link List} of objects of the parameterized type
+     * 
+     * @throws SpreadsheetReadException when the sheet is not found, the file data is not readable or row data to bean
+     *         mapping failed.
+     * 
+     * @see #read(Class, InputStream, String)
+     * @since 3.3.0
+     */
+    default <T> List<T> read(Class<T> beanClz, File file, String sheetName) throws SpreadsheetReadException {
+        // Closeable
+        try (final InputStream fis = new FileInputStream(file)) {
+            return this.read(beanClz, fis, sheetName);
+        } catch (IOException ex) {
+            String errMsg = String.format("Failed to read file as Stream : %s", ex.getMessage());
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+
+    //
+    // Read as Stream / Iterator
+    // ------------------------------------------------------------------------
+
+    /**
+     * Lazily reads the requested sheet of the spreadsheet file to beans of the given type. The rows are parsed on a
+     * background thread with a bounded read-ahead, i.e., the parsing stays suspended once it is a few hundred rows (see
+     * {@link RowIterator}) ahead of the {@link Iterator#next()} calls.
+     * 
+     * <p>
+     * The returned iterator must be closed when not consumed completely, which aborts the parsing and releases the
+     * underlying resources.
+     * </p>
+     * 
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 1)
+     * 
+     * @return a {@link RowIterator} over the beans of the rows
+     * 
+     * @since 3.3.0
+     */
+    default <T> RowIterator<T> iterator(final Class<T> beanClz, final InputStream is, final int sheetNo) {
+        return new RowIterator<>(listener -> this.read(beanClz, is, sheetNo, listener));
+    }
+
+    /**
+     * Lazily reads the requested sheet of the spreadsheet file to a {@link Stream} of beans of the given type. The
+     * rows are parsed with a bounded read-ahead of the consumed rows (see {@link RowIterator}), and short-circuiting
+     * operations (like <code>limit</code> or <code>findFirst</code>) stop the parsing once the stream is closed.
+     * 
+     * <p>
+     * The returned stream must be closed (preferably with a <code>try-with-resources</code> block) to release the
+     * underlying resources.
+     * </p>
+     * 
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 1)
+     * 
+     * @return a sequential {@link Stream} of the beans of the rows
+     * 
+     * @since 3.3.0
+     */
+    default <T> Stream<T> stream(final Class<T> beanClz, final InputStream is, final int sheetNo) {
+        return this.iterator(beanClz, is, sheetNo).stream();
+    }
+
+
+    /**
+     * Lazily reads the requested sheet of the spreadsheet file as Generic {@link Map} beans.
+     * 
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 1)
+     * 
+     * @return a {@link RowIterator} over the {@link Map} objects of the rows
+     * 
+     * @see #iterator(Class, InputStream, int)
+     * @since 3.3.0
+     */
+    default RowIterator<Map<String, Object>> iterator(final InputStream is, final int sheetNo) {
+        return new RowIterator<>(listener -> this.read(is, sheetNo, listener));
+    }
+
+    /**
+     * Lazily reads the requested sheet of the spreadsheet file to a {@link Stream} of Generic {@link Map} beans.
+     * 
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetNo index of the Sheet to be read (index starts from 1)
+     * 
+     * @return a sequential {@link Stream} of the {@link Map} objects of the rows
+     * 
+     * @see #stream(Class, InputStream, int)
+     * @since 3.3.0
+     */
+    default Stream<Map<String, Object>> stream(final InputStream is, final int sheetNo) {
+        return this.iterator(is, sheetNo).stream();
+    }
+
+
+    //
+    // Read in Batches
+    // ------------------------------------------------------------------------
+
+    /**
+     * Reads all the sheets of the spreadsheet file to beans of the given type, delivering them in batches of the given
+     * size. The last (partial) batch of each sheet is delivered at the end of the sheet, and all the rows read are
+     * delivered before this method returns (also when the reading is stopped).
+     * 
+     * <p>
+     * The batch list is recycled, and is only valid during the {@link BatchRowListener#batch(String, List)} call.
+     * </p>
+     * 
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param batchSize no. of the rows in a (full) batch
+     * @param listener {@link BatchRowListener} of the batches and the sheets
+     * 
+     * @throws SpreadsheetReadException when the file data is not readable or row data to bean mapping failed.
+     * 
+     * @since 3.3.0
+     */
+    default <T> void readBatches(final Class<T> beanClz, final InputStream is, final int batchSize,
+            final BatchRowListener<T> listener) throws SpreadsheetReadException {
+        final BatchingRowListener<T> batchingListener = new BatchingRowListener<>(listener, batchSize);
+        this.read(beanClz, is, batchingListener);
+        batchingListener.flush();
+    }
+
+    /**
+     * Reads all the sheets of the spreadsheet file as Generic {@link Map} beans, delivering them in batches of the
+     * given size. See {@link #readBatches(Class, InputStream, int, BatchRowListener)}.
+     * 
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param batchSize no. of the rows in a (full) batch
+     * @param listener {@link BatchRowListener} of the batches and the sheets
+     * 
+     * @throws SpreadsheetReadException when the file data is not readable or row data to bean mapping failed.
+     * 
+     * @since 3.3.0
+     */
+    default void readBatches(final InputStream is, final int batchSize,
+            final BatchRowListener<Map<String, Object>> listener) throws SpreadsheetReadException {
+        final BatchingRowListener<Map<String, Object>> batchingListener =
+                new BatchingRowListener<>(listener, batchSize);
+        this.read(is, batchingListener);
+        batchingListener.flush();
+    }
+
+
+    //
+    // Read Asynchronously
+    // ------------------------------------------------------------------------
+
+    /**
+     * Reads all the sheets of the spreadsheet file to beans of the given type asynchronously, on the passed executor.
+     * 
+     * <p>
+     * The returned future completes once the read is done, or exceptionally with the {@link SpreadsheetReadException}
+     * of the failure. Cancelling the future stops the read at the next row, and releases the underlying resources.
+     * </p>
+     * 
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file (to be closed by the caller, once the read is done)
+     * @param listener Custom {@link RowListener} implementation for row data callbacks.
+     * @param executor the {@link Executor} to run the read on
+     * 
+     * @return a {@link CompletableFuture} of the read
+     * 
+     * @since 3.3.0
+     */
+    default <T> CompletableFuture<Void> readAsync(final Class<T> beanClz, final InputStream is,
+            final RowListener<T> listener, final Executor executor) {
+        return AsyncReads.submit(executor, listener, cancellable -> this.read(beanClz, is, cancellable), () -> null);
+    }
+
+    /**
+     * Reads all the sheets of the spreadsheet file to beans of the given type asynchronously, on a new virtual thread
+     * (Java 21+) or else on a daemon thread. See {@link #readAsync(Class, InputStream, RowListener, Executor)}.
+     * 
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file (to be closed by the caller, once the read is done)
+     * @param listener Custom {@link RowListener} implementation for row data callbacks.
+     * 
+     * @return a {@link CompletableFuture} of the read
+     * 
+     * @since 3.3.0
+     */
+    default <T> CompletableFuture<Void> readAsync(final Class<T> beanClz, final InputStream is,
+            final RowListener<T> listener) {
+        return this.readAsync(beanClz, is, listener, AsyncReads.defaultExecutor());
+    }
+
+    /**
+     * Reads all the sheets of the spreadsheet file to beans of the given type asynchronously, on the passed executor.
+     * See {@link #readAsync(Class, InputStream, RowListener, Executor)}.
+     * 
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file (to be closed by the caller, once the read is done)
+     * @param executor the {@link Executor} to run the read on
+     * 
+     * @return a {@link CompletableFuture} of the {@link List} of objects of the parameterized type
+     * 
+     * @since 3.3.0
+     */
+    default <T> CompletableFuture<List<T>> readAsync(final Class<T> beanClz, final InputStream is,
+            final Executor executor) {
+        final RowBeanCollector<T> beanCollector = new RowBeanCollector<>();
+        return AsyncReads.submit(executor, beanCollector, cancellable -> this.read(beanClz, is, cancellable),
+                beanCollector::getBeans);
+    }
+
+    /**
+     * Reads all the sheets of the spreadsheet file to beans of the given type asynchronously, on a new virtual thread
+     * (Java 21+) or else on a daemon thread. See {@link #readAsync(Class, InputStream, RowListener, Executor)}.
+     * 
+     * @param <T> The Parameterized bean Class.
+     * @param beanClz The Class type to deserialize the rows data
+     * @param is {@link InputStream} of the spreadsheet file (to be closed by the caller, once the read is done)
+     * 
+     * @return a {@link CompletableFuture} of the {@link List} of objects of the parameterized type
+     * 
+     * @since 3.3.0
+     */
+    default <T> CompletableFuture<List<T>> readAsync(final Class<T> beanClz, final InputStream is) {
+        return this.readAsync(beanClz, is, AsyncReads.defaultExecutor());
+    }
+
+
     //
     // Read to Map
 
@@ -248,6 +553,46 @@ public interface SpreadsheetReader {
      */
     List<Map<String, Object>> read(InputStream is, int sheetNo) throws SpreadsheetReadException;
 
+    /**
+     * Reads the sheet with the given name of the spreadsheet file as Generic {@link Map} beans. Only the requested
+     * sheet is opened and parsed.
+     * 
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetName name of the Sheet to be read (case insensitive)
+     * @param listener Custom {@link RowListener} implementation for row data callbacks.
+     * 
+     * @throws SpreadsheetReadException when the sheet is not found, the file data is not readable or row data to bean
+     *         mapping failed. By default, as reading by the sheet name is not supported.
+     * 
+     * @since 3.3.0
+     */
+    default void read(InputStream is, String sheetName, RowListener<Map<String, Object>> listener)
+            throws SpreadsheetReadException {
+        final String errMsg = String.format("%s :: Reading by the sheet name is not supported", this.getClass());
+        throw new SpreadsheetReadException(errMsg);
+    }
+
+    /**
+     * Reads the sheet with the given name of the spreadsheet file as Generic {@link Map} beans. Only the requested
+     * sheet is opened and parsed.
+     * 
+     * @param is {@link InputStream} of the spreadsheet file
+     * @param sheetName name of the Sheet to be read (case insensitive)
+     * 
+     * @return a {@link List} of {@link Map} objects
+     * 
+     * @throws SpreadsheetReadException when the sheet is not found, the file data is not readable or row data to bean
+     *         mapping failed.
+     * 
+     * @see #read(InputStream, String, RowListener)
+     * @since 3.3.0
+     */
+    default List<Map<String, Object>> read(InputStream is, String sheetName) throws SpreadsheetReadException {
+        final RowBeanCollector<Map<String, Object>> beanCollector = new RowBeanCollector<>();
+        this.read(is, sheetName, beanCollector);
+        return beanCollector.getBeans();
+    }
+
 
 }
 
@@ -0,0 +1,613 @@
+package io.github.millij.poi.ss.reader;
+
+import static io.github.millij.poi.util.Beans.isInstantiableType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.HSSFUserException;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.AbstractSheetContentsHandler;
+import io.github.millij.poi.ss.handler.ReadMetrics;
+import io.github.millij.poi.ss.handler.ReadMonitor;
+import io.github.millij.poi.ss.handler.RowContentsAsMapHandler;
+import io.github.millij.poi.ss.handler.RowContentsHandler;
+import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.handler.SheetEndException;
+import io.github.millij.poi.ss.handler.StopReadingException;
+import io.github.millij.poi.util.JfrEvents;
+import io.github.millij.poi.util.Strings;
+
+
+/**
+ * Event model (record streaming) Reader implementation for an POIFS file (.xls).
+ *
+ * <p>
+ * Unlike the {@link XlsReader}, this implementation does not build the <code>HSSFWorkbook</code>. The BIFF records are
+ * streamed through an <code>HSSFListener</code>, and the cell values are fed to the row handlers one row at a time.
+ * Hence apart from the shared strings table, only the current row is held in memory. The records of the sheets which
+ * are not requested (by No. or by name) are skipped, and the reading is aborted once the requested sheet is
+ * processed.
+ * </p>
+ *
+ * <p>
+ * Formula cells are read from their cached results. The cell records of a sheet are expected in the row order (as
+ * written by Excel and POI).
+ * </p>
+ *
+ * @see XlsReader
+ * @since 3.3.0
+ */
+public class XlsEventReader extends AbstractSpreadsheetReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XlsEventReader.class);
+
+    private static final int ALL_SHEETS = 0;
+
+
+    // Constructor
+
+    public XlsEventReader() {
+        this(0);
+    }
+
+    public XlsEventReader(final int headerRowIdx) {
+        this(headerRowIdx, Integer.MAX_VALUE);
+    }
+
+    public XlsEventReader(final int headerRowIdx, final int lastRowIdx) {
+        super(headerRowIdx, lastRowIdx);
+    }
+
+
+    // SpreadsheetReader Impl
+    // ------------------------------------------------------------------------
+
+    @Override
+    public <T> void read(final Class<T> beanClz, final InputStream is, final RowListener<T> listener)
+            throws SpreadsheetReadException {
+        // Sanity checks
+        if (!isInstantiableType(beanClz)) {
+            throw new IllegalArgumentException("XlsEventReader :: Invalid bean type passed !");
+        }
+
+        try {
+            // Process Sheets
+            this.processSheets(is, ALL_SHEETS, null, listener, () -> this.newRowHandler(beanClz, listener));
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
+            String errMsg = String.format("Error reading HSSF records, to %s : %s", beanClz, ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+    @Override
+    public <T> void read(final Class<T> beanClz, final InputStream is, final int sheetNo, final RowListener<T> listener)
+            throws SpreadsheetReadException {
+        // Sanity checks
+        if (!isInstantiableType(beanClz)) {
+            throw new IllegalArgumentException("XlsEventReader :: Invalid bean type passed !");
+        }
+        if (sheetNo < 1) {
+            throw new IllegalArgumentException("XlsEventReader :: Invalid sheet no. passed : " + sheetNo);
+        }
+
+        try {
+            // Process Sheet
+            this.processSheets(is, sheetNo, null, listener, () -> this.newRowHandler(beanClz, listener));
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
+            String errMsg = String.format("Error reading sheet %d, to %s : %s", sheetNo, beanClz, ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+    @Override
+    public <T> void read(final Class<T> beanClz, final InputStream is, final String sheetName,
+            final RowListener<T> listener) throws SpreadsheetReadException {
+        // Sanity checks
+        if (!isInstantiableType(beanClz)) {
+            throw new IllegalArgumentException("XlsEventReader :: Invalid bean type passed !");
+        }
+
+        final String name = this.resolveSheetName(beanClz, sheetName);
+        try {
+            // Process Sheet
+            this.processSheets(is, ALL_SHEETS, name, listener, () -> this.newRowHandler(beanClz, listener));
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
+            String errMsg = String.format("Error reading sheet %s, to %s : %s", name, beanClz, ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+
+    //
+    // Read to Map
+
+    @Override
+    public void read(final InputStream is, final RowListener<Map<String, Object>> listener)
+            throws SpreadsheetReadException {
+        try {
+            // Process Sheets
+            this.processSheets(is, ALL_SHEETS, null, listener, () -> this.newRowHandler(listener));
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
+            String errMsg = String.format("Error reading HSSF records, to Map : %s", ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+    @Override
+    public void read(final InputStream is, final int sheetNo, final RowListener<Map<String, Object>> listener)
+            throws SpreadsheetReadException {
+        // Sanity checks
+        if (sheetNo < 1) {
+            throw new IllegalArgumentException("XlsEventReader :: Invalid sheet no. passed : " + sheetNo);
+        }
+
+        try {
+            // Process Sheet
+            this.processSheets(is, sheetNo, null, listener, () -> this.newRowHandler(listener));
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
+            String errMsg = String.format("Error reading sheet %d, to Map : %s", sheetNo, ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+    @Override
+    public void read(final InputStream is, final String sheetName, final RowListener<Map<String, Object>> listener)
+            throws SpreadsheetReadException {
+        // Sanity checks
+        if (Strings.isBlank(sheetName)) {
+            throw new IllegalArgumentException("XlsEventReader :: Sheet name is BLANK");
+        }
+
+        try {
+            // Process Sheet
+            this.processSheets(is, ALL_SHEETS, sheetName, listener, () -> this.newRowHandler(listener));
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
+            String errMsg = String.format("Error reading sheet %s, to Map : %s", sheetName, ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        }
+    }
+
+
+    //
+    // Protected Methods
+    // ------------------------------------------------------------------------
+
+    protected AbstractSheetContentsHandler newRowHandler(final RowListener<Map<String, Object>> listener) {
+        return new RowContentsAsMapHandler(listener, headerRowIdx, lastRowIdx, columnProjection);
+    }
+
+    protected <T> AbstractSheetContentsHandler newRowHandler(final Class<T> beanClz, final RowListener<T> listener) {
+        return new RowContentsHandler<>(beanClz, listener, headerRowIdx, lastRowIdx);
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Processes the records of the requested sheet(s) : the sheet by No. or by name, or else all the sheets.
+     */
+    private void processSheets(final InputStream is, final int sheetNo, final String sheetName,
+            final RowListener<?> listener, final Supplier<AbstractSheetContentsHandler> handlerSupplier)
+            throws IOException, HSSFUserException {
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final POIFSFileSystem poifs = this.openFileSystem(is, readEvent, monitor)) {
+            // Records Listener
+            final SheetRecordsListener recordsListener =
+                    new SheetRecordsListener(sheetNo, sheetName, handlerSupplier, readEvent, monitor);
+
+            final HSSFRequest request = new HSSFRequest();
+            request.addListenerForAllRecords(recordsListener);
+
+            // Process Records
+            final long start = this.phaseStart();
+            final HSSFEventFactory eventFactory = new HSSFEventFactory();
+            final short result;
+            try {
+                result = eventFactory.abortableProcessWorkbookEvents(request, poifs);
+            } finally {
+                recordsListener.endSheet();
+                this.phaseTime(ReadMetrics.Phase.PARSE, start);
+            }
+            LOGGER.debug("Completed processing the HSSF records : sheets #{}, result #{}", recordsListener.sheetIdx + 1,
+                    result);
+
+            if (Objects.nonNull(sheetName) && !recordsListener.sheetFound) {
+                final String errMsg = String.format("No Sheet found with the name : %s", sheetName);
+                throw new IllegalArgumentException(errMsg);
+            }
+        } finally {
+            readEvent.sheetName(sheetName).commit();
+        }
+    }
+
+    /**
+     * Loads the file system, timing the {@link ReadMetrics.Phase#OPEN} phase, counting the bytes read and tracking the
+     * progress (and the cancellation) of the read as the file is read.
+     */
+    private POIFSFileSystem openFileSystem(final InputStream is, final JfrEvents.Event readEvent,
+            final ReadMonitor monitor) throws IOException {
+        if (!metrics.isEnabled() && !readEvent.isRecording() && Objects.isNull(monitor)) {
+            return new POIFSFileSystem(is);
+        }
+
+        // Progress : the total is known when the stream size is (ex. a file)
+        if (Objects.nonNull(monitor)) {
+            monitor.setTotalBytes(is.available() > 0 ? is.available() : -1);
+        }
+
+        final long start = this.phaseStart();
+        final CountingInputStream countingStream =
+                new CountingInputStream(is, Objects.isNull(monitor) ? null : monitor::bytesRead);
+        final POIFSFileSystem poifs = new POIFSFileSystem(countingStream);
+        this.phaseTime(ReadMetrics.Phase.OPEN, start);
+
+        // Bytes
+        readEvent.bytes(countingStream.getCount());
+        if (metrics.isEnabled()) {
+            metrics.bytesInflated(countingStream.getCount());
+        }
+
+        return poifs;
+    }
+
+
+    // Sheet Records Listener
+    // ------------------------------------------------------------------------
+
+    /**
+     * Feeds the cell records of the requested sheet(s) to the Row handlers.
+     */
+    private final class SheetRecordsListener extends AbortableHSSFListener {
+
+        private static final short CONTINUE = 0;
+        private static final short ABORT = 1;
+
+        private final int sheetNo;
+        private final String sheetName;
+        private final Supplier<AbstractSheetContentsHandler> handlerSupplier;
+        private final JfrEvents.Event readEvent;
+        private final ReadMonitor monitor;
+
+        private SSTRecord sstRecord;
+        private final List<String> sheetNames;
+
+        private int bofDepth;
+        private int sheetIdx;
+        private boolean sheetFound;
+
+        private AbstractSheetContentsHandler sheetHandler;
+        private int currentRow;
+        private JfrEvents.Event sheetEvent;
+
+        // Formula with the cached String result, which follows in the next StringRecord
+        private FormulaRecord pendingFormula;
+
+
+        private SheetRecordsListener(final int sheetNo, final String sheetName,
+                final Supplier<AbstractSheetContentsHandler> handlerSupplier, final JfrEvents.Event readEvent,
+                final ReadMonitor monitor) {
+            super();
+
+            // init
+            this.sheetNo = sheetNo;
+            this.sheetName = Objects.isNull(sheetName) ? null : sheetName.trim();
+            this.handlerSupplier = handlerSupplier;
+            this.readEvent = readEvent;
+            this.monitor = monitor;
+
+            this.sstRecord = null;
+            this.sheetNames = new ArrayList<>();
+
+            this.bofDepth = 0;
+            this.sheetIdx = -1;
+            this.sheetFound = false;
+
+            this.sheetHandler = null;
+            this.currentRow = -1;
+            this.sheetEvent = JfrEvents.Event.NOOP;
+
+            this.pendingFormula = null;
+        }
+
+        @Override
+        public short abortableProcessRecord(final Record record) throws HSSFUserException {
+            // Cancellation (also while skipping the sheets not requested)
+            if (Objects.nonNull(monitor)) {
+                monitor.checkCancelled();
+            }
+
+            switch (record.getSid()) {
+                // Sub-streams (Workbook globals, Worksheets and the embedded Charts)
+                case BOFRecord.sid:
+                    this.startSubStream((BOFRecord) record);
+                    return CONTINUE;
+
+                case EOFRecord.sid:
+                    return this.endSubStream();
+
+                // Sheet names, in the order of the sheets
+                case BoundSheetRecord.sid:
+                    sheetNames.add(((BoundSheetRecord) record).getSheetname());
+                    return CONTINUE;
+
+                // Shared Strings
+                case SSTRecord.sid:
+                    sstRecord = (SSTRecord) record;
+                    return CONTINUE;
+
+                default:
+                    break;
+            }
+
+            // Skip the records of the sheets not requested
+            if (Objects.isNull(sheetHandler)) {
+                return CONTINUE;
+            }
+
+            try {
+                this.processCellRecord(record);
+            } catch (SheetEndException ex) {
+                LOGGER.debug("Skipped the rest of the Sheet : {}", ex.getMessage());
+                return this.skipSheet();
+            }
+
+            return CONTINUE;
+        }
+
+
+        // Private Methods
+
+        private void processCellRecord(final Record record) {
+            switch (record.getSid()) {
+                case LabelSSTRecord.sid:
+                    final LabelSSTRecord lsRecord = (LabelSSTRecord) record;
+                    if (!sheetHandler.isColumnNeeded(lsRecord.getColumn())) {
+                        break; // Skip the shared string lookup
+                    }
+
+                    final String lsValue = sstRecord.getString(lsRecord.getSSTIndex()).getString();
+                    this.cell(lsRecord.getRow(), lsRecord.getColumn(), lsValue, CellType.STRING);
+                    break;
+
+                case LabelRecord.sid:
+                    final LabelRecord lRecord = (LabelRecord) record;
+                    this.cell(lRecord.getRow(), lRecord.getColumn(), lRecord.getValue(), CellType.STRING);
+                    break;
+
+                case NumberRecord.sid:
+                    final NumberRecord nRecord = (NumberRecord) record;
+                    this.cell(nRecord.getRow(), nRecord.getColumn(), nRecord.getValue(), CellType.NUMERIC);
+                    break;
+
+                case BoolErrRecord.sid:
+                    final BoolErrRecord beRecord = (BoolErrRecord) record;
+                    if (beRecord.isBoolean()) {
+                        this.cell(beRecord.getRow(), beRecord.getColumn(), beRecord.getBooleanValue(),
+                                CellType.BOOLEAN);
+                    }
+                    break;
+
+                case FormulaRecord.sid:
+                    this.formulaCell((FormulaRecord) record);
+                    break;
+
+                case StringRecord.sid:
+                    if (Objects.nonNull(pendingFormula)) {
+                        final String fValue = ((StringRecord) record).getString();
+                        this.cell(pendingFormula.getRow(), pendingFormula.getColumn(), fValue, CellType.STRING);
+                        pendingFormula = null;
+                    }
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        private void startSubStream(final BOFRecord bofRecord) {
+            bofDepth++;
+            if (bofDepth > 1 || bofRecord.getType() == BOFRecord.TYPE_WORKBOOK) {
+                return;
+            }
+
+            // Every sheet (chart and macro sheets too) has a BoundSheetRecord, in the same order
+            sheetIdx++;
+            if (bofRecord.getType() == BOFRecord.TYPE_WORKSHEET && this.isRequested(sheetIdx)) {
+                LOGGER.debug("Processing HSSF records of the Sheet at No. : {}", sheetIdx);
+                sheetHandler = handlerSupplier.get();
+                sheetHandler.setRowLimit(limit);
+                sheetHandler.setMetrics(metrics);
+                sheetHandler.setMonitor(monitor);
+                sheetFound = true;
+                currentRow = -1;
+                sheetEvent = JfrEvents.begin(JfrEvents.Type.SHEET_PARSE);
+
+                final String name = sheetIdx < sheetNames.size() ? sheetNames.get(sheetIdx) : null;
+                if (Objects.nonNull(monitor)) {
+                    monitor.startSheet(name, -1);
+                }
+
+                sheetHandler.startSheet(name);
+            }
+        }
+
+        private boolean isRequested(final int idx) {
+            if (Objects.nonNull(sheetName)) {
+                return idx < sheetNames.size() && sheetName.equalsIgnoreCase(sheetNames.get(idx));
+            }
+
+            return sheetNo == ALL_SHEETS || sheetNo == idx + 1;
+        }
+
+        private boolean isSingleSheet() {
+            return Objects.nonNull(sheetName) || sheetNo != ALL_SHEETS;
+        }
+
+        private short endSubStream() {
+            bofDepth--;
+            if (bofDepth > 0 || Objects.isNull(sheetHandler)) {
+                return CONTINUE;
+            }
+
+            // End of the Sheet
+            try {
+                this.endRow();
+            } catch (SheetEndException ex) {
+                LOGGER.debug("Reached the end of the Sheet : {}", ex.getMessage());
+            }
+
+            return this.skipSheet();
+        }
+
+        /**
+         * Skips the records till the end of the current Sheet.
+         */
+        private short skipSheet() {
+            this.endSheet();
+            sheetHandler = null;
+            pendingFormula = null;
+
+            if (Objects.nonNull(monitor)) {
+                monitor.endSheet();
+            }
+
+            // Abort, once the requested sheet is done
+            return this.isSingleSheet() ? ABORT : CONTINUE;
+        }
+
+        /**
+         * Completes the current Sheet (if any) and its event. Has no effect once the sheet is skipped.
+         */
+        private void endSheet() {
+            if (Objects.isNull(sheetHandler)) {
+                return;
+            }
+
+            sheetHandler.endSheet();
+
+            final long rows = sheetHandler.getRowsRead();
+            final String name = sheetIdx < sheetNames.size() ? sheetNames.get(sheetIdx) : null;
+            readEvent.beanType(sheetHandler.getRowType()).addRows(rows);
+            sheetEvent.beanType(sheetHandler.getRowType()).sheetName(name).rows(rows).commit();
+            sheetEvent = JfrEvents.Event.NOOP;
+        }
+
+        private void formulaCell(final FormulaRecord fRecord) {
+            switch (fRecord.getCachedResultTypeEnum()) {
+                case NUMERIC:
+                    this.cell(fRecord.getRow(), fRecord.getColumn(), fRecord.getValue(), CellType.NUMERIC);
+                    break;
+                case BOOLEAN:
+                    final boolean bValue = fRecord.getCachedBooleanValue();
+                    this.cell(fRecord.getRow(), fRecord.getColumn(), bValue, CellType.BOOLEAN);
+                    break;
+                case STRING:
+                    pendingFormula = fRecord.hasCachedResultString() ? fRecord : null;
+                    break;
+                case ERROR:
+                default:
+                    break;
+            }
+        }
+
+        private void cell(final int rowNum, final int colIdx, final Object value, final CellType type) {
+            // Skip rows before Header ROW, and the rest of the sheet after Last ROW
+            if (rowNum < headerRowIdx) {
+                return;
+            }
+            if (rowNum > lastRowIdx) {
+                this.endRow();
+                throw new SheetEndException(String.format("Last row #%d passed", lastRowIdx));
+            }
+
+            // New Row
+            if (rowNum != currentRow) {
+                this.endRow();
+
+                sheetHandler.startRow(rowNum);
+                currentRow = rowNum;
+            }
+
+            sheetHandler.cell(colIdx, value, type);
+        }
+
+        private void endRow() {
+            if (currentRow >= 0) {
+                sheetHandler.endRow(currentRow);
+                currentRow = -1;
+            }
+        }
+
+    }
+
+
+}
@@ -2,8 +2,8 @@ package io.github.millij.poi.ss.reader;
 
 import static io.github.millij.poi.util.Beans.isInstantiableType;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
@@ -19,9 +19,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.AbstractSheetContentsHandler;
+import io.github.millij.poi.ss.handler.ReadMetrics;
+import io.github.millij.poi.ss.handler.ReadMonitor;
+import io.github.millij.poi.ss.handler.RowContentsAsMapHandler;
+import io.github.millij.poi.ss.handler.RowContentsHandler;
 import io.github.millij.poi.ss.handler.RowListener;
-import io.github.millij.poi.ss.model.Column;
-import io.github.millij.poi.util.Spreadsheet;
+import io.github.millij.poi.ss.handler.SheetEndException;
+import io.github.millij.poi.ss.handler.StopReadingException;
+import io.github.millij.poi.util.JfrEvents;
 import io.github.millij.poi.util.Strings;
 
 
@@ -61,8 +67,9 @@ public class XlsReader extends AbstractSpreadsheetReader {
             throw new IllegalArgumentException("XlsReader :: Invalid bean type passed !");
         }
 
-        try {
-            final HSSFWorkbook wb = new HSSFWorkbook(is);
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final HSSFWorkbook wb = this.openWorkbook(is, readEvent, monitor)) {
             final int sheetCount = wb.getNumberOfSheets();
             LOGGER.debug("Total no. of sheets found in HSSFWorkbook : #{}", sheetCount);
 
@@ -72,15 +79,20 @@ public class XlsReader extends AbstractSpreadsheetReader {
                 LOGGER.debug("Processing HSSFSheet at No. : {}", i);
 
                 // Process Sheet
-                this.processSheet(beanClz, sheet, listener);
+                this.processSheet(beanClz, sheet, listener, monitor);
             }
-
-            // Close workbook
-            wb.close();
         } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
             String errMsg = String.format("Error reading HSSFSheet, to %s : %s", beanClz, ex.getMessage());
             LOGGER.error(errMsg, ex);
             throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(beanClz).commit();
         }
     }
 
@@ -92,19 +104,56 @@ public class XlsReader extends AbstractSpreadsheetReader {
             throw new IllegalArgumentException("XlsReader :: Invalid bean type passed !");
         }
 
-        try {
-            final HSSFWorkbook wb = new HSSFWorkbook(is);
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final HSSFWorkbook wb = this.openWorkbook(is, readEvent, monitor)) {
             final HSSFSheet sheet = wb.getSheetAt(sheetNo - 1); // subtract 1 as Workbook follows 0-based index
 
             // Process Sheet
-            this.processSheet(beanClz, sheet, listener);
-
-            // Close workbook
-            wb.close();
+            this.processSheet(beanClz, sheet, listener, monitor);
         } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
             String errMsg = String.format("Error reading sheet %d, to %s : %s", sheetNo, beanClz, ex.getMessage());
             LOGGER.error(errMsg, ex);
             throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(beanClz).commit();
+        }
+    }
+
+    @Override
+    public <T> void read(final Class<T> beanClz, final InputStream is, final String sheetName,
+            final RowListener<T> listener) throws SpreadsheetReadException {
+        // Sanity checks
+        if (!isInstantiableType(beanClz)) {
+            throw new IllegalArgumentException("XlsReader :: Invalid bean type passed !");
+        }
+
+        final String name = this.resolveSheetName(beanClz, sheetName);
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final HSSFWorkbook wb = this.openWorkbook(is, readEvent, monitor)) {
+            final HSSFSheet sheet = this.getSheet(wb, name);
+
+            // Process Sheet
+            this.processSheet(beanClz, sheet, listener, monitor);
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
+            String errMsg = String.format("Error reading sheet %s, to %s : %s", name, beanClz, ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(beanClz).sheetName(name).commit();
         }
     }
 
@@ -115,8 +164,9 @@ public class XlsReader extends AbstractSpreadsheetReader {
     @Override
     public void read(final InputStream is, final RowListener<Map<String, Object>> listener)
             throws SpreadsheetReadException {
-        try {
-            final HSSFWorkbook wb = new HSSFWorkbook(is);
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final HSSFWorkbook wb = this.openWorkbook(is, readEvent, monitor)) {
             final int sheetCount = wb.getNumberOfSheets();
             LOGGER.debug("Total no. of sheets found in HSSFWorkbook : #{}", sheetCount);
 
@@ -126,149 +176,220 @@ public class XlsReader extends AbstractSpreadsheetReader {
                 LOGGER.debug("Processing HSSFSheet at No. : {}", i);
 
                 // Process Sheet
-                this.processSheet(sheet, listener);
+                this.processSheet(sheet, listener, monitor);
             }
-
-            // Close workbook
-            wb.close();
         } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
             String errMsg = String.format("Error reading HSSFSheet, to Map : %s", ex.getMessage());
             LOGGER.error(errMsg, ex);
             throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(Map.class).commit();
         }
     }
 
     @Override
     public void read(final InputStream is, final int sheetNo, final RowListener<Map<String, Object>> listener)
             throws SpreadsheetReadException {
-        try {
-            final HSSFWorkbook wb = new HSSFWorkbook(is);
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final HSSFWorkbook wb = this.openWorkbook(is, readEvent, monitor)) {
             final HSSFSheet sheet = wb.getSheetAt(sheetNo - 1); // subtract 1 as Workbook follows 0-based index
 
             // Process Sheet
-            this.processSheet(sheet, listener);
-
-            // Close workbook
-            wb.close();
+            this.processSheet(sheet, listener, monitor);
         } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
             String errMsg = String.format("Error reading sheet %d, to Map : %s", sheetNo, ex.getMessage());
             LOGGER.error(errMsg, ex);
             throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(Map.class).commit();
         }
     }
 
+    @Override
+    public void read(final InputStream is, final String sheetName, final RowListener<Map<String, Object>> listener)
+            throws SpreadsheetReadException {
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final HSSFWorkbook wb = this.openWorkbook(is, readEvent, monitor)) {
+            final HSSFSheet sheet = this.getSheet(wb, sheetName);
 
-    //
-    // Protected Methods
-    // ------------------------------------------------------------------------
-
-    protected void processSheet(final HSSFSheet sheet, final RowListener<Map<String, Object>> eventHandler) {
-        // Header column - name mapping
-        final HSSFRow headerRowObj = sheet.getRow(headerRowIdx);
-        final Map<String, String> headerCellRefsMap = this.asHeaderNameToCellRefMap(headerRowObj, false);
-
-        final Iterator<Row> rows = sheet.rowIterator();
-        while (rows.hasNext()) {
-            // Process Row Data
-            final HSSFRow row = (HSSFRow) rows.next();
-            final int rowNum = row.getRowNum();
-
-            // Skip rows before Header ROW and after Last ROW
-            if (rowNum < headerRowIdx || rowNum > lastRowIdx) {
-                continue;
-            }
-
-            final Map<String, Object> rowDataMap = this.extractRowDataAsMap(row);
-            if (Objects.isNull(rowDataMap) || rowDataMap.isEmpty()) {
-                continue;
+            // Process Sheet
+            this.processSheet(sheet, listener, monitor);
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
             }
 
-            // Row data as Bean
-            final Map<String, Object> rowBean = Spreadsheet.rowAsMap(headerCellRefsMap, rowDataMap);
-            eventHandler.row(rowNum, rowBean);
+            String errMsg = String.format("Error reading sheet %s, to Map : %s", sheetName, ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(Map.class).sheetName(sheetName).commit();
         }
     }
 
-    protected <T> void processSheet(final Class<T> beanClz, final HSSFSheet sheet, final RowListener<T> eventHandler) {
-        // Header column - name mapping
-        final HSSFRow headerRowObj = sheet.getRow(headerRowIdx);
-        final Map<String, String> headerCellRefsMap = this.asHeaderNameToCellRefMap(headerRowObj, true);
 
-        // Bean Properties - column name mapping
-        final Map<String, Column> propColumnMap = Spreadsheet.getPropertyToColumnDefMap(beanClz);
+    //
+    // Protected Methods
+    // ------------------------------------------------------------------------
 
-        final Iterator<Row> rows = sheet.rowIterator();
-        while (rows.hasNext()) {
-            // Process Row Data
-            final HSSFRow row = (HSSFRow) rows.next();
-            final int rowNum = row.getRowNum();
+    protected void processSheet(final HSSFSheet sheet, final RowListener<Map<String, Object>> eventHandler) {
+        this.processSheet(sheet, eventHandler, null);
+    }
 
-            // Skip rows before Header ROW and after Last ROW
-            if (rowNum < headerRowIdx || rowNum > lastRowIdx) {
-                continue;
-            }
+    /**
+     * @since 3.3.0
+     */
+    protected void processSheet(final HSSFSheet sheet, final RowListener<Map<String, Object>> eventHandler,
+            final ReadMonitor monitor) {
+        // Sheet Handler
+        final RowContentsAsMapHandler sheetHandler =
+                new RowContentsAsMapHandler(eventHandler, headerRowIdx, lastRowIdx, columnProjection);
+
+        // Process Rows
+        this.processRows(sheet, sheetHandler, monitor);
+    }
 
-            final Map<String, Object> rowDataMap = this.extractRowDataAsMap(row);
-            if (Objects.isNull(rowDataMap) || rowDataMap.isEmpty()) {
-                continue;
-            }
+    protected <T> void processSheet(final Class<T> beanClz, final HSSFSheet sheet, final RowListener<T> eventHandler) {
+        this.processSheet(beanClz, sheet, eventHandler, null);
+    }
 
-            // Row data as Bean
-            final T rowBean = Spreadsheet.rowAsBean(beanClz, propColumnMap, headerCellRefsMap, rowDataMap);
-            eventHandler.row(rowNum, rowBean);
-        }
+    /**
+     * @since 3.3.0
+     */
+    protected <T> void processSheet(final Class<T> beanClz, final HSSFSheet sheet, final RowListener<T> eventHandler,
+            final ReadMonitor monitor) {
+        // Sheet Handler
+        final RowContentsHandler<T> sheetHandler =
+                new RowContentsHandler<>(beanClz, eventHandler, headerRowIdx, lastRowIdx);
+
+        // Process Rows
+        this.processRows(sheet, sheetHandler, monitor);
     }
 
 
     // Private Methods
     // ------------------------------------------------------------------------
 
-    private Map<String, String> asHeaderNameToCellRefMap(final HSSFRow headerRow, final boolean normalizeHeaderName) {
+    private HSSFSheet getSheet(final HSSFWorkbook wb, final String sheetName) {
         // Sanity checks
-        if (Objects.isNull(headerRow)) {
-            return new HashMap<>();
+        if (Strings.isBlank(sheetName)) {
+            throw new IllegalArgumentException("XlsReader :: Sheet name is BLANK");
+        }
+
+        // Sheet names are case insensitive
+        final int sheetIdx = wb.getSheetIndex(sheetName.trim());
+        if (sheetIdx < 0) {
+            final String errMsg = String.format("No Sheet found with the name : %s", sheetName);
+            throw new IllegalArgumentException(errMsg);
         }
 
-        final Map<String, String> headerCellRefs = new HashMap<>();
+        return wb.getSheetAt(sheetIdx);
+    }
+
+    /**
+     * Loads the workbook, timing the {@link ReadMetrics.Phase#OPEN} phase, counting the bytes read and tracking the
+     * progress (and the cancellation) of the read as the file is read.
+     */
+    private HSSFWorkbook openWorkbook(final InputStream is, final JfrEvents.Event readEvent, final ReadMonitor monitor)
+            throws IOException {
+        if (!metrics.isEnabled() && !readEvent.isRecording() && Objects.isNull(monitor)) {
+            return new HSSFWorkbook(is);
+        }
 
-        final Iterator<Cell> cells = headerRow.cellIterator();
-        while (cells.hasNext()) {
-            final HSSFCell cell = (HSSFCell) cells.next();
-            final int cellColIdx = cell.getColumnIndex();
-            final String cellColRef = String.valueOf(cellColIdx);
+        // Progress : the total is known when the stream size is (ex. a file)
+        if (Objects.nonNull(monitor)) {
+            monitor.setTotalBytes(is.available() > 0 ? is.available() : -1);
+        }
 
-            // Cell Value
-            final Object header = this.getCellValue(cell);
+        final long start = this.phaseStart();
+        final CountingInputStream countingStream =
+                new CountingInputStream(is, Objects.isNull(monitor) ? null : monitor::bytesRead);
+        final HSSFWorkbook wb = new HSSFWorkbook(countingStream);
+        this.phaseTime(ReadMetrics.Phase.OPEN, start);
 
-            final String rawHeaderName = Objects.isNull(header) ? "" : String.valueOf(header);
-            final String headerName = normalizeHeaderName ? Strings.normalize(rawHeaderName) : rawHeaderName;
-            headerCellRefs.put(headerName, cellColRef);
+        // Bytes
+        readEvent.bytes(countingStream.getCount());
+        if (metrics.isEnabled()) {
+            metrics.bytesInflated(countingStream.getCount());
         }
 
-        return headerCellRefs;
+        return wb;
     }
 
-    private Map<String, Object> extractRowDataAsMap(final HSSFRow row) {
-        // Sanity checks
-        if (row == null) {
-            return new HashMap<>();
+    private void processRows(final HSSFSheet sheet, final AbstractSheetContentsHandler sheetHandler,
+            final ReadMonitor monitor) {
+        sheetHandler.setRowLimit(limit);
+        sheetHandler.setMetrics(metrics);
+        sheetHandler.setMonitor(monitor);
+        if (Objects.nonNull(monitor)) {
+            monitor.startSheet(sheet.getSheetName(), -1);
         }
 
-        final Map<String, Object> rowDataMap = new HashMap<>();
+        final JfrEvents.Event sheetEvent = JfrEvents.begin(JfrEvents.Type.SHEET_PARSE);
+        final long start = this.phaseStart();
+        try {
+            sheetHandler.startSheet(sheet.getSheetName());
+            this.processRows(sheet.rowIterator(), sheetHandler);
+        } catch (SheetEndException ex) {
+            LOGGER.debug("Skipped the rest of the Sheet : {}", ex.getMessage());
+        } finally {
+            sheetHandler.endSheet();
+            this.phaseTime(ReadMetrics.Phase.PARSE, start);
+
+            sheetEvent.beanType(sheetHandler.getRowType()).sheetName(sheet.getSheetName()) //
+                    .rows(sheetHandler.getRowsRead()).commit();
+        }
+
+        if (Objects.nonNull(monitor)) {
+            monitor.endSheet();
+        }
+    }
+
+    private void processRows(final Iterator<Row> rows, final AbstractSheetContentsHandler sheetHandler) {
+        while (rows.hasNext()) {
+            // Process Row Data
+            final HSSFRow row = (HSSFRow) rows.next();
+            final int rowNum = row.getRowNum();
+
+            // Skip rows before Header ROW, and stop after Last ROW (the rows are in order)
+            if (rowNum < headerRowIdx) {
+                continue;
+            }
+            if (rowNum > lastRowIdx) {
+                break;
+            }
 
-        final Iterator<Cell> cells = row.cellIterator();
-        while (cells.hasNext()) {
-            final HSSFCell cell = (HSSFCell) cells.next();
-            final int cellColIdx = cell.getColumnIndex();
-            final String cellColRef = String.valueOf(cellColIdx);
+            sheetHandler.startRow(rowNum);
 
-            // Cell Value
-            final Object cellVal = this.getCellValue(cell);
+            // Cells
+            final Iterator<Cell> cells = row.cellIterator();
+            while (cells.hasNext()) {
+                final HSSFCell cell = (HSSFCell) cells.next();
+                if (!sheetHandler.isColumnNeeded(cell.getColumnIndex())) {
+                    continue;
+                }
 
-            rowDataMap.put(cellColRef, cellVal);
-        }
+                sheetHandler.cell(cell.getColumnIndex(), this.getCellValue(cell), cell.getCellType());
+            }
 
-        return rowDataMap;
+            sheetHandler.endRow(rowNum);
+        }
     }
 
     private Object getCellValue(final HSSFCell cell) {
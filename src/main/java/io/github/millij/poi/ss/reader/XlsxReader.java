@@ -1,33 +1,62 @@
 package io.github.millij.poi.ss.reader;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.util.XMLHelper;
 import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.eventusermodel.XSSFReader.SheetIterator;
 import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
-import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.SharedStrings;
 import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
 import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.AbstractSheetContentsHandler;
+import io.github.millij.poi.ss.handler.ColumnProjectionHandler;
+import io.github.millij.poi.ss.handler.RawSheetXMLHandler;
+import io.github.millij.poi.ss.handler.ReadCancelledException;
+import io.github.millij.poi.ss.handler.ReadMetrics;
+import io.github.millij.poi.ss.handler.ReadMonitor;
 import io.github.millij.poi.ss.handler.RowContentsAsMapHandler;
 import io.github.millij.poi.ss.handler.RowContentsHandler;
 import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.handler.RowPipeline;
+import io.github.millij.poi.ss.handler.SheetEndException;
+import io.github.millij.poi.ss.handler.SheetRowListener;
+import io.github.millij.poi.ss.handler.StopReadingException;
 import io.github.millij.poi.util.Beans;
+import io.github.millij.poi.util.JfrEvents;
+import io.github.millij.poi.util.Strings;
 
 
 /**
@@ -40,6 +69,47 @@ public class XlsxReader extends AbstractSpreadsheetReader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(XlsxReader.class);
 
+    /**
+     * Default max no. of rows in flight, when pipelined.
+     */
+    public static final int DEFAULT_PIPELINE_CAPACITY = 1024;
+
+    /**
+     * Default size (of the shared strings table part) from which the table is kept off the heap, with the
+     * {@link SharedStringsStrategy#AUTO} strategy.
+     */
+    public static final long DEFAULT_OFF_HEAP_THRESHOLD = 64L * 1024 * 1024;
+
+    /**
+     * Where to keep the shared strings table of the workbook.
+     * 
+     * @since 3.3.0
+     */
+    public enum SharedStringsStrategy {
+
+        /** In the heap (see {@link ReadOnlySharedStringsTable}) */
+        ON_HEAP,
+
+        /** Off the heap, in memory-mapped temp files (see {@link OffHeapSharedStrings}) */
+        OFF_HEAP,
+
+        /** Off the heap when the table part is larger than the threshold, or else in the heap */
+        AUTO;
+
+    }
+
+    private boolean rawValues = false;
+
+    private Executor executor = ForkJoinPool.commonPool();
+
+    private Executor pipelineExecutor = RowPipeline.defaultExecutor();
+    private int pipelineWorkers = 0;
+    private int pipelineCapacity = DEFAULT_PIPELINE_CAPACITY;
+    private RowPipeline.Ordering pipelineOrdering = RowPipeline.Ordering.STRICT;
+
+    private SharedStringsStrategy sharedStringsStrategy = SharedStringsStrategy.ON_HEAP;
+    private long offHeapThreshold = DEFAULT_OFF_HEAP_THRESHOLD;
+
 
     // Constructor
 
@@ -56,6 +126,149 @@ public class XlsxReader extends AbstractSpreadsheetReader {
     }
 
 
+    // Getters and Setters
+    // ------------------------------------------------------------------------
+
+    public boolean isRawValues() {
+        return rawValues;
+    }
+
+    /**
+     * Enables the raw values read mode. In this mode, the cell values are not formatted (as displayed) but are read as
+     * typed by the cell : {@link String}, {@link Boolean} and {@link Double} (dates as the serial numbers when read to
+     * beans, and as {@link java.util.Date} when read to Map). Skipping the formatting makes the reading of numeric
+     * sheets much faster.
+     * 
+     * <p>
+     * Note that the numbers read to a {@link String} property are not formatted either (ex. <code>54.0</code>).
+     * </p>
+     * 
+     * @param rawValues <code>true</code> to read the raw cell values
+     * 
+     * @since 3.3.0
+     */
+    public void setRawValues(final boolean rawValues) {
+        this.rawValues = rawValues;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the {@link Executor} to parse the sheets on, when the sheets are read in parallel (see
+     * {@link #readParallel(Class, InputStream, SheetRowListener)}). Defaults to the {@link ForkJoinPool#commonPool()}.
+     * 
+     * <p>
+     * The workers of the pipelined mode do not run on this executor, but on the one passed to
+     * {@link #setPipeline(int, int, RowPipeline.Ordering, Executor)}.
+     * </p>
+     * 
+     * @param executor the {@link Executor} to parse the sheets on
+     * 
+     * @since 3.3.0
+     */
+    public void setExecutor(final Executor executor) {
+        // Sanity checks
+        if (Objects.isNull(executor)) {
+            throw new IllegalArgumentException("XlsxReader :: Executor is NULL");
+        }
+
+        this.executor = executor;
+    }
+
+    public boolean isPipelined() {
+        return pipelineWorkers > 0;
+    }
+
+    /**
+     * Enables the pipelined read (to beans) mode. In this mode, the parser thread only collects the raw row values,
+     * while the binding of the rows to beans and the {@link RowListener} callbacks run on the passed no. of workers, on
+     * the dedicated daemon threads of the {@link RowPipeline#defaultExecutor()}. Hence the parsing and the binding of a
+     * single large sheet scale across the cores.
+     * 
+     * <p>
+     * The parser thread blocks once the passed no. of rows are in flight, until the workers catch up. With the
+     * {@link RowPipeline.Ordering#UNORDERED} ordering, the listener is called concurrently and should be thread-safe.
+     * </p>
+     * 
+     * @param workers no. of workers binding the rows. Pass <code>0</code> to disable the pipelined mode.
+     * @param capacity max no. of rows in flight
+     * @param ordering order of the rows delivered to the listener
+     * 
+     * @since 3.3.0
+     */
+    public void setPipeline(final int workers, final int capacity, final RowPipeline.Ordering ordering) {
+        this.setPipeline(workers, capacity, ordering, RowPipeline.defaultExecutor());
+    }
+
+    /**
+     * Enables the pipelined read (to beans) mode, with the workers running on the passed executor (see
+     * {@link #setPipeline(int, int, RowPipeline.Ordering)}).
+     * 
+     * <p>
+     * The workers block for the whole read, as does the parser thread on a full pipeline. Hence the executor should
+     * not be a bounded pool shared with the threads reading the spreadsheets (ex. the
+     * {@link ForkJoinPool#commonPool()}), or the reads could wait forever for the workers to get a thread.
+     * </p>
+     * 
+     * @param workers no. of workers binding the rows. Pass <code>0</code> to disable the pipelined mode.
+     * @param capacity max no. of rows in flight
+     * @param ordering order of the rows delivered to the listener
+     * @param executor the {@link Executor} to run the workers on
+     * 
+     * @since 3.3.0
+     */
+    public void setPipeline(final int workers, final int capacity, final RowPipeline.Ordering ordering,
+            final Executor executor) {
+        // Sanity checks
+        if (workers < 0 || capacity <= 0 || Objects.isNull(ordering) || Objects.isNull(executor)) {
+            final String errMsg = "XlsxReader :: Invalid Pipeline workers, capacity, ordering or executor";
+            throw new IllegalArgumentException(errMsg);
+        }
+
+        this.pipelineWorkers = workers;
+        this.pipelineCapacity = capacity;
+        this.pipelineOrdering = ordering;
+        this.pipelineExecutor = executor;
+    }
+
+    public SharedStringsStrategy getSharedStringsStrategy() {
+        return sharedStringsStrategy;
+    }
+
+    /**
+     * Sets where to keep the shared strings table of the workbook. Keeping the table off the heap avoids running out
+     * of heap on the workbooks with millions of unique strings, at the cost of decoding the strings on every access.
+     * 
+     * @param sharedStringsStrategy the {@link SharedStringsStrategy}
+     * 
+     * @since 3.3.0
+     */
+    public void setSharedStringsStrategy(final SharedStringsStrategy sharedStringsStrategy) {
+        // Sanity checks
+        if (Objects.isNull(sharedStringsStrategy)) {
+            throw new IllegalArgumentException("XlsxReader :: Shared Strings strategy is NULL");
+        }
+
+        this.sharedStringsStrategy = sharedStringsStrategy;
+    }
+
+    public long getOffHeapThreshold() {
+        return offHeapThreshold;
+    }
+
+    /**
+     * @param offHeapThreshold size (in bytes) of the shared strings table part, from which the table is kept off the
+     *        heap with the {@link SharedStringsStrategy#AUTO} strategy
+     * 
+     * @since 3.3.0
+     */
+    public void setOffHeapThreshold(final long offHeapThreshold) {
+        this.offHeapThreshold = offHeapThreshold;
+    }
+
+
     // SpreadsheetReader Impl
     // ------------------------------------------------------------------------
 
@@ -67,12 +280,18 @@ public class XlsxReader extends AbstractSpreadsheetReader {
             throw new IllegalArgumentException("XlsxReader :: Invalid bean type passed !");
         }
 
-        try (final OPCPackage opcPkg = OPCPackage.open(is)) {
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final OPCPackage opcPkg = this.openPackage(is, readEvent, monitor);
+                final SharedStringsResource ssTable = this.openSharedStrings(opcPkg);
+                final RowPipeline<T> pipeline = this.newRowPipeline(listener)) {
             // XSSF Reader
             final XSSFReader xssfReader = new XSSFReader(opcPkg);
+            this.setTotalBytes(opcPkg, monitor);
 
             // XML Reader
-            final XMLReader xmlReader = this.newXMLReaderInstance(beanClz, opcPkg, xssfReader, listener);
+            final XMLReader xmlReader =
+                    this.newXMLReaderInstance(beanClz, ssTable.get(), xssfReader, listener, pipeline);
 
             // Iterate over sheets
             for (SheetIterator worksheets = (SheetIterator) xssfReader.getSheetsData(); worksheets.hasNext();) {
@@ -81,14 +300,22 @@ public class XlsxReader extends AbstractSpreadsheetReader {
                 LOGGER.debug("Reading XLSX Sheet :: ", sheetName);
 
                 // Parse sheet
-                xmlReader.parse(new InputSource(sheetInpStream));
+                this.parseSheet(xmlReader, sheetInpStream, sheetName, readEvent, monitor);
                 sheetInpStream.close();
             }
 
         } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
             String errMsg = String.format("Error reading sheet data, to Bean %s : %s", beanClz, ex.getMessage());
             LOGGER.error(errMsg, ex);
             throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(beanClz).commit();
         }
     }
 
@@ -101,36 +328,83 @@ public class XlsxReader extends AbstractSpreadsheetReader {
             throw new IllegalArgumentException("XlsxReader :: Invalid bean type passed !");
         }
 
-        try (final OPCPackage opcPkg = OPCPackage.open(is)) {
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final OPCPackage opcPkg = this.openPackage(is, readEvent, monitor);
+                final SharedStringsResource ssTable = this.openSharedStrings(opcPkg);
+                final RowPipeline<T> pipeline = this.newRowPipeline(listener)) {
             // XSSF Reader
             final XSSFReader xssfReader = new XSSFReader(opcPkg);
 
+            // Target Sheet
+            final Map.Entry<String, String> sheet = this.resolveSheet(xssfReader, sheetNo);
+            if (Objects.isNull(sheet)) {
+                LOGGER.warn("No XLSX Sheet found at No. : {}", sheetNo);
+                return;
+            }
+
             // XML Reader
-            final XMLReader xmlReader = this.newXMLReaderInstance(beanClz, opcPkg, xssfReader, listener);
+            final XMLReader xmlReader =
+                    this.newXMLReaderInstance(beanClz, ssTable.get(), xssfReader, listener, pipeline);
 
-            // Iterate over sheets
-            final SheetIterator worksheets = (SheetIterator) xssfReader.getSheetsData();
-            for (int i = 1; worksheets.hasNext(); i++) {
-                // Get Sheet
-                final InputStream sheetInpStream = worksheets.next();
-                final String sheetName = worksheets.getSheetName();
+            // Parse Sheet
+            LOGGER.debug("Reading XLSX Sheet :: #{} - {}", sheetNo, sheet);
+            this.parseSheet(xssfReader, xmlReader, sheet.getKey(), sheet.getValue(), readEvent, monitor);
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
 
-                // Check for Sheet No.
-                if (i != sheetNo) {
-                    continue;
-                }
+            String errMsg = String.format("Error reading sheet %d, to Bean %s : %s", sheetNo, beanClz, ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(beanClz).commit();
+        }
+    }
 
-                LOGGER.debug("Reading XLSX Sheet :: #{} - {}", i, sheetName);
+    @Override
+    public <T> void read(final Class<T> beanClz, final InputStream is, final String sheetName,
+            final RowListener<T> listener) throws SpreadsheetReadException {
+        // Sanity checks
+        if (!Beans.isInstantiableType(beanClz)) {
+            throw new IllegalArgumentException("XlsxReader :: Invalid bean type passed !");
+        }
 
-                // Parse Sheet
-                xmlReader.parse(new InputSource(sheetInpStream));
-                sheetInpStream.close();
-            }
+        final String name = this.resolveSheetName(beanClz, sheetName);
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final OPCPackage opcPkg = this.openPackage(is, readEvent, monitor);
+                final SharedStringsResource ssTable = this.openSharedStrings(opcPkg);
+                final RowPipeline<T> pipeline = this.newRowPipeline(listener)) {
+            // XSSF Reader
+            final XSSFReader xssfReader = new XSSFReader(opcPkg);
+
+            // Target Sheet
+            final String sheetRelId = this.resolveSheetRelId(xssfReader, name);
+
+            // XML Reader
+            final XMLReader xmlReader =
+                    this.newXMLReaderInstance(beanClz, ssTable.get(), xssfReader, listener, pipeline);
+
+            // Parse Sheet
+            LOGGER.debug("Reading XLSX Sheet :: {} - {}", name, sheetRelId);
+            this.parseSheet(xssfReader, xmlReader, name, sheetRelId, readEvent, monitor);
 
         } catch (Exception ex) {
-            String errMsg = String.format("Error reading sheet %d, to Bean %s : %s", sheetNo, beanClz, ex.getMessage());
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
+            String errMsg = String.format("Error reading sheet %s, to Bean %s : %s", name, beanClz, ex.getMessage());
             LOGGER.error(errMsg, ex);
             throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(beanClz).sheetName(name).commit();
         }
     }
 
@@ -143,12 +417,16 @@ public class XlsxReader extends AbstractSpreadsheetReader {
             throws SpreadsheetReadException {
 
         // Read
-        try (final OPCPackage opcPkg = OPCPackage.open(is)) {
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final OPCPackage opcPkg = this.openPackage(is, readEvent, monitor);
+                final SharedStringsResource ssTable = this.openSharedStrings(opcPkg)) {
             // XSSF Reader
             final XSSFReader xssfReader = new XSSFReader(opcPkg);
+            this.setTotalBytes(opcPkg, monitor);
 
             // XML Reader
-            final XMLReader xmlReader = this.newXMLReaderInstance(opcPkg, xssfReader, listener);
+            final XMLReader xmlReader = this.newXMLReaderInstance(ssTable.get(), xssfReader, listener);
 
             // Iterate over sheets
             for (SheetIterator worksheets = (SheetIterator) xssfReader.getSheetsData(); worksheets.hasNext();) {
@@ -157,14 +435,22 @@ public class XlsxReader extends AbstractSpreadsheetReader {
                 LOGGER.debug("Reading XLSX Sheet :: ", sheetName);
 
                 // Parse sheet
-                xmlReader.parse(new InputSource(sheetInpStream));
+                this.parseSheet(xmlReader, sheetInpStream, sheetName, readEvent, monitor);
                 sheetInpStream.close();
             }
 
         } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
             String errMsg = String.format("Error reading sheet data, to Map : %s", ex.getMessage());
             LOGGER.error(errMsg, ex);
             throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(Map.class).commit();
         }
 
     }
@@ -172,87 +458,700 @@ public class XlsxReader extends AbstractSpreadsheetReader {
     @Override
     public void read(final InputStream is, final int sheetNo, final RowListener<Map<String, Object>> listener)
             throws SpreadsheetReadException {
-        try (final OPCPackage opcPkg = OPCPackage.open(is)) {
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final OPCPackage opcPkg = this.openPackage(is, readEvent, monitor);
+                final SharedStringsResource ssTable = this.openSharedStrings(opcPkg)) {
             // XSSF Reader
             final XSSFReader xssfReader = new XSSFReader(opcPkg);
 
+            // Target Sheet
+            final Map.Entry<String, String> sheet = this.resolveSheet(xssfReader, sheetNo);
+            if (Objects.isNull(sheet)) {
+                LOGGER.warn("No XLSX Sheet found at No. : {}", sheetNo);
+                return;
+            }
+
             // XML Reader
-            final XMLReader xmlReader = this.newXMLReaderInstance(opcPkg, xssfReader, listener);
+            final XMLReader xmlReader = this.newXMLReaderInstance(ssTable.get(), xssfReader, listener);
 
-            // Iterate over sheets
-            final SheetIterator worksheets = (SheetIterator) xssfReader.getSheetsData();
-            for (int i = 1; worksheets.hasNext(); i++) {
-                // Get Sheet
-                final InputStream sheetInpStream = worksheets.next();
-                final String sheetName = worksheets.getSheetName();
+            // Parse Sheet
+            LOGGER.debug("Reading XLSX Sheet :: #{} - {}", sheetNo, sheet);
+            this.parseSheet(xssfReader, xmlReader, sheet.getKey(), sheet.getValue(), readEvent, monitor);
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
 
-                // Check for Sheet No.
-                if (i != sheetNo) {
-                    continue;
-                }
+            String errMsg = String.format("Error reading sheet %d, to Map : %s", sheetNo, ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(Map.class).commit();
+        }
 
-                LOGGER.debug("Reading XLSX Sheet :: #{} - {}", i, sheetName);
+    }
 
-                // Parse Sheet
-                xmlReader.parse(new InputSource(sheetInpStream));
-                sheetInpStream.close();
+    @Override
+    public void read(final InputStream is, final String sheetName, final RowListener<Map<String, Object>> listener)
+            throws SpreadsheetReadException {
+        // Sanity checks
+        if (Strings.isBlank(sheetName)) {
+            throw new IllegalArgumentException("XlsxReader :: Sheet name is BLANK");
+        }
+
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listener);
+        try (final OPCPackage opcPkg = this.openPackage(is, readEvent, monitor);
+                final SharedStringsResource ssTable = this.openSharedStrings(opcPkg)) {
+            // XSSF Reader
+            final XSSFReader xssfReader = new XSSFReader(opcPkg);
+
+            // Target Sheet
+            final String sheetRelId = this.resolveSheetRelId(xssfReader, sheetName);
+
+            // XML Reader
+            final XMLReader xmlReader = this.newXMLReaderInstance(ssTable.get(), xssfReader, listener);
+
+            // Parse Sheet
+            LOGGER.debug("Reading XLSX Sheet :: {} - {}", sheetName, sheetRelId);
+            this.parseSheet(xssfReader, xmlReader, sheetName, sheetRelId, readEvent, monitor);
+
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
             }
 
+            String errMsg = String.format("Error reading sheet %s, to Map : %s", sheetName, ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(Map.class).sheetName(sheetName).commit();
+        }
+    }
+
+
+    // Parallel Read
+    // ------------------------------------------------------------------------
+
+    /**
+     * Reads all the sheets of the workbook in parallel, each sheet parsed on the {@link #getExecutor()} with its own
+     * parser and row handler. The shared strings and the styles of the workbook are loaded once, and are shared (read
+     * only) by all the sheets.
+     * 
+     * <p>
+     * The rows of all the sheets are delivered to the passed listener, tagged with the sheet, concurrently from
+     * different threads. Hence the listener should be thread-safe. Throwing a {@link StopReadingException} from the
+     * listener stops the reading of all the sheets.
+     * </p>
+     * 
+     * @param beanClz Class type of the Bean
+     * @param is {@link InputStream} of the workbook
+     * @param listener thread-safe listener of the rows of all the sheets
+     * 
+     * @throws SpreadsheetReadException when there is a failure reading any of the sheets
+     * 
+     * @since 3.3.0
+     */
+    public <T> void readParallel(final Class<T> beanClz, final InputStream is, final SheetRowListener<T> listener)
+            throws SpreadsheetReadException {
+        // Sanity checks
+        if (Objects.isNull(listener)) {
+            throw new IllegalArgumentException("XlsxReader :: Sheet Row listener is NULL");
+        }
+
+        this.readParallel(beanClz, is,
+                (sheetNo, sheetName) -> (rowNum, rowObj) -> listener.row(sheetNo, sheetName, rowNum, rowObj));
+    }
+
+    /**
+     * Reads all the sheets of the workbook in parallel (see {@link #readParallel(Class, InputStream, SheetRowListener)}
+     * ), delivering the rows of each sheet to its own listener. The listener of a sheet is only called from a single
+     * thread, hence it need not be thread-safe.
+     * 
+     * @param beanClz Class type of the Bean
+     * @param is {@link InputStream} of the workbook
+     * @param listenerFactory creates the listener of a sheet, from the sheet No. (indexed from 1) and the sheet name
+     * 
+     * @throws SpreadsheetReadException when there is a failure reading any of the sheets
+     * 
+     * @since 3.3.0
+     */
+    public <T> void readParallel(final Class<T> beanClz, final InputStream is,
+            final BiFunction<Integer, String, RowListener<T>> listenerFactory) throws SpreadsheetReadException {
+        // Sanity checks
+        if (!Beans.isInstantiableType(beanClz)) {
+            throw new IllegalArgumentException("XlsxReader :: Invalid bean type passed !");
+        }
+
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listenerFactory);
+        try {
+            this.readSheetsInParallel(is, listenerFactory,
+                    listener -> new RowContentsHandler<T>(beanClz, listener, headerRowIdx, lastRowIdx), false,
+                    readEvent, monitor);
         } catch (Exception ex) {
-            String errMsg = String.format("Error reading sheet %d, to Map : %s", sheetNo, ex.getMessage());
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
+            String errMsg =
+                    String.format("Error reading sheets in parallel, to Bean %s : %s", beanClz, ex.getMessage());
             LOGGER.error(errMsg, ex);
             throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(beanClz).commit();
+        }
+    }
+
+
+    //
+    // Read to Map
+
+    /**
+     * Reads all the sheets of the workbook in parallel, as Maps. See
+     * {@link #readParallel(Class, InputStream, SheetRowListener)}.
+     * 
+     * @param is {@link InputStream} of the workbook
+     * @param listener thread-safe listener of the rows of all the sheets
+     * 
+     * @throws SpreadsheetReadException when there is a failure reading any of the sheets
+     * 
+     * @since 3.3.0
+     */
+    public void readParallel(final InputStream is, final SheetRowListener<Map<String, Object>> listener)
+            throws SpreadsheetReadException {
+        // Sanity checks
+        if (Objects.isNull(listener)) {
+            throw new IllegalArgumentException("XlsxReader :: Sheet Row listener is NULL");
         }
 
+        this.readParallel(is,
+                (sheetNo, sheetName) -> (rowNum, rowObj) -> listener.row(sheetNo, sheetName, rowNum, rowObj));
+    }
+
+    /**
+     * Reads all the sheets of the workbook in parallel as Maps, delivering the rows of each sheet to its own listener.
+     * See {@link #readParallel(Class, InputStream, BiFunction)}.
+     * 
+     * @param is {@link InputStream} of the workbook
+     * @param listenerFactory creates the listener of a sheet, from the sheet No. (indexed from 1) and the sheet name
+     * 
+     * @throws SpreadsheetReadException when there is a failure reading any of the sheets
+     * 
+     * @since 3.3.0
+     */
+    public void readParallel(final InputStream is,
+            final BiFunction<Integer, String, RowListener<Map<String, Object>>> listenerFactory)
+            throws SpreadsheetReadException {
+        final JfrEvents.Event readEvent = JfrEvents.begin(JfrEvents.Type.READ);
+        final ReadMonitor monitor = this.newReadMonitor(listenerFactory);
+        try {
+            this.readSheetsInParallel(is, listenerFactory,
+                    listener -> new RowContentsAsMapHandler(listener, headerRowIdx, lastRowIdx, columnProjection),
+                    true, readEvent, monitor);
+        } catch (Exception ex) {
+            this.rethrowIfCancelled(ex);
+            if (StopReadingException.isStopSignal(ex)) {
+                LOGGER.debug("Reading stopped : {}", ex.getMessage());
+                return;
+            }
+
+            String errMsg = String.format("Error reading sheets in parallel, to Map : %s", ex.getMessage());
+            LOGGER.error(errMsg, ex);
+            throw new SpreadsheetReadException(errMsg, ex);
+        } finally {
+            readEvent.beanType(Map.class).commit();
+        }
     }
 
 
     // Private Methods
     // ------------------------------------------------------------------------
 
+    /**
+     * Parses all the sheets concurrently on the {@link #executor}, and waits for all of them to complete. A failure
+     * (or a stop signal) of any sheet stops the reading of the other sheets.
+     */
+    private <T> void readSheetsInParallel(final InputStream is,
+            final BiFunction<Integer, String, RowListener<T>> listenerFactory,
+            final Function<RowListener<T>, AbstractSheetContentsHandler> handlerFactory, final boolean resolveDates,
+            final JfrEvents.Event readEvent, final ReadMonitor monitor) throws Exception {
+        // Sanity checks
+        if (Objects.isNull(listenerFactory)) {
+            throw new IllegalArgumentException("XlsxReader :: Row listener factory is NULL");
+        }
+
+        try (final OPCPackage opcPkg = this.openPackage(is, readEvent, monitor);
+                final SharedStringsResource ssTable = this.openSharedStrings(opcPkg)) {
+            // XSSF Reader
+            final XSSFReader xssfReader = new XSSFReader(opcPkg);
+            this.setTotalBytes(opcPkg, monitor);
+
+            // Shared by all the sheets (read only)
+            final long start = this.phaseStart();
+            final StylesTable styles = rawValues && !resolveDates ? null : xssfReader.getStylesTable();
+            this.phaseTime(ReadMetrics.Phase.SHARED_STRINGS, start);
+
+            // Submit Sheets
+            final AtomicBoolean stopped = new AtomicBoolean(false);
+            final List<CompletableFuture<Void>> sheetTasks = new ArrayList<>();
+            final Exception failure;
+            try {
+                int sheetNo = 0;
+                for (final Map.Entry<String, String> sheet : this.getSheetRelIds(xssfReader).entrySet()) {
+                    final String sheetName = sheet.getKey();
+                    final RowListener<T> listener = listenerFactory.apply(++sheetNo, sheetName);
+                    final RowListener<T> sheetListener = new ParallelSheetListener<>(listener, stopped);
+
+                    // Sheet Parser
+                    final AbstractSheetContentsHandler sheetHandler = handlerFactory.apply(sheetListener);
+                    final XMLReader xmlReader = this.newXMLReaderInstance(ssTable.get(), styles, sheetHandler);
+
+                    // Sheet parts are opened in order, on the calling thread
+                    final InputStream sheetInpStream = xssfReader.getSheet(sheet.getValue());
+                    final ReadMonitor sheetMonitor = Objects.isNull(monitor) ? null : monitor.forSheet();
+                    final Runnable sheetTask = () -> this.parseSheet(xmlReader, sheetInpStream, sheetName, stopped,
+                            readEvent, sheetMonitor);
+
+                    sheetTasks.add(CompletableFuture.runAsync(sheetTask, executor).whenComplete((v, ex) -> {
+                        if (Objects.nonNull(ex)) {
+                            stopped.set(true);
+                        }
+                    }));
+                }
+            } catch (Exception ex) {
+                stopped.set(true);
+                throw ex;
+            } finally {
+                failure = this.awaitSheets(sheetTasks);
+            }
+
+            // Failures
+            if (Objects.nonNull(failure)) {
+                throw failure;
+            }
+        }
+    }
+
+    private void parseSheet(final XMLReader xmlReader, final InputStream sheetInpStream, final String sheetName,
+            final AtomicBoolean stopped, final JfrEvents.Event readEvent, final ReadMonitor monitor) {
+        try (final InputStream sheetStream = sheetInpStream) {
+            if (stopped.get()) {
+                return;
+            }
+
+            LOGGER.debug("Reading XLSX Sheet in parallel :: {}", sheetName);
+            this.parseSheet(xmlReader, sheetStream, sheetName, readEvent, monitor);
+        } catch (IOException | SAXException ex) {
+            final String errMsg = String.format("Error reading sheet %s : %s", sheetName, ex.getMessage());
+            throw new CompletionException(errMsg, ex);
+        }
+    }
+
+    /**
+     * Waits for all the Sheets to complete.
+     * 
+     * @return the first failure (other than the stop signals) of the sheets, or else the cancellation of the read (see
+     *         {@link ReadCancelledException}), if any.
+     */
+    private Exception awaitSheets(final List<CompletableFuture<Void>> sheetTasks) {
+        Exception failure = null;
+        Exception cancellation = null;
+        for (final CompletableFuture<Void> sheetTask : sheetTasks) {
+            try {
+                sheetTask.join();
+            } catch (CompletionException | CancellationException ex) {
+                final Throwable cause = Objects.isNull(ex.getCause()) ? ex : ex.getCause();
+                if (Objects.isNull(cancellation)) {
+                    cancellation = ReadCancelledException.getCancellation(cause);
+                }
+                if (Objects.isNull(failure) && !StopReadingException.isStopSignal(cause)) {
+                    failure = cause instanceof Exception ? (Exception) cause : ex;
+                }
+            }
+        }
+
+        return Objects.isNull(failure) ? cancellation : failure;
+    }
+
+    /**
+     * Parses only the Sheet part with the passed relationship id.
+     */
+    private void parseSheet(final XSSFReader xssfReader, final XMLReader xmlReader, final String sheetName,
+            final String sheetRelId, final JfrEvents.Event readEvent, final ReadMonitor monitor)
+            throws InvalidFormatException, IOException, SAXException {
+        try (final InputStream sheetInpStream = xssfReader.getSheet(sheetRelId)) {
+            this.parseSheet(xmlReader, sheetInpStream, sheetName, readEvent, monitor);
+        }
+    }
+
+    /**
+     * Parses the Sheet XML, until the end of the sheet or until the rest of the sheet is not needed.
+     */
+    private void parseSheet(final XMLReader xmlReader, final InputStream sheetInpStream, final String sheetName,
+            final JfrEvents.Event readEvent, final ReadMonitor monitor) throws IOException, SAXException {
+        final AbstractSheetContentsHandler sheetHandler =
+                ((ColumnProjectionHandler) xmlReader.getContentHandler()).getSheetHandler();
+        final long rowsBefore = sheetHandler.getRowsRead();
+
+        // Progress : the (in memory) sheet part is available in full
+        if (Objects.nonNull(monitor)) {
+            sheetHandler.setMonitor(monitor);
+            monitor.startSheet(sheetName, sheetInpStream.available());
+        }
+
+        // Metrics, Events and Progress : count the (inflated) bytes of the sheet part
+        final JfrEvents.Event sheetEvent = JfrEvents.begin(JfrEvents.Type.SHEET_PARSE);
+        final boolean metered = metrics.isEnabled();
+        final long start = this.phaseStart();
+        final CountingInputStream countingStream = metered || sheetEvent.isRecording() || Objects.nonNull(monitor)
+                ? new CountingInputStream(sheetInpStream, Objects.isNull(monitor) ? null : monitor::bytesRead)
+                : null;
+
+        try {
+            sheetHandler.startSheet(sheetName);
+            xmlReader.parse(new InputSource(Objects.isNull(countingStream) ? sheetInpStream : countingStream));
+        } catch (IOException | SAXException | RuntimeException ex) {
+            if (!SheetEndException.isSheetEndSignal(ex)) {
+                throw ex;
+            }
+
+            LOGGER.debug("Skipped the rest of the Sheet : {}", ex.getMessage());
+        } finally {
+            sheetHandler.endSheet();
+
+            final long rows = sheetHandler.getRowsRead() - rowsBefore;
+            final long bytes = Objects.isNull(countingStream) ? 0L : countingStream.getCount();
+            readEvent.addRows(rows);
+            sheetEvent.beanType(sheetHandler.getRowType()).sheetName(sheetName).rows(rows).bytes(bytes).commit();
+
+            if (metered) {
+                metrics.bytesInflated(bytes);
+                this.phaseTime(ReadMetrics.Phase.PARSE, start);
+            }
+        }
+
+        if (Objects.nonNull(monitor)) {
+            monitor.endSheet();
+        }
+    }
+
+    /**
+     * @return the name and the relationship id of the Sheet at the passed No., or <code>null</code> if none.
+     */
+    private Map.Entry<String, String> resolveSheet(final XSSFReader xssfReader, final int sheetNo)
+            throws InvalidFormatException, IOException, SAXException, ParserConfigurationException {
+        int i = 1;
+        for (final Map.Entry<String, String> sheet : this.getSheetRelIds(xssfReader).entrySet()) {
+            if (i++ == sheetNo) {
+                return sheet;
+            }
+        }
+        return null;
+    }
+
+    private String resolveSheetRelId(final XSSFReader xssfReader, final String sheetName)
+            throws InvalidFormatException, IOException, SAXException, ParserConfigurationException {
+        for (final Map.Entry<String, String> entry : this.getSheetRelIds(xssfReader).entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(sheetName.trim())) {
+                return entry.getValue();
+            }
+        }
+
+        final String errMsg = String.format("No Sheet found with the name : %s", sheetName);
+        throw new IllegalArgumentException(errMsg);
+    }
+
+    /**
+     * Reads the Sheet names and their relationship ids from the workbook part, in the order of the sheets. Unlike the
+     * {@link SheetIterator}, none of the sheet parts are opened.
+     */
+    private Map<String, String> getSheetRelIds(final XSSFReader xssfReader)
+            throws InvalidFormatException, IOException, SAXException, ParserConfigurationException {
+        final WorkbookSheetsHandler handler = new WorkbookSheetsHandler();
+
+        final XMLReader xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(handler);
+        try (final InputStream wbInpStream = xssfReader.getWorkbookData()) {
+            xmlReader.parse(new InputSource(wbInpStream));
+        }
+
+        LOGGER.debug("Workbook Sheets [name - relId] : {}", handler.sheetRelIds);
+        return handler.sheetRelIds;
+    }
+
+    /**
+     * Opens the shared strings table of the workbook for the read, timing the {@link ReadMetrics.Phase#SHARED_STRINGS}
+     * phase. The table is released once the returned resource is closed.
+     */
+    private SharedStringsResource openSharedStrings(final OPCPackage opcPkg) throws IOException, SAXException {
+        final long start = this.phaseStart();
+        final SharedStrings ssTable = this.newSharedStrings(opcPkg);
+        this.phaseTime(ReadMetrics.Phase.SHARED_STRINGS, start);
+
+        return new SharedStringsResource(ssTable);
+    }
+
+    /**
+     * Loads the shared strings table of the workbook, as per the {@link #sharedStringsStrategy}.
+     */
+    private SharedStrings newSharedStrings(final OPCPackage opcPkg) throws IOException, SAXException {
+        final List<PackagePart> parts = opcPkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+        final PackagePart sstPart = parts.isEmpty() ? null : parts.get(0);
+
+        final boolean offHeap;
+        switch (sharedStringsStrategy) {
+            case OFF_HEAP:
+                offHeap = true;
+                break;
+            case AUTO:
+                offHeap = Objects.nonNull(sstPart) && sstPart.getSize() >= offHeapThreshold;
+                break;
+            case ON_HEAP:
+            default:
+                offHeap = false;
+                break;
+        }
+
+        LOGGER.debug("Loading the Shared Strings {} the heap", offHeap ? "off" : "in");
+        if (metrics.isEnabled() && Objects.nonNull(sstPart) && sstPart.getSize() > 0) {
+            metrics.bytesInflated(sstPart.getSize());
+        }
+
+        if (offHeap) {
+            return new OffHeapSharedStrings(sstPart);
+        }
+
+        return new ReadOnlySharedStringsTable(opcPkg);
+    }
+
+    /**
+     * Opens the workbook package, timing the {@link ReadMetrics.Phase#OPEN} phase, counting the bytes of the package
+     * for the read event and checking the cancellation as the package is read.
+     */
+    private OPCPackage openPackage(final InputStream is, final JfrEvents.Event readEvent, final ReadMonitor monitor)
+            throws InvalidFormatException, IOException {
+        final long start = this.phaseStart();
+        if (!readEvent.isRecording() && Objects.isNull(monitor)) {
+            final OPCPackage opcPkg = OPCPackage.open(is);
+            this.phaseTime(ReadMetrics.Phase.OPEN, start);
+            return opcPkg;
+        }
+
+        final CountingInputStream countingStream =
+                new CountingInputStream(is, Objects.isNull(monitor) ? null : n -> monitor.checkCancelled());
+        final OPCPackage opcPkg = OPCPackage.open(countingStream);
+        readEvent.bytes(countingStream.getCount());
+        this.phaseTime(ReadMetrics.Phase.OPEN, start);
+
+        return opcPkg;
+    }
+
+    /**
+     * Sets the total bytes of the progress, as the (uncompressed) size of all the worksheet parts.
+     */
+    private void setTotalBytes(final OPCPackage opcPkg, final ReadMonitor monitor) {
+        if (Objects.isNull(monitor)) {
+            return;
+        }
+
+        long totalBytes = 0;
+        for (final PackagePart part : opcPkg.getPartsByContentType(XSSFRelation.WORKSHEET.getContentType())) {
+            totalBytes += Math.max(0L, part.getSize());
+        }
+
+        monitor.setTotalBytes(totalBytes > 0 ? totalBytes : -1);
+    }
+
+    /**
+     * @return a new {@link RowPipeline} of the passed listener if pipelined, or else <code>null</code>.
+     */
+    private <T> RowPipeline<T> newRowPipeline(final RowListener<T> listener) {
+        if (pipelineWorkers <= 0) {
+            return null;
+        }
+
+        return new RowPipeline<>(listener, pipelineExecutor, pipelineWorkers, pipelineCapacity, pipelineOrdering);
+    }
+
     /**
      * Create new XMLReader for the passed configuration
      * 
      * @param beanClz The Bean Class type of the Data
-     * @param opcPkg
+     * @param ssTable the shared strings table of the workbook
      * @param xssfReader
      * @param listener instance of the {@link RowListener}
+     * @param pipeline the {@link RowPipeline} to bind the rows on, if pipelined
      * 
      * @return
      */
-    private <T> XMLReader newXMLReaderInstance(final Class<T> beanClz, final OPCPackage opcPkg,
-            final XSSFReader xssfReader, final RowListener<T> listener)
+    private <T> XMLReader newXMLReaderInstance(final Class<T> beanClz, final SharedStrings ssTable,
+            final XSSFReader xssfReader, final RowListener<T> listener, final RowPipeline<T> pipeline)
             throws InvalidFormatException, IOException, SAXException, ParserConfigurationException {
-        // Content Handler
-        final StylesTable styles = xssfReader.getStylesTable();
-        final ReadOnlySharedStringsTable ssTable = new ReadOnlySharedStringsTable(opcPkg);
-        final SheetContentsHandler sheetHandler =
-                new RowContentsHandler<T>(beanClz, listener, headerRowIdx, lastRowIdx);
+        // Sheet Handler
+        final AbstractSheetContentsHandler sheetHandler = Objects.isNull(pipeline) //
+                ? new RowContentsHandler<T>(beanClz, listener, headerRowIdx, lastRowIdx)
+                : new RowContentsHandler<T>(beanClz, pipeline, headerRowIdx, lastRowIdx);
 
-        final ContentHandler handler = new XSSFSheetXMLHandler(styles, ssTable, sheetHandler, true);
+        // The bean properties drive the date conversions, hence no styles needed in raw mode
+        return this.newXMLReaderInstance(ssTable, xssfReader, sheetHandler, false);
+    }
 
-        // XML Reader
-        final XMLReader xmlReader = XMLHelper.newXMLReader();
-        xmlReader.setContentHandler(handler);
+    private XMLReader newXMLReaderInstance(final SharedStrings ssTable, final XSSFReader xssfReader,
+            final RowListener<Map<String, Object>> listener)
+            throws InvalidFormatException, IOException, SAXException, ParserConfigurationException {
+        // Sheet Handler
+        final AbstractSheetContentsHandler sheetHandler =
+                new RowContentsAsMapHandler(listener, headerRowIdx, lastRowIdx, columnProjection);
 
-        return xmlReader;
+        return this.newXMLReaderInstance(ssTable, xssfReader, sheetHandler, true);
     }
 
-    private XMLReader newXMLReaderInstance(final OPCPackage opcPkg, final XSSFReader xssfReader,
-            final RowListener<Map<String, Object>> listener)
+    private XMLReader newXMLReaderInstance(final SharedStrings ssTable, final XSSFReader xssfReader,
+            final AbstractSheetContentsHandler sheetHandler, final boolean resolveDates)
             throws InvalidFormatException, IOException, SAXException, ParserConfigurationException {
-        // Content Handler
-        final StylesTable styles = xssfReader.getStylesTable();
-        final ReadOnlySharedStringsTable ssTable = new ReadOnlySharedStringsTable(opcPkg);
-        final SheetContentsHandler sheetHandler = new RowContentsAsMapHandler(listener, headerRowIdx, lastRowIdx);
+        final long start = this.phaseStart();
+        final StylesTable styles = rawValues && !resolveDates ? null : xssfReader.getStylesTable();
+        this.phaseTime(ReadMetrics.Phase.SHARED_STRINGS, start);
 
-        final ContentHandler handler = new XSSFSheetXMLHandler(styles, ssTable, sheetHandler, true);
+        return this.newXMLReaderInstance(ssTable, styles, sheetHandler);
+    }
+
+    private XMLReader newXMLReaderInstance(final SharedStrings ssTable, final StylesTable styles,
+            final AbstractSheetContentsHandler sheetHandler) throws SAXException, ParserConfigurationException {
+        sheetHandler.setRowLimit(limit);
+        sheetHandler.setMetrics(metrics);
+
+        // Content Handler
+        final ContentHandler handler = rawValues //
+                ? new RawSheetXMLHandler(ssTable, styles, sheetHandler)
+                : new XSSFSheetXMLHandler(styles, ssTable, sheetHandler, true);
 
-        // XML Reader
+        // XML Reader, dropping the cells of the columns not needed
         final XMLReader xmlReader = XMLHelper.newXMLReader();
-        xmlReader.setContentHandler(handler);
+        xmlReader.setContentHandler(new ColumnProjectionHandler(handler, sheetHandler));
 
         return xmlReader;
     }
 
+
+    // Shared Strings Resource
+    // ------------------------------------------------------------------------
+
+    /**
+     * Shared strings table of a read, which releases the table (the temp files of an {@link OffHeapSharedStrings})
+     * once closed.
+     */
+    private static final class SharedStringsResource implements Closeable {
+
+        private final SharedStrings table;
+
+        private SharedStringsResource(final SharedStrings table) {
+            super();
+
+            // init
+            this.table = table;
+        }
+
+        private SharedStrings get() {
+            return table;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (table instanceof Closeable) {
+                ((Closeable) table).close();
+            }
+        }
+
+    }
+
+
+    // Parallel Sheet Listener
+    // ------------------------------------------------------------------------
+
+    /**
+     * Row listener of a sheet read in parallel, which stops the sheet once any of the sheets is stopped or failed.
+     */
+    private static final class ParallelSheetListener<T> implements RowListener<T> {
+
+        private final RowListener<T> delegate;
+        private final AtomicBoolean stopped;
+
+        private ParallelSheetListener(final RowListener<T> delegate, final AtomicBoolean stopped) {
+            super();
+
+            // init
+            this.delegate = Objects.requireNonNull(delegate, "Sheet Row listener is NULL");
+            this.stopped = stopped;
+        }
+
+        @Override
+        public void beforeRow(final int rowNum) {
+            this.checkStopped();
+            delegate.beforeRow(rowNum);
+        }
+
+        @Override
+        public void row(final int rowNum, final T rowObj) {
+            this.checkStopped();
+            delegate.row(rowNum, rowObj);
+        }
+
+        @Override
+        public void beforeSheet(final String sheetName) {
+            this.checkStopped();
+            delegate.beforeSheet(sheetName);
+        }
+
+        @Override
+        public void afterSheet(final String sheetName) {
+            delegate.afterSheet(sheetName);
+        }
+
+        private void checkStopped() {
+            if (stopped.get()) {
+                throw new StopReadingException("Reading stopped by another Sheet");
+            }
+        }
+
+    }
+
+
+    // Workbook Sheets Handler
+    // ------------------------------------------------------------------------
+
+    private static final class WorkbookSheetsHandler extends DefaultHandler {
+
+        private final Map<String, String> sheetRelIds = new LinkedHashMap<>();
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName,
+                final Attributes attrs) {
+            if (!"sheet".equals(localName)) {
+                return;
+            }
+
+            // Relationship id (r:id), of the transitional or the strict namespace
+            String relId = null;
+            for (int i = 0; i < attrs.getLength(); i++) {
+                if ("id".equals(attrs.getLocalName(i))) {
+                    relId = attrs.getValue(i);
+                    break;
+                }
+            }
+
+            sheetRelIds.put(attrs.getValue("name"), relId);
+        }
+
+    }
+
+
 }
@@ -1,16 +1,23 @@
 package io.github.millij.poi.ss.writer;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -18,6 +25,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.millij.poi.ss.model.Column;
+import io.github.millij.poi.ss.model.DateTimeType;
+import io.github.millij.poi.ss.model.annotations.SheetColumn;
+import io.github.millij.poi.util.JfrEvents;
 import io.github.millij.poi.util.Spreadsheet;
 import io.github.millij.poi.util.Strings;
 
@@ -31,9 +41,31 @@ abstract class AbstractSpreadsheetWriter implements SpreadsheetWriter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSpreadsheetWriter.class);
 
+    private static final double DAY_MILLIS = 24 * 60 * 60 * 1000D;
+
+    // Default (Excel) formats of the Date values
+    private static final String DEFAULT_DATE_FORMAT = "yyyy-mm-dd hh:mm:ss";
+    private static final String DEFAULT_LOCAL_DATE_FORMAT = "yyyy-mm-dd";
+    private static final Map<DateTimeType, String> DEFAULT_DATETIME_FORMATS = new EnumMap<>(DateTimeType.class);
+    static {
+        DEFAULT_DATETIME_FORMATS.put(DateTimeType.TIME, "hh:mm:ss");
+        DEFAULT_DATETIME_FORMATS.put(DateTimeType.DURATION, "[h]:mm:ss");
+    }
+
 
     protected final Workbook workbook;
 
+    // Cell styles, by data format
+    private final Map<String, CellStyle> formatStyles;
+    private DataFormat dataFormat;
+
+    // Excel formats of the Java date patterns (blank, if not convertible)
+    private final Map<String, String> excelDateFormats;
+
+    // Rows written and their type (for the write event)
+    private long rowCount;
+    private Class<?> rowType;
+
 
     // Constructors
     // ------------------------------------------------------------------------
@@ -43,6 +75,14 @@ abstract class AbstractSpreadsheetWriter implements SpreadsheetWriter {
 
         // init
         this.workbook = workbook;
+
+        this.formatStyles = new HashMap<>();
+        this.dataFormat = null;
+
+        this.excelDateFormats = new HashMap<>();
+
+        this.rowCount = 0;
+        this.rowType = null;
     }
 
 
@@ -55,51 +95,42 @@ abstract class AbstractSpreadsheetWriter implements SpreadsheetWriter {
     @Override
     public <T> void addSheet(final Class<T> beanType, final List<T> rowObjects, final String inSheetName,
             final List<String> inHeaders) {
+        final Iterator<T> beans = Objects.isNull(rowObjects) ? null : rowObjects.iterator();
+        this.addSheet(beanType, beans, inSheetName, inHeaders);
+    }
+
+    @Override
+    public <T> void addSheet(final Class<T> beanType, final Iterator<T> rowObjects, final String inSheetName,
+            final List<String> inHeaders) {
         // Sanity checks
         if (Objects.isNull(beanType)) {
             throw new IllegalArgumentException("#addSheet :: Bean Type is NULL");
         }
 
         // Sheet config
-        final String defaultSheetName = Spreadsheet.getSheetName(beanType);
-        final List<String> defaultHeaders = this.getColumnNames(beanType);
-
-        // output config
-        final String sheetName = Objects.isNull(inSheetName) ? defaultSheetName : inSheetName;
-        final List<String> headers = Objects.isNull(inHeaders) || inHeaders.isEmpty() ? defaultHeaders : inHeaders;
+        final String sheetName = Objects.isNull(inSheetName) ? Spreadsheet.getSheetName(beanType) : inSheetName;
+        final BeanColumnPlan plan = BeanColumnPlan.of(beanType, inHeaders);
 
         try {
-            final Sheet exSheet = workbook.getSheet(sheetName);
-            if (Objects.nonNull(exSheet)) {
-                String errMsg = String.format("A Sheet with the passed name already exists : %s", sheetName);
-                throw new IllegalArgumentException(errMsg);
-            }
-
             // Create sheet
-            final Sheet sheet = Strings.isBlank(sheetName) //
-                    ? workbook.createSheet() //
-                    : workbook.createSheet(sheetName);
-            LOGGER.debug("Added new Sheet[name] to the workbook : {}", sheet.getSheetName());
-
-            // Header
-            final Row headerRow = sheet.createRow(0);
-            for (int i = 0; i < headers.size(); i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers.get(i));
+            final Sheet sheet = this.createSheet(sheetName, plan.getHeaders());
+            this.setRowType(beanType);
+            if (Objects.isNull(rowObjects)) {
+                return;
             }
 
             // Data Rows
-            final Map<String, List<String>> rowsData = this.prepareSheetRowsData(headers, rowObjects);
-            for (int i = 0, rowNum = 1; i < rowObjects.size(); i++, rowNum++) {
-                final Row row = sheet.createRow(rowNum);
-
-                int cellNo = 0;
-                for (String key : rowsData.keySet()) {
-                    Cell cell = row.createCell(cellNo);
-                    String value = rowsData.get(key).get(i);
-                    cell.setCellValue(value);
-                    cellNo++;
+            final int colCount = plan.size();
+            int rowNum = 1;
+            while (rowObjects.hasNext()) {
+                final T rowObj = rowObjects.next();
+                final Row row = sheet.createRow(rowNum++);
+
+                for (int cellNo = 0; cellNo < colCount; cellNo++) {
+                    final Cell cell = row.createCell(cellNo);
+                    this.setCellValue(cell, plan.getValue(rowObj, cellNo), plan.getColumn(cellNo));
                 }
+                rowCount++;
             }
 
         } catch (Exception ex) {
@@ -118,34 +149,32 @@ abstract class AbstractSpreadsheetWriter implements SpreadsheetWriter {
         if (Objects.isNull(rowsData)) {
             throw new IllegalArgumentException("#addSheet :: Rows data map is NULL");
         }
+
+        this.addSheet(rowsData.iterator(), inSheetName, inHeaders);
+    }
+
+    @Override
+    public void addSheet(final Iterator<Map<String, Object>> rowsData, final String inSheetName,
+            final List<String> inHeaders) {
+        // Sanity check
+        if (Objects.isNull(rowsData)) {
+            throw new IllegalArgumentException("#addSheet :: Rows data map is NULL");
+        }
         if (Objects.isNull(inHeaders) || inHeaders.isEmpty()) {
             throw new IllegalArgumentException("#addSheet :: Headers list is NULL or EMPTY");
         }
 
         try {
-            final Sheet exSheet = workbook.getSheet(inSheetName);
-            if (Objects.nonNull(exSheet)) {
-                String errMsg = String.format("A Sheet with the passed name already exists : %s", inSheetName);
-                throw new IllegalArgumentException(errMsg);
-            }
-
             // Create sheet
-            final Sheet sheet = Strings.isBlank(inSheetName) //
-                    ? workbook.createSheet() //
-                    : workbook.createSheet(inSheetName);
-            LOGGER.debug("Added new Sheet[name] to the workbook : {}", sheet.getSheetName());
-
-            // Header
-            final Row headerRow = sheet.createRow(0);
-            for (int cellNum = 0; cellNum < inHeaders.size(); cellNum++) {
-                final Cell cell = headerRow.createCell(cellNum);
-                cell.setCellValue(inHeaders.get(cellNum));
-            }
+            final Sheet sheet = this.createSheet(inSheetName, inHeaders);
+            this.setRowType(Map.class);
 
             // Data Rows
-            for (int i = 0, rowNum = 1; i < rowsData.size(); i++, rowNum++) {
-                final Row row = sheet.createRow(rowNum);
-                final Map<String, Object> rowData = rowsData.get(i);
+            int rowNum = 1;
+            while (rowsData.hasNext()) {
+                final Map<String, Object> rowData = rowsData.next();
+                final Row row = sheet.createRow(rowNum++);
+                rowCount++;
                 if (Objects.isNull(rowData) || rowData.isEmpty()) {
                     continue; // Skip if row is null
                 }
@@ -155,9 +184,7 @@ abstract class AbstractSpreadsheetWriter implements SpreadsheetWriter {
                     final Object value = rowData.get(key);
 
                     final Cell cell = row.createCell(cellNum);
-                    if (Objects.nonNull(value)) {
-                        cell.setCellValue(String.valueOf(value));
-                    }
+                    this.setCellValue(cell, value, null);
                 }
             }
         } catch (Exception ex) {
@@ -171,42 +198,344 @@ abstract class AbstractSpreadsheetWriter implements SpreadsheetWriter {
 
     @Override
     public void write(final OutputStream outputStrem) throws IOException {
-        workbook.write(outputStrem);
-        workbook.close();
+        final JfrEvents.Event event = JfrEvents.begin(JfrEvents.Type.WRITE);
+        if (!event.isRecording()) {
+            workbook.write(outputStrem);
+            workbook.close();
+            return;
+        }
+
+        // Count the bytes written, for the event
+        final CountingOutputStream countingStream = new CountingOutputStream(outputStrem);
+        try {
+            workbook.write(countingStream);
+            workbook.close();
+        } finally {
+            event.beanType(rowType).sheetName(this.getSheetNames()).rows(rowCount).bytes(countingStream.count) //
+                    .commit();
+        }
     }
 
 
     // Private Methods
     // ------------------------------------------------------------------------
 
-    private <T> Map<String, List<String>> prepareSheetRowsData(List<String> headers, List<T> rowObjects)
-            throws Exception {
-        // Sheet data
-        final Map<String, List<String>> sheetData = new LinkedHashMap<>();
+    private void setRowType(final Class<?> type) {
+        // Type of the rows of all the sheets, or else Object
+        rowType = Objects.isNull(rowType) || rowType.equals(type) ? type : Object.class;
+    }
+
+    private String getSheetNames() {
+        final StringBuilder sheetNames = new StringBuilder();
+        for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
+            sheetNames.append(i == 0 ? "" : ", ").append(workbook.getSheetName(i));
+        }
+        return sheetNames.toString();
+    }
+
+    private Sheet createSheet(final String sheetName, final List<String> headers) {
+        final Sheet exSheet = workbook.getSheet(sheetName);
+        if (Objects.nonNull(exSheet)) {
+            String errMsg = String.format("A Sheet with the passed name already exists : %s", sheetName);
+            throw new IllegalArgumentException(errMsg);
+        }
+
+        // Create sheet
+        final Sheet sheet = Strings.isBlank(sheetName) //
+                ? workbook.createSheet() //
+                : workbook.createSheet(sheetName);
+        LOGGER.debug("Added new Sheet[name] to the workbook : {}", sheet.getSheetName());
+
+        // Header
+        final Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < headers.size(); i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(headers.get(i));
+        }
+
+        return sheet;
+    }
+
+    // Cell Value
+    // ------------------------------------------------------------------------
+
+    /**
+     * Sets the typed value of the cell : the numbers, booleans and dates are written natively, with the data format
+     * of the {@link Column} (if any), and the rest as Strings.
+     * 
+     * <p>
+     * The numeric values of the {@link DateTimeType#DATE} columns are written as dates (epoch millis), and those of the
+     * {@link DateTimeType#TIME} and {@link DateTimeType#DURATION} columns as the fraction of the day (millis).
+     * </p>
+     * 
+     * @param cell the {@link Cell} to set the value of
+     * @param value the value, <code>null</code> leaves the cell blank
+     * @param column the {@link Column} definition of the cell, if any
+     * 
+     * @since 3.3.0
+     */
+    protected void setCellValue(final Cell cell, final Object value, final Column column) {
+        // Sanity checks
+        if (Objects.isNull(value)) {
+            return;
+        }
+
+        final DateTimeType datetimeType = Objects.isNull(column) || Objects.isNull(column.getDatetimeType()) //
+                ? DateTimeType.NONE
+                : column.getDatetimeType();
+        final String format = Objects.isNull(column) ? null : column.getFormat();
+
+        // Dates
+        final String defaultFormat = DEFAULT_DATETIME_FORMATS.getOrDefault(datetimeType, DEFAULT_DATE_FORMAT);
+        if (value instanceof Date) {
+            cell.setCellValue((Date) value);
+            this.setCellFormat(cell, format, defaultFormat);
+        } else if (value instanceof Calendar) {
+            cell.setCellValue((Calendar) value);
+            this.setCellFormat(cell, format, defaultFormat);
+        } else if (value instanceof LocalDateTime) {
+            cell.setCellValue((LocalDateTime) value);
+            this.setCellFormat(cell, format, defaultFormat);
+        } else if (value instanceof LocalDate) {
+            cell.setCellValue((LocalDate) value);
+            this.setCellFormat(cell, format,
+                    DEFAULT_DATETIME_FORMATS.getOrDefault(datetimeType, DEFAULT_LOCAL_DATE_FORMAT));
+        }
 
-        // Iterate over Objects
-        for (final T rowObj : rowObjects) {
-            final Map<String, String> row = Spreadsheet.asRowDataMap(rowObj, headers);
-            for (final String header : headers) {
-                final List<String> data = sheetData.getOrDefault(header, new ArrayList<>());
-                final String value = row.getOrDefault(header, "");
+        // Numbers
+        else if (value instanceof Number) {
+            final Number numValue = (Number) value;
+            switch (datetimeType) {
+                case DATE:
+                    cell.setCellValue(new Date(numValue.longValue()));
+                    this.setCellFormat(cell, format, defaultFormat);
+                    break;
+                case TIME:
+                case DURATION:
+                    cell.setCellValue(numValue.doubleValue() / DAY_MILLIS);
+                    this.setCellFormat(cell, format, defaultFormat);
+                    break;
+                case NONE:
+                default:
+                    cell.setCellValue(numValue.doubleValue());
+                    this.setCellFormat(cell, format, null);
+                    break;
+            }
+        }
 
-                data.add(value);
-                sheetData.put(header, data);
+        // Others
+        else if (value instanceof Boolean) {
+            cell.setCellValue((Boolean) value);
+        } else {
+            cell.setCellValue(String.valueOf(value));
+        }
+    }
+
+    /**
+     * Sets the data format of the cell : the format (a Java date pattern, for the date/time cells), or else the
+     * default format.
+     *
+     * @param defaultFormat the default (Excel) format of the date/time cells, <code>null</code> for the other cells
+     */
+    private void setCellFormat(final Cell cell, final String format, final String defaultFormat) {
+        final boolean isDateTime = Objects.nonNull(defaultFormat);
+        final String dataFormat;
+        if (!Strings.isBlank(format)) {
+            dataFormat = isDateTime ? this.getExcelDateFormat(format, defaultFormat) : format;
+        } else if (isDateTime) {
+            dataFormat = defaultFormat;
+        } else {
+            return; // General
+        }
+
+        cell.setCellStyle(this.getCellStyle(dataFormat));
+    }
+
+    /**
+     * Get the (cached) Excel format of the Java date pattern, or the default format if the pattern has no Excel
+     * equivalent.
+     */
+    private String getExcelDateFormat(final String javaFormat, final String defaultFormat) {
+        final String excelFormat = excelDateFormats.computeIfAbsent(javaFormat, f -> {
+            final String converted = asExcelDateFormat(f);
+            if (Objects.isNull(converted)) {
+                LOGGER.warn("No Excel equivalent of the date format '{}', writing the default format", f);
+                return "";
             }
+
+            return converted;
+        });
+
+        return excelFormat.isEmpty() ? defaultFormat : excelFormat;
+    }
+
+    /**
+     * Converts the Java date pattern (as in the {@link SheetColumn#format()}) to the Excel date format. The quoted
+     * text is written as Excel literals, and the Excel formats tell the months from the minutes by the position.
+     *
+     * @param javaFormat the Java ({@link java.text.SimpleDateFormat}) date pattern
+     *
+     * @return the Excel date format, or <code>null</code> if the pattern has fields with no Excel equivalent (ex. the
+     *         zones, the day number of the week or the 1-24 hours)
+     */
+    static String asExcelDateFormat(final String javaFormat) {
+        final StringBuilder excelFormat = new StringBuilder(javaFormat.length() + 8);
+        char lastLetter = 0;
+        final int len = javaFormat.length();
+        for (int i = 0; i < len;) {
+            final char ch = javaFormat.charAt(i);
+
+            // Quoted text ('' being a quote)
+            if (ch == '\'') {
+                final StringBuilder text = new StringBuilder();
+                int end = i + 1;
+                if (end < len && javaFormat.charAt(end) == '\'') {
+                    text.append('\'');
+                } else {
+                    for (; end < len; end++) {
+                        if (javaFormat.charAt(end) == '\'') {
+                            if (end + 1 < len && javaFormat.charAt(end + 1) == '\'') {
+                                text.append('\'');
+                                end++;
+                                continue;
+                            }
+                            break;
+                        }
+                        text.append(javaFormat.charAt(end));
+                    }
+                }
+
+                appendLiteral(excelFormat, text);
+                i = end + 1;
+                continue;
+            }
+
+            // Literals
+            if (!((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z'))) {
+                if (" -/:.,()".indexOf(ch) < 0) {
+                    excelFormat.append('\\');
+                }
+                excelFormat.append(ch);
+                i++;
+                continue;
+            }
+
+            // Fields
+            int end = i + 1;
+            while (end < len && javaFormat.charAt(end) == ch) {
+                end++;
+            }
+
+            final int count = end - i;
+            switch (ch) {
+                case 'y':
+                    excelFormat.append(count == 1 ? "yyyy" : repeat('y', count));
+                    break;
+                case 'M':
+                case 'L':
+                    excelFormat.append(repeat('m', Math.min(count, 4)));
+                    break;
+                case 'd':
+                    excelFormat.append(repeat('d', Math.min(count, 2)));
+                    break;
+                case 'E':
+                    excelFormat.append(count >= 4 ? "dddd" : "ddd");
+                    break;
+                case 'H':
+                case 'h':
+                    excelFormat.append(repeat('h', Math.min(count, 2)));
+                    break;
+                case 'm':
+                case 's':
+                    excelFormat.append(repeat(ch, Math.min(count, 2)));
+                    break;
+                case 'S':
+                    // Fraction of the seconds, only right after the seconds ("ss.SSS")
+                    if (lastLetter != 's' || excelFormat.length() == 0
+                            || excelFormat.charAt(excelFormat.length() - 1) != '.') {
+                        return null;
+                    }
+                    excelFormat.append(repeat('0', Math.min(count, 3)));
+                    break;
+                case 'a':
+                    excelFormat.append("AM/PM");
+                    break;
+                default:
+                    // No Excel equivalent (ex. G, Y, w, W, D, F, u, k, K, z, Z, X)
+                    return null;
+            }
+
+            lastLetter = ch;
+            i = end;
+        }
+
+        return excelFormat.toString();
+    }
+
+    private static void appendLiteral(final StringBuilder excelFormat, final CharSequence text) {
+        // In quotes, but the quotes (escaped)
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            final char ch = text.charAt(i);
+            if ((ch == '"') == quoted) {
+                excelFormat.append('"');
+                quoted = !quoted;
+            }
+            excelFormat.append(ch == '"' ? "\\\"" : String.valueOf(ch));
+        }
+        if (quoted) {
+            excelFormat.append('"');
         }
+    }
+
+    private static String repeat(final char ch, final int count) {
+        final char[] chars = new char[count];
+        Arrays.fill(chars, ch);
+        return new String(chars);
+    }
+
+    /**
+     * Get the (cached) {@link CellStyle} of the data format. The styles are shared by all the cells of the workbook
+     * with the same format, to stay within the limit of the styles of a workbook.
+     */
+    private CellStyle getCellStyle(final String dataFormat) {
+        return formatStyles.computeIfAbsent(dataFormat, format -> {
+            if (Objects.isNull(this.dataFormat)) {
+                this.dataFormat = workbook.createDataFormat();
+            }
+
+            final CellStyle style = workbook.createCellStyle();
+            style.setDataFormat(this.dataFormat.getFormat(format));
 
-        return sheetData;
+            LOGGER.debug("Created a Cell style of the data format : {}", format);
+            return style;
+        });
     }
 
-    private List<String> getColumnNames(Class<?> beanType) {
-        // Bean Property to Column Mapping
-        final Map<String, Column> propToColumnMap = Spreadsheet.getPropertyToColumnDefMap(beanType);
-        final List<Column> colums = new ArrayList<>(propToColumnMap.values());
-        Collections.sort(colums);
 
-        final List<String> columnNames = colums.stream().map(Column::getName).collect(Collectors.toList());
-        return columnNames;
+    // Counting OutputStream
+    // ------------------------------------------------------------------------
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
     }
 
 
@@ -0,0 +1,154 @@
+package io.github.millij.poi.ss.writer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.millij.poi.ss.model.BeanSchema;
+import io.github.millij.poi.ss.model.Column;
+import io.github.millij.poi.util.BeanAccessor;
+import io.github.millij.poi.util.PropertyAccessor;
+import io.github.millij.poi.util.Spreadsheet;
+
+
+/**
+ * Ordered column extractors of a Bean type, i.e., for each of the headers of a sheet, the accessor of the bean
+ * property to write in that column and its {@link Column} definition. The writers resolve the plan once per sheet and
+ * then write the beans a row at a time, reading the cell values straight off the beans.
+ *
+ * <p>
+ * The plan of the default headers (all the columns of the bean type) is computed only once per bean type and cached,
+ * against the {@link BeanSchema} it was built from. The plans are immutable and safe to be shared across threads.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+final class BeanColumnPlan {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BeanColumnPlan.class);
+
+    private final BeanSchema schema;
+    private final List<String> headers;
+
+    private final PropertyAccessor[] extractors;
+    private final Column[] columns;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    private BeanColumnPlan(final BeanSchema schema, final List<String> headers) {
+        super();
+
+        // init
+        this.schema = schema;
+        this.headers = Collections.unmodifiableList(headers);
+
+        this.extractors = new PropertyAccessor[headers.size()];
+        this.columns = new Column[headers.size()];
+
+        // Header to Property
+        final Map<String, String> headerProps = new HashMap<>();
+        for (final Map.Entry<String, Column> entry : schema.getPropertyColumnMap().entrySet()) {
+            headerProps.put(entry.getValue().getName(), entry.getKey());
+        }
+
+        final BeanAccessor<?> beanAccessor = BeanAccessor.of(schema.getBeanType());
+        for (int i = 0; i < headers.size(); i++) {
+            final String propName = headerProps.get(headers.get(i));
+            if (Objects.isNull(propName)) {
+                continue; // unknown header, empty cells
+            }
+
+            final PropertyAccessor accessor = beanAccessor.getProperty(propName);
+            this.extractors[i] = Objects.nonNull(accessor) && accessor.isReadable() ? accessor : null;
+            this.columns[i] = schema.getPropertyColumnMap().get(propName);
+        }
+
+        LOGGER.debug("Prepared the Column plan of type {} : {}", schema.getBeanType(), headers);
+    }
+
+
+    // Cache
+    // ------------------------------------------------------------------------
+
+    private static final ClassValue<BeanColumnPlan> DEFAULT_PLANS = new ClassValue<BeanColumnPlan>() {
+
+        @Override
+        protected BeanColumnPlan computeValue(final Class<?> beanType) {
+            final BeanSchema schema = Spreadsheet.getSchema(beanType);
+            return new BeanColumnPlan(schema, schema.getColumnNames());
+        }
+
+    };
+
+    /**
+     * Get the {@link BeanColumnPlan} of the bean type and headers.
+     *
+     * @param beanType The bean Type
+     * @param headers the headers of the sheet. <code>null</code> or empty list will default to all the columns of the
+     *        bean type.
+     *
+     * @return the column plan
+     */
+    static BeanColumnPlan of(final Class<?> beanType, final List<String> headers) {
+        final BeanSchema schema = Spreadsheet.getSchema(beanType);
+
+        // Custom headers
+        if (Objects.nonNull(headers) && !headers.isEmpty()) {
+            return new BeanColumnPlan(schema, headers);
+        }
+
+        // Default headers (recomputed once the schema is invalidated)
+        final BeanColumnPlan plan = DEFAULT_PLANS.get(beanType);
+        if (plan.schema == schema) {
+            return plan;
+        }
+
+        DEFAULT_PLANS.remove(beanType);
+        return DEFAULT_PLANS.get(beanType);
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    List<String> getHeaders() {
+        return headers;
+    }
+
+    int size() {
+        return extractors.length;
+    }
+
+    /**
+     * @param colIdx the column index (indexed from 0)
+     *
+     * @return the {@link Column} definition of the column, <code>null</code> if the header is not mapped
+     */
+    Column getColumn(final int colIdx) {
+        return columns[colIdx];
+    }
+
+    /**
+     * Read the value of the column, off the bean.
+     *
+     * @param bean the bean object (row)
+     * @param colIdx the column index (indexed from 0)
+     *
+     * @return the property value, <code>null</code> if the bean is <code>null</code> or the header is not mapped
+     *
+     * @throws Exception if the getter throws an exception
+     */
+    Object getValue(final Object bean, final int colIdx) throws Exception {
+        final PropertyAccessor extractor = extractors[colIdx];
+        return Objects.isNull(bean) || Objects.isNull(extractor) ? null : extractor.get(bean);
+    }
+
+
+}
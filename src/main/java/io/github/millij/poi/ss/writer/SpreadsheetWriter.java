@@ -4,9 +4,11 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.apache.logging.log4j.util.Strings;
 
@@ -83,6 +85,88 @@ public interface SpreadsheetWriter {
      */
     <T> void addSheet(Class<T> beanClz, List<T> beans, String sheetName, List<String> headers);
 
+    /**
+     * Add a new sheet and add the beans as rows of data, as they are pulled from the {@link Iterator}. Unlike the
+     * {@link List} variants, the beans need not be in memory all at once (ex. when read from a paged cursor), and with
+     * a streaming writer (see {@link XlsxStreamingWriter}) the export runs in constant memory.
+     * 
+     * @param beanClz The Class type to serialize the rows data
+     * @param beans Iterator of the Data beans of the parameterized type
+     * @param sheetName Name of the Sheet. (set it to <code>null</code> for default name)
+     * @param headers a {@link List} of Header names to write in the file. <code>null</code> or empty list will default
+     *        to all writable properties.
+     * 
+     * @since 3.3.0
+     */
+    <T> void addSheet(Class<T> beanClz, Iterator<T> beans, String sheetName, List<String> headers);
+
+    /**
+     * Add a new sheet and add the beans as rows of data, as they are pulled from the {@link Iterator}.
+     * 
+     * <br/>
+     * <b>Sheet Name</b> : default sheet name will be used
+     * 
+     * <br/>
+     * <b>Headers</b> : all possible properties as defined by the Type will be used as headers
+     * 
+     * @param beanClz The Class type to serialize the rows data
+     * @param beans Iterator of the Data beans of the parameterized type
+     * 
+     * @since 3.3.0
+     */
+    default <T> void addSheet(Class<T> beanClz, Iterator<T> beans) {
+        this.addSheet(beanClz, beans, null, null);
+    }
+
+    /**
+     * Add a new sheet and add the beans of the {@link Iterable} as rows of data, one at a time.
+     * 
+     * @param beanClz The Class type to serialize the rows data
+     * @param beans Iterable of the Data beans of the parameterized type
+     * @param sheetName Name of the Sheet. (set it to <code>null</code> for default name)
+     * @param headers a {@link List} of Header names to write in the file. <code>null</code> or empty list will default
+     *        to all writable properties.
+     * 
+     * @since 3.3.0
+     */
+    default <T> void addSheet(Class<T> beanClz, Iterable<T> beans, String sheetName, List<String> headers) {
+        this.addSheet(beanClz, Objects.isNull(beans) ? null : beans.iterator(), sheetName, headers);
+    }
+
+    /**
+     * Add a new sheet and add the beans of the {@link Stream} as rows of data, as they are pulled from the stream. The
+     * stream is consumed, but not closed.
+     * 
+     * @param beanClz The Class type to serialize the rows data
+     * @param beans Stream of the Data beans of the parameterized type
+     * @param sheetName Name of the Sheet. (set it to <code>null</code> for default name)
+     * @param headers a {@link List} of Header names to write in the file. <code>null</code> or empty list will default
+     *        to all writable properties.
+     * 
+     * @since 3.3.0
+     */
+    default <T> void addSheet(Class<T> beanClz, Stream<T> beans, String sheetName, List<String> headers) {
+        this.addSheet(beanClz, Objects.isNull(beans) ? null : beans.iterator(), sheetName, headers);
+    }
+
+    /**
+     * Add a new sheet and add the beans of the {@link Stream} as rows of data, as they are pulled from the stream.
+     * 
+     * <br/>
+     * <b>Sheet Name</b> : default sheet name will be used
+     * 
+     * <br/>
+     * <b>Headers</b> : all possible properties as defined by the Type will be used as headers
+     * 
+     * @param beanClz The Class type to serialize the rows data
+     * @param beans Stream of the Data beans of the parameterized type
+     * 
+     * @since 3.3.0
+     */
+    default <T> void addSheet(Class<T> beanClz, Stream<T> beans) {
+        this.addSheet(beanClz, beans, null, null);
+    }
+
 
     //
     // Add Sheet :: Map<String, Object>
@@ -108,6 +192,48 @@ public interface SpreadsheetWriter {
      */
     void addSheet(List<Map<String, Object>> rowsData, String sheetName, List<String> headers);
 
+    /**
+     * Add a new sheet and add the rows of data defined by a {@link Map}, as they are pulled from the {@link Iterator}.
+     * The <code>null</code> rows will be skipped and no rows will be added to the sheet.
+     * 
+     * @param rowsData Iterator of the Rows defined by a {@link Map}s where the map key is header and value is the row
+     *        value
+     * @param sheetName Name of the Sheet. (set it to <code>null</code> for default name)
+     * @param headers a {@link List} of Header names to write in the file
+     * 
+     * @since 3.3.0
+     */
+    void addSheet(Iterator<Map<String, Object>> rowsData, String sheetName, List<String> headers);
+
+    /**
+     * Add a new sheet and add the rows of data defined by a {@link Map}, one at a time from the {@link Iterable}.
+     * 
+     * @param rowsData Iterable of the Rows defined by a {@link Map}s where the map key is header and value is the row
+     *        value
+     * @param sheetName Name of the Sheet. (set it to <code>null</code> for default name)
+     * @param headers a {@link List} of Header names to write in the file
+     * 
+     * @since 3.3.0
+     */
+    default void addSheet(Iterable<Map<String, Object>> rowsData, String sheetName, List<String> headers) {
+        this.addSheet(Objects.isNull(rowsData) ? null : rowsData.iterator(), sheetName, headers);
+    }
+
+    /**
+     * Add a new sheet and add the rows of data defined by a {@link Map}, as they are pulled from the {@link Stream}.
+     * The stream is consumed, but not closed.
+     * 
+     * @param rowsData Stream of the Rows defined by a {@link Map}s where the map key is header and value is the row
+     *        value
+     * @param sheetName Name of the Sheet. (set it to <code>null</code> for default name)
+     * @param headers a {@link List} of Header names to write in the file
+     * 
+     * @since 3.3.0
+     */
+    default void addSheet(Stream<Map<String, Object>> rowsData, String sheetName, List<String> headers) {
+        this.addSheet(Objects.isNull(rowsData) ? null : rowsData.iterator(), sheetName, headers);
+    }
+
 
     //
     // Write
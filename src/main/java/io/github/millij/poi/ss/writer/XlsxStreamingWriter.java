@@ -0,0 +1,94 @@
+package io.github.millij.poi.ss.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Streaming {@link SpreadsheetWriter} implementation for XLSX files, backed by a {@link SXSSFWorkbook}.
+ *
+ * <p>
+ * Only a bounded window of the most recent rows (of each sheet) is kept in memory, the older rows are flushed to
+ * temporary files on the disk. Hence the heap usage does not grow with the no. of rows written, which makes this
+ * writer suitable for large exports. The rows flushed out of the window can no longer be accessed.
+ * </p>
+ *
+ * <p>
+ * The temporary files are deleted once the workbook is written (see {@link #write(OutputStream)}).
+ * </p>
+ *
+ * @see XlsxWriter
+ * @since 3.3.0
+ */
+public class XlsxStreamingWriter extends AbstractSpreadsheetWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XlsxStreamingWriter.class);
+
+    /**
+     * Default no. of rows kept in memory, per sheet.
+     */
+    public static final int DEFAULT_ROW_ACCESS_WINDOW = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public XlsxStreamingWriter() {
+        this(DEFAULT_ROW_ACCESS_WINDOW);
+    }
+
+    /**
+     * @param rowAccessWindow no. of rows kept in memory (per sheet) before flushing them to the disk.
+     */
+    public XlsxStreamingWriter(final int rowAccessWindow) {
+        this(rowAccessWindow, false, false);
+    }
+
+    /**
+     * @param rowAccessWindow no. of rows kept in memory (per sheet) before flushing them to the disk.
+     * @param compressTmpFiles whether to gzip the temporary sheet files. Uses less disk space at the cost of CPU.
+     * @param useSharedStringsTable whether to write the strings to a shared strings table, instead of inline strings.
+     *        Reduces the file size when there are many repeated strings, but the table is kept in memory.
+     */
+    public XlsxStreamingWriter(final int rowAccessWindow, final boolean compressTmpFiles,
+            final boolean useSharedStringsTable) {
+        super(newWorkbook(rowAccessWindow, compressTmpFiles, useSharedStringsTable));
+    }
+
+
+    // Write
+    // ------------------------------------------------------------------------
+
+    @Override
+    public void write(final OutputStream outputStream) throws IOException {
+        final SXSSFWorkbook sxssfWorkbook = (SXSSFWorkbook) workbook;
+        try {
+            super.write(outputStream);
+        } finally {
+            // Delete the temp files backing the sheets
+            if (!sxssfWorkbook.dispose()) {
+                LOGGER.warn("Failed to delete the temporary files of the SXSSFWorkbook");
+            }
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static SXSSFWorkbook newWorkbook(final int rowAccessWindow, final boolean compressTmpFiles,
+            final boolean useSharedStringsTable) {
+        // Sanity checks
+        if (rowAccessWindow <= 0) {
+            throw new IllegalArgumentException("XlsxStreamingWriter :: Row access window should be positive");
+        }
+
+        return new SXSSFWorkbook(null, rowAccessWindow, compressTmpFiles, useSharedStringsTable);
+    }
+
+
+}
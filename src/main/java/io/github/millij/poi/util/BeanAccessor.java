@@ -0,0 +1,243 @@
+package io.github.millij.poi.util;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Table of compiled {@link PropertyAccessor}s and the no-arg constructor of a Bean type.
+ *
+ * <p>
+ * The table is built only once per bean type (using the {@link Introspector}) and cached against the {@link Class}
+ * using a {@link ClassValue}, so that the type (and its ClassLoader) can still be unloaded. All the row level reads and
+ * writes of the bean properties are expected to go through the accessors of this table.
+ * </p>
+ *
+ * @param <T> the Bean type
+ *
+ * @since 3.3.0
+ */
+public final class BeanAccessor<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BeanAccessor.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+
+    //
+    // Cache
+
+    private static final ClassValue<BeanAccessor<?>> CACHE = new ClassValue<BeanAccessor<?>>() {
+
+        @Override
+        protected BeanAccessor<?> computeValue(final Class<?> type) {
+            return new BeanAccessor<>(type);
+        }
+
+    };
+
+
+    private final Class<T> beanType;
+
+    private final MethodHandle constructor; // ()Object
+    private final Map<String, PropertyAccessor> properties;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    private BeanAccessor(final Class<T> beanType) {
+        super();
+
+        // init
+        this.beanType = beanType;
+        this.constructor = constructorHandle(beanType);
+        this.properties = Collections.unmodifiableMap(propertyAccessors(beanType));
+
+        LOGGER.debug("Compiled accessors of type {} : {}", beanType, properties.keySet());
+    }
+
+
+    // Static Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Get the (cached) accessor table of the passed Bean type.
+     *
+     * @param <T> the Bean type
+     * @param beanType the Bean {@link Class}
+     *
+     * @return the {@link BeanAccessor} of the bean type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanAccessor<T> of(final Class<T> beanType) {
+        // Sanity checks
+        if (Objects.isNull(beanType)) {
+            throw new IllegalArgumentException("#BeanAccessor.of :: Input type is NULL");
+        }
+
+        return (BeanAccessor<T>) CACHE.get(beanType);
+    }
+
+    /**
+     * Discards the cached accessor table of the Bean type, if any.
+     *
+     * @param beanType the Bean {@link Class}
+     */
+    public static void invalidate(final Class<?> beanType) {
+        // Sanity checks
+        if (Objects.isNull(beanType)) {
+            return;
+        }
+
+        CACHE.remove(beanType);
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance of the Bean using its no-arg constructor.
+     *
+     * @return new bean instance
+     *
+     * @throws Exception if the type has no accessible no-arg constructor, or the constructor fails.
+     */
+    @SuppressWarnings("unchecked")
+    public T newInstance() throws Exception {
+        // Sanity checks
+        if (Objects.isNull(constructor)) {
+            final String errMsg = String.format("No accessible no-arg constructor found for type : %s", beanType);
+            throw new NoSuchMethodException(errMsg);
+        }
+
+        try {
+            return (T) (Object) constructor.invokeExact();
+        } catch (Throwable t) {
+            throw PropertyAccessor.asException(t);
+        }
+    }
+
+    /**
+     * Get the accessor of a property.
+     *
+     * @param propName name of the property
+     *
+     * @return the {@link PropertyAccessor}, or <code>null</code> if no such property exists.
+     */
+    public PropertyAccessor getProperty(final String propName) {
+        return properties.get(propName);
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static MethodHandle constructorHandle(final Class<?> beanType) {
+        try {
+            final Constructor<?> ctor = beanType.getDeclaredConstructor();
+            return unreflect(ctor).asType(CONSTRUCTOR_TYPE);
+        } catch (Exception ex) {
+            LOGGER.debug("No accessible no-arg constructor found for type {} : {}", beanType, ex.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<String, PropertyAccessor> propertyAccessors(final Class<?> beanType) {
+        // Bean Info
+        final BeanInfo beanInfo;
+        try {
+            beanInfo = Introspector.getBeanInfo(beanType);
+        } catch (IntrospectionException ex) {
+            final String errMsg = String.format("Failed to introspect the bean type : %s", beanType);
+            throw new IllegalArgumentException(errMsg, ex);
+        }
+
+        // Accessors
+        final Map<String, PropertyAccessor> accessors = new HashMap<>();
+        for (final PropertyDescriptor pd : beanInfo.getPropertyDescriptors()) {
+            final Class<?> propType = pd.getPropertyType();
+            if (Objects.isNull(propType)) {
+                continue; // Indexed properties
+            }
+
+            final MethodHandle getter = accessorHandle(pd.getReadMethod(), GETTER_TYPE);
+            final MethodHandle setter = accessorHandle(pd.getWriteMethod(), SETTER_TYPE);
+
+            // Primitive setter, (Object,<primitive>)void
+            final MethodHandle primitiveSetter = propType.isPrimitive() //
+                    ? accessorHandle(pd.getWriteMethod(), MethodType.methodType(void.class, Object.class, propType))
+                    : null;
+
+            final String propName = pd.getName();
+            accessors.put(propName, new PropertyAccessor(propName, propType, getter, setter, primitiveSetter));
+        }
+
+        return accessors;
+    }
+
+    private static MethodHandle accessorHandle(final Method method, final MethodType type) {
+        // Sanity checks
+        if (Objects.isNull(method)) {
+            return null;
+        }
+
+        try {
+            return unreflect(method).asType(type);
+        } catch (Exception ex) {
+            LOGGER.debug("Accessor method {} is not accessible : {}", method, ex.getMessage());
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(final Constructor<?> ctor) throws IllegalAccessException {
+        try {
+            return LOOKUP.unreflectConstructor(ctor);
+        } catch (IllegalAccessException ex) {
+            ctor.setAccessible(true);
+            return LOOKUP.unreflectConstructor(ctor);
+        }
+    }
+
+    private static MethodHandle unreflect(final Method method) throws IllegalAccessException {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException ex) {
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method);
+        }
+    }
+
+
+    // Getters and Setters
+    // ------------------------------------------------------------------------
+
+    public Class<T> getBeanType() {
+        return beanType;
+    }
+
+    public Map<String, PropertyAccessor> getProperties() {
+        return properties;
+    }
+
+
+}
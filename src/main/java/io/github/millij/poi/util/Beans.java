@@ -1,21 +1,11 @@
 package io.github.millij.poi.util;
 
-import static java.util.Calendar.HOUR_OF_DAY;
-import static java.util.Calendar.MINUTE;
-import static java.util.Calendar.SECOND;
-
 import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
 import java.util.Objects;
 
-import org.apache.commons.beanutils.ConvertUtilsBean;
-import org.apache.commons.beanutils.Converter;
-import org.apache.commons.beanutils.PropertyUtilsBean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,7 +13,12 @@ import io.github.millij.poi.ss.model.DateTimeType;
 
 
 /**
- * Added Bean Utilities that are not directly available in the Apache BeanUtils library.
+ * Bean Utilities, to read and write the bean properties by their names.
+ *
+ * <p>
+ * The properties are accessed through the {@link MethodHandle} based {@link PropertyAccessor}s of the bean type, which
+ * are resolved only once per type and cached in a {@link ClassValue} by {@link BeanAccessor}.
+ * </p>
  */
 public final class Beans {
 
@@ -35,13 +30,6 @@ public final class Beans {
     }
 
 
-    //
-    // Constants
-
-    private static final PropertyUtilsBean PROP_UTILS_BEAN = new PropertyUtilsBean();
-    private static final ConvertUtilsBean CONVERT_UTILS_BEAN = new ConvertUtilsBean();
-
-
     // Static Utilities
     // ------------------------------------------------------------------------
 
@@ -74,11 +62,14 @@ public final class Beans {
      * @throws Exception if the bean or the fields accessor methods are not accessible.
      */
     public static String getFieldValueAsString(final Object beanObj, final String fieldName) throws Exception {
-        // Property Descriptor
-        final PropertyDescriptor pd = PROP_UTILS_BEAN.getPropertyDescriptor(beanObj, fieldName);
-        final Method getterMtd = pd.getReadMethod();
+        // Property Accessor
+        final PropertyAccessor accessor = BeanAccessor.of(beanObj.getClass()).getProperty(fieldName);
+        if (Objects.isNull(accessor)) {
+            final String errMsg = String.format("Unknown property '%s' on %s", fieldName, beanObj.getClass());
+            throw new NoSuchMethodException(errMsg);
+        }
 
-        final Object value = getterMtd.invoke(beanObj);
+        final Object value = accessor.get(beanObj);
         final String cellValue = Objects.nonNull(value) ? String.valueOf(value) : null;
         return cellValue;
     }
@@ -113,7 +104,13 @@ public final class Beans {
     // ------------------------------------------------------------------------
 
     public static Object getProperty(final Object bean, final String propName) throws Exception {
-        final Object value = PROP_UTILS_BEAN.getSimpleProperty(bean, propName);
+        final PropertyAccessor accessor = BeanAccessor.of(bean.getClass()).getProperty(propName);
+        if (Objects.isNull(accessor)) {
+            final String errMsg = String.format("Unknown property '%s' on %s", propName, bean.getClass());
+            throw new NoSuchMethodException(errMsg);
+        }
+
+        final Object value = accessor.get(bean);
         return value;
     }
 
@@ -129,30 +126,50 @@ public final class Beans {
      * @param propType type of the Object Property
      * @param propValue Value of the property to be set
      * 
+     * @throws IllegalArgumentException if the value can not be converted to the property type (see
+     *         {@link #setProperty(Object, PropertyAccessor, Object, String, DateTimeType)})
      * @throws Exception exceptions when invoking the accessor methods
      */
     public static void setProperty(final Object target, final String propName, final Class<?> propType,
             final Object propValue) throws Exception {
+        // Property Accessor
+        final PropertyAccessor accessor = BeanAccessor.of(target.getClass()).getProperty(propName);
+        if (Objects.isNull(accessor)) {
+            final String errMsg = String.format("Unknown property '%s' on %s", propName, target.getClass());
+            throw new NoSuchMethodException(errMsg);
+        }
+
+        setProperty(target, accessor, propType, propValue);
+    }
+
+    /**
+     * Set a property value of an object using its compiled {@link PropertyAccessor}.
+     * 
+     * @param target Target Object
+     * @param accessor {@link PropertyAccessor} of the Object Property
+     * @param propType type of the value to convert to, before invoking the setter
+     * @param propValue Value of the property to be set
+     * 
+     * @throws IllegalArgumentException if the value can not be converted to the property type (see
+     *         {@link #setProperty(Object, PropertyAccessor, Object, String, DateTimeType)})
+     * @throws Exception exceptions when invoking the accessor methods
+     * 
+     * @since 3.3.0
+     */
+    public static void setProperty(final Object target, final PropertyAccessor accessor, final Class<?> propType,
+            final Object propValue) throws Exception {
         // Sanity checks
         if (Objects.isNull(propValue)) {
             return; // Skip Setter if property value is NULL
         }
 
-        // Convert the specified value to the required type
-        final Object newValue;
-        if (propValue instanceof String) {
-            newValue = CONVERT_UTILS_BEAN.convert((String) propValue, propType);
-        } else {
-            final Converter converter = CONVERT_UTILS_BEAN.lookup(propType);
-            if (converter != null) {
-                newValue = converter.convert(propType, propValue);
-            } else {
-                newValue = propValue;
-            }
+        // Values of other types, as is
+        if (!accessor.getType().equals(propType)) {
+            accessor.set(target, propValue);
+            return;
         }
 
-        // Invoke the setter method
-        PROP_UTILS_BEAN.setProperty(target, propName, newValue);
+        setProperty(target, accessor, propValue, null, DateTimeType.NONE);
     }
 
 
@@ -165,9 +182,10 @@ public final class Beans {
      * @param format Value format
      * @param dateTimeType {@link DateTimeType} value for Date/Time properties
      * 
+     * @throws IllegalArgumentException if the value can not be converted to the property type (see
+     *         {@link #setProperty(Object, PropertyAccessor, Object, String, DateTimeType)})
      * @throws Exception exceptions when invoking the accessor methods
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public static void setProperty(final Object target, final String propName, final Object propValue,
             final String format, final DateTimeType dateTimeType) throws Exception {
         // Sanity checks
@@ -175,91 +193,51 @@ public final class Beans {
             return; // Skip Setter if property value is NULL
         }
 
-        // Calculate the property type
-        final PropertyDescriptor descriptor = PROP_UTILS_BEAN.getPropertyDescriptor(target, propName);
-        if (Objects.isNull(descriptor) || Objects.isNull(descriptor.getWriteMethod())) {
+        // Property Accessor
+        final PropertyAccessor accessor = BeanAccessor.of(target.getClass()).getProperty(propName);
+        if (Objects.isNull(accessor)) {
             return; // Skip this property setter
         }
 
-        // Property Type
-        final Class<?> propType = descriptor.getPropertyType();
-
-        //
-        // Handle Date/Time/Duration Cases
-        if (!DateTimeType.NONE.equals(dateTimeType) || propType.equals(Date.class)) {
-            setDateTimeProperty(target, propName, propType, propValue, format, dateTimeType);
-            return;
-        }
-
-        //
-        // Handle ENUM
-        if (propType.isEnum() && (propValue instanceof String)) {
-            final String cleanEnumStr = Strings.normalize((String) propValue).toUpperCase();
-            final Enum<?> enumValue = Enum.valueOf((Class<? extends Enum>) propType, cleanEnumStr);
-            setProperty(target, propName, propType, enumValue);
-            return;
-        }
-
-        //
-        // Handle Boolean
-        if (propType.equals(Boolean.class) && (propValue instanceof String)) {
-            // Cleanup Boolean String
-            final String cleanBoolStr = Strings.normalize((String) propValue); // for cases like "FALSE()", "TRUE()"
-            setProperty(target, propName, propType, cleanBoolStr);
-            return;
-        }
-
-        //
-        // Default Handling (for all other Types)
-        setProperty(target, propName, propType, propValue);
-
+        setProperty(target, accessor, propValue, format, dateTimeType);
     }
 
-
     /**
-     * Set the Date/Time property of the Target Bean.
+     * Set a property value of an object using its compiled {@link PropertyAccessor}. The value is converted with the
+     * {@link Converters} resolved for the property (cached on the accessor).
+     * 
+     * <p>
+     * Unlike the earlier versions (backed by the BeanUtils converters, which silently fell back to a default value
+     * such as <code>0</code>), a value which can not be converted to the property type is rejected, and the property is
+     * left unchanged.
+     * </p>
      * 
      * @param target Target Object
-     * @param propName name of the Object Property
-     * @param propType type of the Object Property
+     * @param accessor {@link PropertyAccessor} of the Object Property
      * @param propValue Value of the property to be set
      * @param format Value format
      * @param dateTimeType {@link DateTimeType} value for Date/Time properties
      * 
+     * @throws IllegalArgumentException if the value can not be converted to the property type
      * @throws Exception exceptions when invoking the accessor methods
+     * 
+     * @since 3.3.0
      */
-    private static void setDateTimeProperty(final Object target, final String propName, final Class<?> propType,
-            final Object propValue, final String format, final DateTimeType dateTimeType) throws Exception {
-        // Input value Format
-        final String dateFormatStr = Strings.isBlank(format) ? "dd/MM/yyyy" : format;
-
-        // Parse
-        final SimpleDateFormat dateFmt = new SimpleDateFormat(dateFormatStr);
-        final Date dateValue = dateFmt.parse((String) propValue);
-
-        // Check if the PropType is Date
-        if (propType.equals(Date.class)) {
-            setProperty(target, propName, propType, dateValue);
-
-        } else {
-            // Convert to Long
-            final Long longValue;
-            if (DateTimeType.DURATION.equals(dateTimeType)) {
-                final Calendar calendar = Calendar.getInstance();
-                calendar.setTime(dateValue);
-                final long durationMillis = calendar.get(HOUR_OF_DAY) * 3600_000 + //
-                        calendar.get(MINUTE) * 60_000 + //
-                        calendar.get(SECOND) * 1_000;
-
-                longValue = durationMillis;
-            } else {
-                longValue = dateValue.getTime();
-            }
-
-            setProperty(target, propName, propType, longValue);
+    public static void setProperty(final Object target, final PropertyAccessor accessor, final Object propValue,
+            final String format, final DateTimeType dateTimeType) throws Exception {
+        // Sanity checks
+        if (Objects.isNull(propValue) || !accessor.isWritable()) {
+            return; // Skip Setter if property value is NULL
         }
 
-        //
+        // Convert and Set
+        final PropertyConverter converter = Converters.resolveCached(accessor, format, dateTimeType);
+        final int result = converter.set(target, propValue);
+        if (result == PropertyConverter.INVALID || result == PropertyConverter.FAILED) {
+            final String errMsg = String.format("Unable to set the property '%s' to the value '%s' : %s", //
+                    accessor.getName(), propValue, PropertyConverter.describe(result));
+            throw new IllegalArgumentException(errMsg);
+        }
     }
 
 }
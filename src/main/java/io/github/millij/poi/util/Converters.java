@@ -0,0 +1,759 @@
+package io.github.millij.poi.util;
+
+import static io.github.millij.poi.util.PropertyConverter.INVALID;
+import static io.github.millij.poi.util.PropertyConverter.SKIPPED;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.millij.poi.ss.model.DateTimeType;
+
+
+/**
+ * Registry of the cell value converters of the bean properties.
+ *
+ * <p>
+ * The {@link PropertyConverter} of a property is resolved once (ex. when the binding plan of a bean type is built),
+ * from its type and {@link DateTimeType}. The numeric (including the primitive types, {@link BigDecimal} and
+ * {@link BigInteger}), boolean, character, String, enum and Date/Time (see {@link DateTimes}) properties are supported
+ * out of the box, and the primitive properties are set without boxing. The invalid values are reported as result
+ * codes, rather than with exceptions.
+ * </p>
+ *
+ * <p>
+ * Converters of other types (or overriding the default ones) can be registered with
+ * {@link #register(Class, ValueConverter)}, and take effect on the properties resolved thereafter.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public final class Converters {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Converters.class);
+
+    private Converters() {
+        super();
+        // Utility Class
+    }
+
+
+    //
+    // Constants
+
+    // Boolean Strings
+    private static final String[] TRUE_STRINGS = {"true", "yes", "y", "on", "1"};
+    private static final String[] FALSE_STRINGS = {"false", "no", "n", "off", "0"};
+
+    // Max digits of the integer Strings parsed as long
+    private static final int MAX_LONG_DIGITS = 19;
+
+    // Bounds (exclusive) of the doubles which convert to long exactly
+    private static final double LONG_MIN_BOUND = -0x1p63;
+    private static final double LONG_MAX_BOUND = 0x1p63;
+
+    // Registered converters, by (boxed) type
+    private static final ConcurrentMap<Class<?>, ValueConverter<?>> CONVERTERS = new ConcurrentHashMap<>();
+
+    // Changes of the registry, invalidating the converters cached on the property accessors
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    // Enum constants, by normalized name
+    private static final ClassValue<Map<String, Object>> ENUM_CONSTANTS = new ClassValue<Map<String, Object>>() {
+
+        @Override
+        protected Map<String, Object> computeValue(final Class<?> enumType) {
+            final Map<String, Object> constants = new HashMap<>();
+            for (final Object constant : enumType.getEnumConstants()) {
+                constants.put(Strings.normalize(((Enum<?>) constant).name()), constant);
+            }
+            return Collections.unmodifiableMap(constants);
+        }
+
+    };
+
+
+    // Registry
+    // ------------------------------------------------------------------------
+
+    /**
+     * Registers the converter of the property type. For the primitive types, register the converter of the wrapper
+     * type (ex. {@link Integer} for <code>int</code>).
+     *
+     * @param <T> the property type
+     * @param type the property type
+     * @param converter the converter of the cell values to the type
+     */
+    public static <T> void register(final Class<T> type, final ValueConverter<? extends T> converter) {
+        // Sanity checks
+        if (Objects.isNull(type) || Objects.isNull(converter)) {
+            throw new IllegalArgumentException("Converters :: Type or Converter is NULL");
+        }
+
+        CONVERTERS.put(boxed(type), converter);
+        GENERATION.incrementAndGet();
+        LOGGER.debug("Registered the converter of type : {}", type);
+    }
+
+    /**
+     * Removes the registered converter of the property type, if any.
+     *
+     * @param type the property type
+     */
+    public static void unregister(final Class<?> type) {
+        // Sanity checks
+        if (Objects.isNull(type)) {
+            return;
+        }
+
+        CONVERTERS.remove(boxed(type));
+        GENERATION.incrementAndGet();
+    }
+
+
+    // Resolve
+    // ------------------------------------------------------------------------
+
+    /**
+     * Resolves the converter of the property.
+     *
+     * @param accessor {@link PropertyAccessor} of the property (writable)
+     * @param format format of the Date/Time values
+     * @param dateTimeType {@link DateTimeType} of the property
+     *
+     * @return the {@link PropertyConverter} of the property
+     */
+    public static PropertyConverter resolve(final PropertyAccessor accessor, final String format,
+            final DateTimeType dateTimeType) {
+        // Sanity checks
+        if (Objects.isNull(accessor) || !accessor.isWritable()) {
+            throw new IllegalArgumentException("Converters :: Property accessor is NULL or not writable");
+        }
+
+        final Class<?> type = accessor.getType();
+
+        // Registered
+        final ValueConverter<?> converter = CONVERTERS.get(boxed(type));
+        if (Objects.nonNull(converter)) {
+            return new RegisteredConverter(accessor, converter);
+        }
+
+        // Date/Time
+        final DateTimeType datetimeType = Objects.isNull(dateTimeType) ? DateTimeType.NONE : dateTimeType;
+        if (!DateTimeType.NONE.equals(datetimeType) || DateTimes.isDateTimeType(type)) {
+            return new DateTimeConverter(accessor, format, datetimeType);
+        }
+
+        // Numbers
+        if (int.class.equals(type) || Integer.class.equals(type)) {
+            return new IntegralConverter(accessor, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        if (long.class.equals(type) || Long.class.equals(type)) {
+            return new IntegralConverter(accessor, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        if (short.class.equals(type) || Short.class.equals(type)) {
+            return new IntegralConverter(accessor, Short.MIN_VALUE, Short.MAX_VALUE);
+        }
+        if (byte.class.equals(type) || Byte.class.equals(type)) {
+            return new IntegralConverter(accessor, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+        if (double.class.equals(type) || Double.class.equals(type) || float.class.equals(type)
+                || Float.class.equals(type) || BigDecimal.class.equals(type) || BigInteger.class.equals(type)) {
+            return new DecimalConverter(accessor);
+        }
+
+        // Others
+        if (boolean.class.equals(type) || Boolean.class.equals(type)) {
+            return new BooleanConverter(accessor);
+        }
+        if (char.class.equals(type) || Character.class.equals(type)) {
+            return new CharConverter(accessor);
+        }
+        if (String.class.equals(type)) {
+            return (bean, value) -> Objects.isNull(value) ? SKIPPED : setValue(accessor, bean, String.valueOf(value));
+        }
+        if (type.isEnum()) {
+            return new EnumConverter(accessor);
+        }
+
+        // As is
+        return (bean, value) -> {
+            if (Objects.isNull(value)) {
+                return SKIPPED;
+            }
+            return type.isInstance(value) ? setValue(accessor, bean, value) : INVALID;
+        };
+    }
+
+
+    /**
+     * Resolves the converter of the property (see {@link #resolve(PropertyAccessor, String, DateTimeType)}), caching
+     * it on the property accessor, until the registry changes.
+     *
+     * @param accessor {@link PropertyAccessor} of the property (writable)
+     * @param format format of the Date/Time values
+     * @param dateTimeType {@link DateTimeType} of the property
+     *
+     * @return the {@link PropertyConverter} of the property
+     */
+    public static PropertyConverter resolveCached(final PropertyAccessor accessor, final String format,
+            final DateTimeType dateTimeType) {
+        // Sanity checks
+        if (Objects.isNull(accessor)) {
+            throw new IllegalArgumentException("Converters :: Property accessor is NULL");
+        }
+
+        final int generation = GENERATION.get();
+        final String key = (Objects.isNull(dateTimeType) ? DateTimeType.NONE : dateTimeType) + "|" //
+                + (Objects.isNull(format) ? "" : format);
+
+        final CachedConverter cached = accessor.converters.get(key);
+        if (Objects.nonNull(cached) && cached.generation == generation) {
+            return cached.converter;
+        }
+
+        final PropertyConverter converter = resolve(accessor, format, dateTimeType);
+        accessor.converters.put(key, new CachedConverter(generation, converter));
+        return converter;
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static Class<?> boxed(final Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+
+        if (int.class.equals(type)) {
+            return Integer.class;
+        } else if (long.class.equals(type)) {
+            return Long.class;
+        } else if (double.class.equals(type)) {
+            return Double.class;
+        } else if (float.class.equals(type)) {
+            return Float.class;
+        } else if (short.class.equals(type)) {
+            return Short.class;
+        } else if (byte.class.equals(type)) {
+            return Byte.class;
+        } else if (boolean.class.equals(type)) {
+            return Boolean.class;
+        } else if (char.class.equals(type)) {
+            return Character.class;
+        }
+        return type;
+    }
+
+    private static int setValue(final PropertyAccessor accessor, final Object bean, final Object value) {
+        try {
+            accessor.set(bean, value);
+            return PropertyConverter.OK;
+        } catch (Exception ex) {
+            LOGGER.debug("Error setting prop - {}, val - {} : {}", accessor.getName(), value, ex.getMessage());
+            return PropertyConverter.FAILED;
+        }
+    }
+
+    /**
+     * @return the trimmed String value, or <code>null</code> if blank
+     */
+    private static String asText(final Object value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+
+        final String str = String.valueOf(value).trim();
+        return str.isEmpty() ? null : str;
+    }
+
+    /**
+     * Check whether the String is an integer (an optional sign, and the digits), with no more digits than a long. The
+     * values out of the long range are still to be checked (see {@link Long#parseLong(String)}).
+     */
+    private static boolean isInteger(final String str) {
+        final int start = str.charAt(0) == '-' || str.charAt(0) == '+' ? 1 : 0;
+        final int len = str.length();
+        if (len == start || len - start > MAX_LONG_DIGITS) {
+            return false;
+        }
+
+        for (int i = start; i < len; i++) {
+            final char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the String is a decimal number (an optional sign, the digits with an optional decimal point, and
+     * an optional exponent).
+     */
+    private static boolean isDecimal(final String str) {
+        final int len = str.length();
+        int i = str.charAt(0) == '-' || str.charAt(0) == '+' ? 1 : 0;
+
+        // Mantissa
+        int digits = 0;
+        boolean point = false;
+        for (; i < len; i++) {
+            final char ch = str.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                digits++;
+            } else if (ch == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i == len) {
+            return true;
+        }
+
+        // Exponent
+        if (str.charAt(i) != 'e' && str.charAt(i) != 'E') {
+            return false;
+        }
+        i++;
+        if (i < len && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+            i++;
+        }
+        if (i == len) {
+            return false;
+        }
+        for (; i < len; i++) {
+            final char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    // Converters
+    // ------------------------------------------------------------------------
+
+    /**
+     * Converter cached on a {@link PropertyAccessor}, with the generation of the registry it is resolved with.
+     */
+    static final class CachedConverter {
+
+        private final int generation;
+        private final PropertyConverter converter;
+
+
+        private CachedConverter(final int generation, final PropertyConverter converter) {
+            this.generation = generation;
+            this.converter = converter;
+        }
+
+    }
+
+    /**
+     * Converter of the int, long, short and byte properties (and their wrappers).
+     */
+    private static final class IntegralConverter implements PropertyConverter {
+
+        private final PropertyAccessor accessor;
+        private final Class<?> type;
+        private final long min;
+        private final long max;
+
+
+        private IntegralConverter(final PropertyAccessor accessor, final long min, final long max) {
+            this.accessor = accessor;
+            this.type = accessor.getType();
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public int set(final Object bean, final Object value) {
+            // Value
+            final long longValue;
+            try {
+                if (value instanceof Double || value instanceof Float) {
+                    // Integral decimals only, ex. 12.0
+                    final double doubleValue = ((Number) value).doubleValue();
+                    if (doubleValue != Math.rint(doubleValue) || doubleValue < LONG_MIN_BOUND
+                            || doubleValue >= LONG_MAX_BOUND) {
+                        return INVALID;
+                    }
+                    longValue = (long) doubleValue;
+                } else if (value instanceof BigDecimal) {
+                    longValue = ((BigDecimal) value).longValueExact();
+                } else if (value instanceof BigInteger) {
+                    longValue = ((BigInteger) value).longValueExact();
+                } else if (value instanceof Number) {
+                    longValue = ((Number) value).longValue();
+                } else {
+                    final String str = asText(value);
+                    if (Objects.isNull(str)) {
+                        return SKIPPED;
+                    }
+
+                    if (isInteger(str)) {
+                        longValue = Long.parseLong(str);
+                    } else if (isDecimal(str)) {
+                        // Integral decimals, ex. "12.0", exactly
+                        longValue = new BigDecimal(str).longValueExact();
+                    } else {
+                        return INVALID;
+                    }
+                }
+            } catch (NumberFormatException | ArithmeticException ex) {
+                // Out of the long range, or with a fraction
+                return INVALID;
+            }
+
+            // Range
+            if (longValue < min || longValue > max) {
+                return INVALID;
+            }
+
+            try {
+                if (int.class.equals(type)) {
+                    accessor.setInt(bean, (int) longValue);
+                } else if (long.class.equals(type)) {
+                    accessor.setLong(bean, longValue);
+                } else if (short.class.equals(type)) {
+                    accessor.setShort(bean, (short) longValue);
+                } else if (byte.class.equals(type)) {
+                    accessor.setByte(bean, (byte) longValue);
+                } else if (Integer.class.equals(type)) {
+                    accessor.set(bean, (int) longValue);
+                } else if (Long.class.equals(type)) {
+                    accessor.set(bean, longValue);
+                } else if (Short.class.equals(type)) {
+                    accessor.set(bean, (short) longValue);
+                } else {
+                    accessor.set(bean, (byte) longValue);
+                }
+                return OK;
+            } catch (Exception ex) {
+                LOGGER.debug("Error setting prop - {}, val - {} : {}", accessor.getName(), value, ex.getMessage());
+                return FAILED;
+            }
+        }
+
+    }
+
+    /**
+     * Converter of the double and float properties (and their wrappers), and the {@link BigDecimal} and
+     * {@link BigInteger} properties.
+     */
+    private static final class DecimalConverter implements PropertyConverter {
+
+        private final PropertyAccessor accessor;
+        private final Class<?> type;
+
+
+        private DecimalConverter(final PropertyAccessor accessor) {
+            this.accessor = accessor;
+            this.type = accessor.getType();
+        }
+
+        @Override
+        public int set(final Object bean, final Object value) {
+            // Big Numbers
+            if (BigDecimal.class.equals(type) || BigInteger.class.equals(type)) {
+                return this.setBig(bean, value);
+            }
+
+            // Value
+            final double doubleValue;
+            if (value instanceof Number) {
+                doubleValue = ((Number) value).doubleValue();
+            } else {
+                final String str = asText(value);
+                if (Objects.isNull(str)) {
+                    return SKIPPED;
+                }
+                if (!isDecimal(str)) {
+                    return INVALID;
+                }
+                doubleValue = Double.parseDouble(str);
+            }
+
+            try {
+                if (double.class.equals(type)) {
+                    accessor.setDouble(bean, doubleValue);
+                } else if (float.class.equals(type)) {
+                    accessor.setFloat(bean, (float) doubleValue);
+                } else if (Double.class.equals(type)) {
+                    accessor.set(bean, doubleValue);
+                } else {
+                    accessor.set(bean, (float) doubleValue);
+                }
+                return OK;
+            } catch (Exception ex) {
+                LOGGER.debug("Error setting prop - {}, val - {} : {}", accessor.getName(), value, ex.getMessage());
+                return FAILED;
+            }
+        }
+
+        private int setBig(final Object bean, final Object value) {
+            // Value
+            final BigDecimal decimalValue;
+            if (value instanceof BigDecimal) {
+                decimalValue = (BigDecimal) value;
+            } else if (value instanceof BigInteger) {
+                decimalValue = new BigDecimal((BigInteger) value);
+            } else if (value instanceof Double || value instanceof Float) {
+                decimalValue = BigDecimal.valueOf(((Number) value).doubleValue());
+            } else if (value instanceof Number) {
+                decimalValue = BigDecimal.valueOf(((Number) value).longValue());
+            } else {
+                final String str = asText(value);
+                if (Objects.isNull(str)) {
+                    return SKIPPED;
+                }
+                if (!isDecimal(str)) {
+                    return INVALID;
+                }
+                decimalValue = new BigDecimal(str);
+            }
+
+            final Object bigValue = BigInteger.class.equals(type) ? decimalValue.toBigInteger() : decimalValue;
+            return setValue(accessor, bean, bigValue);
+        }
+
+    }
+
+    /**
+     * Converter of the boolean properties (and the wrapper).
+     */
+    private static final class BooleanConverter implements PropertyConverter {
+
+        private final PropertyAccessor accessor;
+        private final boolean primitive;
+
+
+        private BooleanConverter(final PropertyAccessor accessor) {
+            this.accessor = accessor;
+            this.primitive = accessor.getType().isPrimitive();
+        }
+
+        @Override
+        public int set(final Object bean, final Object value) {
+            // Value
+            final boolean boolValue;
+            if (value instanceof Boolean) {
+                boolValue = (Boolean) value;
+            } else if (value instanceof Number) {
+                // Raw numeric values (ex. formulas like "TRUE()" with a boolean display format)
+                boolValue = ((Number) value).doubleValue() != 0;
+            } else {
+                final String str = asText(value);
+                if (Objects.isNull(str)) {
+                    return SKIPPED;
+                }
+
+                final int parsed = parse(str);
+                if (parsed < 0) {
+                    return INVALID;
+                }
+                boolValue = parsed == 1;
+            }
+
+            try {
+                if (primitive) {
+                    accessor.setBoolean(bean, boolValue);
+                } else {
+                    accessor.set(bean, boolValue);
+                }
+                return OK;
+            } catch (Exception ex) {
+                LOGGER.debug("Error setting prop - {}, val - {} : {}", accessor.getName(), value, ex.getMessage());
+                return FAILED;
+            }
+        }
+
+        /**
+         * @return 1 for true, 0 for false and -1 for an invalid String
+         */
+        private static int parse(final String str) {
+            final int parsed = match(str);
+            if (parsed >= 0) {
+                return parsed;
+            }
+
+            // Cleanup Boolean String, for cases like "FALSE()", "TRUE()"
+            return match(Strings.normalize(str));
+        }
+
+        private static int match(final String str) {
+            for (final String trueStr : TRUE_STRINGS) {
+                if (trueStr.equalsIgnoreCase(str)) {
+                    return 1;
+                }
+            }
+            for (final String falseStr : FALSE_STRINGS) {
+                if (falseStr.equalsIgnoreCase(str)) {
+                    return 0;
+                }
+            }
+            return -1;
+        }
+
+    }
+
+    /**
+     * Converter of the char properties (and the wrapper).
+     */
+    private static final class CharConverter implements PropertyConverter {
+
+        private final PropertyAccessor accessor;
+        private final boolean primitive;
+
+
+        private CharConverter(final PropertyAccessor accessor) {
+            this.accessor = accessor;
+            this.primitive = accessor.getType().isPrimitive();
+        }
+
+        @Override
+        public int set(final Object bean, final Object value) {
+            final String str = Objects.isNull(value) ? null : String.valueOf(value);
+            if (Objects.isNull(str) || str.isEmpty()) {
+                return SKIPPED;
+            }
+
+            try {
+                if (primitive) {
+                    accessor.setChar(bean, str.charAt(0));
+                } else {
+                    accessor.set(bean, str.charAt(0));
+                }
+                return OK;
+            } catch (Exception ex) {
+                LOGGER.debug("Error setting prop - {}, val - {} : {}", accessor.getName(), value, ex.getMessage());
+                return FAILED;
+            }
+        }
+
+    }
+
+    /**
+     * Converter of the enum properties, matching the normalized names of the constants.
+     */
+    private static final class EnumConverter implements PropertyConverter {
+
+        private final PropertyAccessor accessor;
+        private final Map<String, Object> constants;
+
+
+        private EnumConverter(final PropertyAccessor accessor) {
+            this.accessor = accessor;
+            this.constants = ENUM_CONSTANTS.get(accessor.getType());
+        }
+
+        @Override
+        public int set(final Object bean, final Object value) {
+            if (accessor.getType().isInstance(value)) {
+                return setValue(accessor, bean, value);
+            }
+
+            final String str = asText(value);
+            if (Objects.isNull(str)) {
+                return SKIPPED;
+            }
+
+            final Object constant = constants.get(Strings.normalize(str));
+            return Objects.isNull(constant) ? INVALID : setValue(accessor, bean, constant);
+        }
+
+    }
+
+    /**
+     * Converter of the Date/Time properties, see {@link DateTimes}.
+     */
+    private static final class DateTimeConverter implements PropertyConverter {
+
+        private final PropertyAccessor accessor;
+        private final String format;
+        private final DateTimeType datetimeType;
+
+
+        private DateTimeConverter(final PropertyAccessor accessor, final String format,
+                final DateTimeType datetimeType) {
+            this.accessor = accessor;
+            this.format = format;
+            this.datetimeType = datetimeType;
+        }
+
+        @Override
+        public int set(final Object bean, final Object value) {
+            if (Objects.isNull(asText(value))) {
+                return SKIPPED;
+            }
+
+            // Convert
+            final Object dateTimeValue;
+            try {
+                dateTimeValue = DateTimes.convert(value, accessor.getType(), format, datetimeType);
+            } catch (RuntimeException ex) {
+                LOGGER.debug("Invalid Date/Time value of prop - {}, val - {} : {}", accessor.getName(), value,
+                        ex.getMessage());
+                return INVALID;
+            }
+
+            return accessor.getType().isInstance(dateTimeValue) || accessor.getType().isPrimitive() //
+                    ? setValue(accessor, bean, dateTimeValue)
+                    : INVALID;
+        }
+
+    }
+
+    /**
+     * Adapter of the registered {@link ValueConverter}s.
+     */
+    private static final class RegisteredConverter implements PropertyConverter {
+
+        private final PropertyAccessor accessor;
+        private final ValueConverter<?> converter;
+
+
+        private RegisteredConverter(final PropertyAccessor accessor, final ValueConverter<?> converter) {
+            this.accessor = accessor;
+            this.converter = converter;
+        }
+
+        @Override
+        public int set(final Object bean, final Object value) {
+            if (Objects.isNull(value)) {
+                return SKIPPED;
+            }
+
+            // Convert
+            final Object convertedValue;
+            try {
+                convertedValue = converter.convert(value);
+            } catch (Exception ex) {
+                LOGGER.debug("Error converting prop - {}, val - {} : {}", accessor.getName(), value, ex.getMessage());
+                return INVALID;
+            }
+
+            return Objects.isNull(convertedValue) ? SKIPPED : setValue(accessor, bean, convertedValue);
+        }
+
+    }
+
+
+}
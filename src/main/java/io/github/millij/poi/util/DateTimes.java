@@ -0,0 +1,428 @@
+package io.github.millij.poi.util;
+
+import java.text.ParsePosition;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalQueries;
+import java.time.temporal.WeekFields;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import io.github.millij.poi.ss.model.DateTimeType;
+import io.github.millij.poi.ss.model.annotations.SheetColumn;
+
+
+/**
+ * Date/Time conversions of the cell values to the bean property types, backed by immutable (and hence thread-safe)
+ * {@link DateTimeFormatter}s, cached per format (see {@link SheetColumn#format()}).
+ *
+ * <p>
+ * The cell values (formatted Strings, raw Excel serial dates or {@link Date}s) are converted to the {@link Date},
+ * {@link Long} (epoch millis, or for the {@link DateTimeType#DURATION} the millis of the time of the day, to the
+ * second), {@link LocalDate}, {@link LocalDateTime}, {@link LocalTime}, {@link Instant}, {@link OffsetDateTime},
+ * {@link ZonedDateTime} and {@link Duration} properties. The values without a zone are taken to be in the system
+ * default zone.
+ * </p>
+ *
+ * <p>
+ * The formats are {@link java.text.SimpleDateFormat} patterns, and are parsed as the {@link java.text.SimpleDateFormat}
+ * does (see {@link #getFormatter(String)}), with the exceptions :
+ * </p>
+ * <ul>
+ * <li>the field values out of range (ex. the 13th month) are rejected, rather than rolled over</li>
+ * <li>the <code>yy</code> years are pivoted on the date the format is first used, rather than on each parse</li>
+ * <li>the week year (<code>Y</code>) is taken as the year, unless the week of the year (<code>w</code>) is parsed as
+ * well</li>
+ * <li>the day of the week in the month (<code>F</code>) is parsed, but not resolved to a date</li>
+ * </ul>
+ *
+ * @since 3.3.0
+ */
+public final class DateTimes {
+
+    private DateTimes() {
+        super();
+        // Utility Class
+    }
+
+
+    //
+    // Constants
+
+    /** Format of the Date Strings, when none is specified */
+    public static final String DEFAULT_DATE_FORMAT = "dd/MM/yyyy";
+
+    private static final long DAY_MILLIS_LONG = 24 * 60 * 60 * 1000L;
+    private static final double DAY_MILLIS = DAY_MILLIS_LONG;
+
+    private static final LocalDate EPOCH_DATE = LocalDate.of(1970, 1, 1);
+
+    // Formatters, by pattern
+    private static final ConcurrentMap<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, DateTimeFormatter> DURATION_FORMATTERS = new ConcurrentHashMap<>();
+
+
+    // Static Utilities
+    // ------------------------------------------------------------------------
+
+    /**
+     * Check whether the type is one of the supported Date/Time property types (other than {@link Long}).
+     *
+     * @param type the property type
+     *
+     * @return true if the values of the type are converted by {@link #convert(Object, Class, String, DateTimeType)}
+     */
+    public static boolean isDateTimeType(final Class<?> type) {
+        return Date.class.equals(type) //
+                || LocalDate.class.equals(type) //
+                || LocalDateTime.class.equals(type) //
+                || LocalTime.class.equals(type) //
+                || Instant.class.equals(type) //
+                || OffsetDateTime.class.equals(type) //
+                || ZonedDateTime.class.equals(type) //
+                || Duration.class.equals(type);
+    }
+
+    /**
+     * Get the cached {@link DateTimeFormatter} of the {@link java.text.SimpleDateFormat} pattern. The letters are
+     * translated to their {@link java.text.SimpleDateFormat} meaning (ex. <code>u</code> is the day number of the week
+     * and <code>S</code> the milliseconds), the <code>yy</code> years are pivoted to within 80 years before and 20
+     * years after the current date, and the hours of the AM/PM (<code>h</code>, <code>K</code>) without the AM/PM
+     * marker default to AM. As with the {@link java.text.SimpleDateFormat}, the parsing is case insensitive and
+     * lenient about the widths of the numeric fields.
+     *
+     * @param pattern the {@link java.text.SimpleDateFormat} date/time pattern
+     *
+     * @return the (immutable) formatter of the pattern
+     *
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter getFormatter(final String pattern) {
+        final String fmtPattern = Strings.isBlank(pattern) ? DEFAULT_DATE_FORMAT : pattern;
+        return FORMATTERS.computeIfAbsent(fmtPattern, DateTimes::newFormatter);
+    }
+
+    /**
+     * Converts the cell value to the Date/Time property type.
+     *
+     * @param value the cell value : a String (in the passed format), a raw Excel serial date (Number), a {@link Date}
+     *        or a {@link Calendar}
+     * @param propType the property type
+     * @param format the format of the String values
+     * @param dateTimeType {@link DateTimeType} of the property
+     *
+     * @return the converted value, or the value as is when the property type is not a Date/Time type (other than
+     *         {@link Long})
+     */
+    public static Object convert(final Object value, final Class<?> propType, final String format,
+            final DateTimeType dateTimeType) {
+        // Sanity checks
+        if (Objects.isNull(value)) {
+            return null;
+        }
+
+        // Durations
+        if (Duration.class.equals(propType)) {
+            return asDuration(value, format);
+        }
+        if (DateTimeType.DURATION.equals(dateTimeType) && isLongType(propType)) {
+            // Time of the day, to the second
+            final long millis = Math.floorMod(asDuration(value, format).toMillis(), DAY_MILLIS_LONG);
+            return millis - millis % 1000;
+        }
+
+        // Date/Time
+        final ZonedDateTime dateTime = asDateTime(value, format);
+        if (Date.class.equals(propType)) {
+            return Date.from(dateTime.toInstant());
+        } else if (isLongType(propType)) {
+            return dateTime.toInstant().toEpochMilli();
+        } else if (LocalDate.class.equals(propType)) {
+            return dateTime.toLocalDate();
+        } else if (LocalDateTime.class.equals(propType)) {
+            return dateTime.toLocalDateTime();
+        } else if (LocalTime.class.equals(propType)) {
+            return dateTime.toLocalTime();
+        } else if (Instant.class.equals(propType)) {
+            return dateTime.toInstant();
+        } else if (OffsetDateTime.class.equals(propType)) {
+            return dateTime.toOffsetDateTime();
+        } else if (ZonedDateTime.class.equals(propType)) {
+            return dateTime;
+        }
+
+        return value;
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static boolean isLongType(final Class<?> type) {
+        return Long.class.equals(type) || long.class.equals(type);
+    }
+
+    private static ZonedDateTime asDateTime(final Object value, final String format) {
+        final ZoneId zone = ZoneId.systemDefault();
+        if (value instanceof Date) {
+            return ZonedDateTime.ofInstant(((Date) value).toInstant(), zone);
+        }
+        if (value instanceof Calendar) {
+            return ZonedDateTime.ofInstant(((Calendar) value).toInstant(), zone);
+        }
+        if (value instanceof Number) {
+            // Raw cell value : Excel serial date
+            return DateUtil.getLocalDateTime(((Number) value).doubleValue()).atZone(zone);
+        }
+
+        // Parse
+        final TemporalAccessor parsed = parse(getFormatter(format), String.valueOf(value).trim());
+        final LocalDate date = parsed.query(TemporalQueries.localDate());
+        final LocalTime time = parsed.query(TemporalQueries.localTime());
+        final ZoneId parsedZone = parsed.query(TemporalQueries.zone());
+        if (Objects.isNull(date) && Objects.isNull(time)) {
+            throw new DateTimeParseException("Unable to resolve the date/time", String.valueOf(value), 0);
+        }
+
+        final LocalDateTime dateTime = Objects.isNull(date) //
+                ? time.atDate(EPOCH_DATE)
+                : Objects.isNull(time) ? date.atStartOfDay() : date.atTime(time);
+        return Objects.isNull(parsedZone) ? dateTime.atZone(zone) : ZonedDateTime.of(dateTime, parsedZone);
+    }
+
+    /**
+     * Parses the text from the start, ignoring any trailing text (as the {@link java.text.DateFormat#parse(String)}).
+     */
+    private static TemporalAccessor parse(final DateTimeFormatter formatter, final String text) {
+        return formatter.parse(text, new ParsePosition(0));
+    }
+
+    private static Duration asDuration(final Object value, final String format) {
+        if (value instanceof Number) {
+            // Raw cell value : fraction of the day (can be more than a day)
+            return Duration.ofMillis(Math.round(((Number) value).doubleValue() * DAY_MILLIS));
+        }
+        if (value instanceof Date || value instanceof Calendar) {
+            return Duration.ofNanos(asDateTime(value, format).toLocalTime().toNanoOfDay());
+        }
+
+        // Parse, with the hours beyond a day (ex. "[h]:mm:ss" formats) as excess days
+        final String fmtPattern = Strings.isBlank(format) ? DEFAULT_DATE_FORMAT : format;
+        final DateTimeFormatter formatter = DURATION_FORMATTERS.computeIfAbsent(fmtPattern, //
+                p -> getFormatter(p).withResolverStyle(ResolverStyle.LENIENT));
+
+        final TemporalAccessor parsed = parse(formatter, String.valueOf(value).trim());
+        final LocalTime time = parsed.query(TemporalQueries.localTime());
+        final Period excessDays = parsed.query(DateTimeFormatter.parsedExcessDays());
+
+        final Duration timeOfDay = Objects.isNull(time) ? Duration.ZERO : Duration.ofNanos(time.toNanoOfDay());
+        return timeOfDay.plusDays(excessDays.getDays());
+    }
+
+
+    // Pattern Translation
+    // ------------------------------------------------------------------------
+
+    /**
+     * Builds the formatter of the {@link java.text.SimpleDateFormat} pattern, translating its letters.
+     */
+    private static DateTimeFormatter newFormatter(final String pattern) {
+        final String letters = patternLetters(pattern);
+        final boolean weekDate = letters.indexOf('w') >= 0;
+
+        final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder() //
+                .parseCaseInsensitive() //
+                .parseLenient();
+
+        final int len = pattern.length();
+        for (int i = 0; i < len;) {
+            final char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                // Quoted text ('' being a quote)
+                final int end = quotedTextEnd(pattern, i);
+                builder.appendLiteral(end == i + 1 ? "'" : pattern.substring(i + 1, end).replace("''", "'"));
+                i = end + 1;
+            } else if (isPatternLetter(ch)) {
+                int end = i + 1;
+                while (end < len && pattern.charAt(end) == ch) {
+                    end++;
+                }
+
+                appendField(builder, pattern, ch, end - i, weekDate);
+                i = end;
+            } else {
+                builder.appendLiteral(ch);
+                i++;
+            }
+        }
+
+        // Hours of the AM/PM, without the marker
+        if ((letters.indexOf('h') >= 0 || letters.indexOf('K') >= 0) && letters.indexOf('a') < 0) {
+            builder.parseDefaulting(ChronoField.AMPM_OF_DAY, 0);
+        }
+
+        return builder.toFormatter();
+    }
+
+    private static void appendField(final DateTimeFormatterBuilder builder, final String pattern, final char letter,
+            final int count, final boolean weekDate) {
+        final WeekFields weekFields = WeekFields.of(Locale.getDefault());
+        switch (letter) {
+            case 'G':
+                builder.appendText(ChronoField.ERA, count >= 4 ? TextStyle.FULL : TextStyle.SHORT);
+                break;
+            case 'y':
+                appendYear(builder, ChronoField.YEAR_OF_ERA, count);
+                break;
+            case 'Y':
+                appendYear(builder, weekDate ? weekFields.weekBasedYear() : ChronoField.YEAR_OF_ERA, count);
+                break;
+            case 'M':
+            case 'L':
+                if (count <= 2) {
+                    appendNumber(builder, ChronoField.MONTH_OF_YEAR, count);
+                } else {
+                    builder.appendText(ChronoField.MONTH_OF_YEAR, count >= 4 ? TextStyle.FULL : TextStyle.SHORT);
+                }
+                break;
+            case 'w':
+                appendNumber(builder, weekFields.weekOfWeekBasedYear(), count);
+                break;
+            case 'W':
+                appendNumber(builder, weekFields.weekOfMonth(), count);
+                break;
+            case 'D':
+                appendNumber(builder, ChronoField.DAY_OF_YEAR, count);
+                break;
+            case 'd':
+                appendNumber(builder, ChronoField.DAY_OF_MONTH, count);
+                break;
+            case 'F':
+                appendNumber(builder, ChronoField.ALIGNED_WEEK_OF_MONTH, count);
+                break;
+            case 'E':
+                builder.appendText(ChronoField.DAY_OF_WEEK, count >= 4 ? TextStyle.FULL : TextStyle.SHORT);
+                break;
+            case 'u':
+                appendNumber(builder, ChronoField.DAY_OF_WEEK, count);
+                break;
+            case 'a':
+                builder.appendText(ChronoField.AMPM_OF_DAY, TextStyle.SHORT);
+                break;
+            case 'H':
+                appendNumber(builder, ChronoField.HOUR_OF_DAY, count);
+                break;
+            case 'k':
+                appendNumber(builder, ChronoField.CLOCK_HOUR_OF_DAY, count);
+                break;
+            case 'K':
+                appendNumber(builder, ChronoField.HOUR_OF_AMPM, count);
+                break;
+            case 'h':
+                appendNumber(builder, ChronoField.CLOCK_HOUR_OF_AMPM, count);
+                break;
+            case 'm':
+                appendNumber(builder, ChronoField.MINUTE_OF_HOUR, count);
+                break;
+            case 's':
+                appendNumber(builder, ChronoField.SECOND_OF_MINUTE, count);
+                break;
+            case 'S':
+                appendNumber(builder, ChronoField.MILLI_OF_SECOND, count);
+                break;
+            case 'z':
+                builder.appendZoneText(count >= 4 ? TextStyle.FULL : TextStyle.SHORT);
+                break;
+            case 'Z':
+                builder.appendOffset("+HHMM", "+0000");
+                break;
+            case 'X':
+                if (count > 3) {
+                    throw new IllegalArgumentException("Invalid ISO 8601 format : " + pattern);
+                }
+                builder.appendOffset(count == 1 ? "+HHmm" : count == 2 ? "+HHMM" : "+HH:MM", "Z");
+                break;
+            default:
+                throw new IllegalArgumentException("Illegal pattern character '" + letter + "' : " + pattern);
+        }
+    }
+
+    private static void appendYear(final DateTimeFormatterBuilder builder, final TemporalField field,
+            final int count) {
+        if (count == 2) {
+            // Within 80 years before and 20 years after
+            builder.appendValueReduced(field, 2, 2, LocalDate.now().minusYears(80));
+        } else {
+            builder.appendValue(field, count, 19, count < 4 ? SignStyle.NORMAL : SignStyle.EXCEEDS_PAD);
+        }
+    }
+
+    private static void appendNumber(final DateTimeFormatterBuilder builder, final TemporalField field,
+            final int count) {
+        if (count == 1) {
+            builder.appendValue(field);
+        } else {
+            builder.appendValue(field, count);
+        }
+    }
+
+    private static boolean isPatternLetter(final char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+
+    private static int quotedTextEnd(final String pattern, final int start) {
+        for (int i = start + 1; i < pattern.length(); i++) {
+            if (pattern.charAt(i) != '\'') {
+                continue;
+            }
+            if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'' && i != start + 1) {
+                i++; // Escaped quote
+                continue;
+            }
+            return i;
+        }
+
+        throw new IllegalArgumentException("Unterminated quote : " + pattern);
+    }
+
+    /**
+     * @return the pattern letters, outside of the quoted text
+     */
+    private static String patternLetters(final String pattern) {
+        final StringBuilder letters = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            final char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                i = quotedTextEnd(pattern, i);
+            } else if (isPatternLetter(ch)) {
+                letters.append(ch);
+            }
+        }
+
+        return letters.toString();
+    }
+
+
+}
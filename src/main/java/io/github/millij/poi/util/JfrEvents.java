@@ -0,0 +1,352 @@
+package io.github.millij.poi.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * JDK Flight Recorder (JFR) events of the reads and the writes, with the bean type, the sheet name, the no. of rows and
+ * columns, and the bytes read or written.
+ *
+ * <p>
+ * As the library targets Java 8, the events are not compiled against the <code>jdk.jfr</code> API. They are defined
+ * at runtime (see <code>jdk.jfr.EventFactory</code>) and driven through method handles, when the JFR is available.
+ * Otherwise, or when the event is not enabled in any of the recordings, {@link #begin(Type)} returns the
+ * {@link Event#NOOP} event, on which all the calls do nothing.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public final class JfrEvents {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JfrEvents.class);
+
+    private JfrEvents() {
+        super();
+        // Utility Class
+    }
+
+
+    /**
+     * No. of rows in each of the {@link Type#ROWS_BOUND} events.
+     */
+    public static final int ROWS_BATCH_SIZE = 1024;
+
+    /**
+     * Event Types.
+     */
+    public enum Type {
+
+        /** Reading a workbook */
+        READ("Read", "Spreadsheet Read", "Reading a workbook"),
+
+        /** Parsing a sheet */
+        SHEET_PARSE("SheetParse", "Sheet Parse", "Parsing a sheet of the workbook"),
+
+        /** Resolving the columns of the header row */
+        HEADER_RESOLUTION("HeaderResolution", "Header Resolution", "Resolving the columns of the header row"),
+
+        /** Reading and binding a batch of rows (see {@link JfrEvents#ROWS_BATCH_SIZE}) */
+        ROWS_BOUND("RowsBound", "Rows Bound", "Reading and binding a batch of the rows"),
+
+        /** Writing a workbook */
+        WRITE("Write", "Spreadsheet Write", "Writing a workbook");
+
+        private final String name;
+        private final String label;
+        private final String description;
+
+        Type(final String name, final String label, final String description) {
+            this.name = "io.github.millij.poi." + name;
+            this.label = label;
+            this.description = description;
+        }
+
+    }
+
+
+    //
+    // Constants
+
+    private static final String JFR_PKG = "jdk.jfr.";
+    private static final String[] CATEGORY = {"Spreadsheet"};
+
+    // Field indexes
+    private static final int BEAN_TYPE = 0;
+    private static final int SHEET_NAME = 1;
+    private static final int ROWS = 2;
+    private static final int COLUMNS = 3;
+    private static final int BYTES = 4;
+
+    // jdk.jfr.Event handles
+    private static final MethodHandle BEGIN;
+    private static final MethodHandle SET;
+    private static final MethodHandle COMMIT;
+
+    // Event factories and the enabled checks, by type (null when the JFR is not available)
+    private static final Map<Type, MethodHandle> NEW_EVENT;
+    private static final Map<Type, MethodHandle> IS_ENABLED;
+
+    static {
+        MethodHandle begin = null;
+        MethodHandle set = null;
+        MethodHandle commit = null;
+        Map<Type, MethodHandle> newEvent = null;
+        Map<Type, MethodHandle> isEnabled = null;
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> eventClz = Class.forName(JFR_PKG + "Event");
+            begin = lookup.findVirtual(eventClz, "begin", MethodType.methodType(void.class)) //
+                    .asType(MethodType.methodType(void.class, Object.class));
+            set = lookup.findVirtual(eventClz, "set", MethodType.methodType(void.class, int.class, Object.class)) //
+                    .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+            commit = lookup.findVirtual(eventClz, "commit", MethodType.methodType(void.class)) //
+                    .asType(MethodType.methodType(void.class, Object.class));
+
+            newEvent = new EnumMap<>(Type.class);
+            isEnabled = new EnumMap<>(Type.class);
+            for (final Type type : Type.values()) {
+                final Object factory = newEventFactory(type);
+                final Class<?> factoryClz = factory.getClass();
+                newEvent.put(type, lookup.findVirtual(factoryClz, "newEvent", MethodType.methodType(eventClz)) //
+                        .bindTo(factory).asType(MethodType.methodType(Object.class)));
+
+                final Object eventType = factoryClz.getMethod("getEventType").invoke(factory);
+                isEnabled.put(type, lookup.findVirtual(eventType.getClass(), "isEnabled", //
+                        MethodType.methodType(boolean.class)).bindTo(eventType));
+            }
+
+            LOGGER.debug("Registered the JFR events : {}", Arrays.toString(Type.values()));
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError ex) {
+            LOGGER.debug("JFR events are not available : {}", ex.getMessage());
+            newEvent = null;
+            isEnabled = null;
+        }
+
+        BEGIN = begin;
+        SET = set;
+        COMMIT = commit;
+        NEW_EVENT = newEvent;
+        IS_ENABLED = isEnabled;
+    }
+
+
+    // Static Utilities
+    // ------------------------------------------------------------------------
+
+    /**
+     * Checks whether the events of the type are enabled, i.e., the JFR is available and the event is enabled in any
+     * of the recordings.
+     *
+     * @param type the event {@link Type}
+     *
+     * @return true if the events of the type are recorded
+     */
+    public static boolean isEnabled(final Type type) {
+        if (Objects.isNull(IS_ENABLED)) {
+            return false;
+        }
+
+        try {
+            return (boolean) IS_ENABLED.get(type).invokeExact();
+        } catch (Throwable ex) {
+            LOGGER.debug("Unable to check the JFR event {} : {}", type, ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Begins (the timing of) a new event of the type.
+     *
+     * @param type the event {@link Type}
+     *
+     * @return the event to set the fields of and commit, or the {@link Event#NOOP} event if not enabled
+     */
+    public static Event begin(final Type type) {
+        if (!isEnabled(type)) {
+            return Event.NOOP;
+        }
+
+        try {
+            final Object jfrEvent = (Object) NEW_EVENT.get(type).invokeExact();
+            BEGIN.invokeExact(jfrEvent);
+            return new Event(jfrEvent);
+        } catch (Throwable ex) {
+            LOGGER.debug("Unable to begin the JFR event {} : {}", type, ex.getMessage());
+            return Event.NOOP;
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private static Object newEventFactory(final Type type) throws ReflectiveOperationException {
+        // Event Annotations
+        final List<Object> annotations = new ArrayList<>();
+        annotations.add(newAnnotation("Name", type.name));
+        annotations.add(newAnnotation("Label", type.label));
+        annotations.add(newAnnotation("Description", type.description));
+        annotations.add(newAnnotation("Category", CATEGORY));
+
+        // Fields, in the order of the indexes
+        final List<Object> fields = new ArrayList<>();
+        fields.add(newField(String.class, "beanType", "Bean Type"));
+        fields.add(newField(String.class, "sheetName", "Sheet Name"));
+        fields.add(newField(long.class, "rows", "Rows"));
+        fields.add(newField(long.class, "columns", "Columns"));
+        fields.add(newField(long.class, "bytes", "Bytes", newAnnotation("DataAmount", "BYTES")));
+
+        final Class<?> factoryClz = Class.forName(JFR_PKG + "EventFactory");
+        return factoryClz.getMethod("create", List.class, List.class).invoke(null, annotations, fields);
+    }
+
+    private static Object newField(final Class<?> fieldType, final String name, final String label,
+            final Object... annotations) throws ReflectiveOperationException {
+        final List<Object> fieldAnnotations = new ArrayList<>(Arrays.asList(annotations));
+        fieldAnnotations.add(newAnnotation("Label", label));
+
+        final Class<?> descriptorClz = Class.forName(JFR_PKG + "ValueDescriptor");
+        final Constructor<?> constructor = descriptorClz.getConstructor(Class.class, String.class, List.class);
+        return constructor.newInstance(fieldType, name, Collections.unmodifiableList(fieldAnnotations));
+    }
+
+    private static Object newAnnotation(final String annotationName, final Object value)
+            throws ReflectiveOperationException {
+        final Class<? extends Annotation> annotationClz =
+                Class.forName(JFR_PKG + annotationName).asSubclass(Annotation.class);
+
+        final Class<?> elementClz = Class.forName(JFR_PKG + "AnnotationElement");
+        return elementClz.getConstructor(Class.class, Object.class).newInstance(annotationClz, value);
+    }
+
+
+    // Event
+    // ------------------------------------------------------------------------
+
+    /**
+     * An event in progress : begun on creation, and recorded (with the duration) on {@link #commit()}. The events are
+     * not thread-safe, other than {@link #addRows(long)}.
+     */
+    public static final class Event {
+
+        /**
+         * Event which is not recorded.
+         */
+        public static final Event NOOP = new Event(null);
+
+        private final Object jfrEvent;
+
+        private String beanType;
+        private String sheetName;
+        private volatile long rows;
+        private long columns;
+        private long bytes;
+
+
+        private Event(final Object jfrEvent) {
+            super();
+
+            // init
+            this.jfrEvent = jfrEvent;
+        }
+
+
+        // Methods
+
+        /**
+         * @return <code>true</code> if the event is recorded, and hence the fields are worth computing.
+         */
+        public boolean isRecording() {
+            return Objects.nonNull(jfrEvent);
+        }
+
+        public Event beanType(final Class<?> beanType) {
+            if (this.isRecording() && Objects.nonNull(beanType)) {
+                this.beanType = beanType.getName();
+            }
+            return this;
+        }
+
+        public Event sheetName(final String sheetName) {
+            if (this.isRecording()) {
+                this.sheetName = sheetName;
+            }
+            return this;
+        }
+
+        public Event rows(final long rows) {
+            if (this.isRecording()) {
+                this.rows = rows;
+            }
+            return this;
+        }
+
+        /**
+         * Adds to the no. of rows. Unlike the other fields, this can be called concurrently (ex. by the sheets read in
+         * parallel).
+         *
+         * @param count no. of the rows to add
+         *
+         * @return this event
+         */
+        public Event addRows(final long count) {
+            if (this.isRecording()) {
+                synchronized (this) {
+                    this.rows += count;
+                }
+            }
+            return this;
+        }
+
+        public Event columns(final long columns) {
+            if (this.isRecording()) {
+                this.columns = columns;
+            }
+            return this;
+        }
+
+        public Event bytes(final long bytes) {
+            if (this.isRecording()) {
+                this.bytes = bytes;
+            }
+            return this;
+        }
+
+        /**
+         * Ends the event and records it (when it passes the threshold of the recordings).
+         */
+        public void commit() {
+            if (!this.isRecording()) {
+                return;
+            }
+
+            try {
+                SET.invokeExact(jfrEvent, BEAN_TYPE, (Object) beanType);
+                SET.invokeExact(jfrEvent, SHEET_NAME, (Object) sheetName);
+                SET.invokeExact(jfrEvent, ROWS, (Object) rows);
+                SET.invokeExact(jfrEvent, COLUMNS, (Object) columns);
+                SET.invokeExact(jfrEvent, BYTES, (Object) bytes);
+                COMMIT.invokeExact(jfrEvent);
+            } catch (Throwable ex) {
+                LOGGER.debug("Unable to commit the JFR event : {}", ex.getMessage());
+            }
+        }
+
+    }
+
+
+}
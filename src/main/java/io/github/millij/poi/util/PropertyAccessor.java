@@ -0,0 +1,228 @@
+package io.github.millij.poi.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * Compiled accessors (getter and setter) of a single Bean property, backed by {@link MethodHandle}s.
+ *
+ * <p>
+ * Instances are created once per bean type by {@link BeanAccessor} and are safe to be shared across threads.
+ * </p>
+ *
+ * <p>
+ * The properties of the primitive types can also be set without boxing (ex. {@link #setInt(Object, int)}), each of
+ * these setters being valid only for the property of that exact primitive type.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+public final class PropertyAccessor {
+
+    private final String name;
+    private final Class<?> type;
+
+    private final MethodHandle getter; // (Object)Object
+    private final MethodHandle setter; // (Object,Object)void
+    private final MethodHandle primitiveSetter; // (Object,<primitive>)void
+
+    // Converters of the property, by the format and the Date/Time type (see Converters#resolveCached)
+    final ConcurrentMap<String, Converters.CachedConverter> converters;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    PropertyAccessor(final String name, final Class<?> type, final MethodHandle getter, final MethodHandle setter,
+            final MethodHandle primitiveSetter) {
+        super();
+
+        // init
+        this.name = name;
+        this.type = type;
+
+        this.getter = getter;
+        this.setter = setter;
+        this.primitiveSetter = primitiveSetter;
+
+        this.converters = new ConcurrentHashMap<>();
+    }
+
+
+    // Methods
+    // ------------------------------------------------------------------------
+
+    public boolean isReadable() {
+        return Objects.nonNull(getter);
+    }
+
+    public boolean isWritable() {
+        return Objects.nonNull(setter);
+    }
+
+
+    /**
+     * Read the property value of the passed bean.
+     *
+     * @param bean the bean object
+     *
+     * @return the property value
+     *
+     * @throws Exception if the property is not readable, or the getter throws an exception
+     */
+    public Object get(final Object bean) throws Exception {
+        // Sanity checks
+        if (Objects.isNull(getter)) {
+            final String errMsg = String.format("Property is not readable : %s", name);
+            throw new IllegalStateException(errMsg);
+        }
+
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (Throwable t) {
+            throw asException(t);
+        }
+    }
+
+    /**
+     * Set the property value of the passed bean. The value is expected to be of the property type already.
+     *
+     * @param bean the bean object
+     * @param value the property value
+     *
+     * @throws Exception if the property is not writable, or the setter throws an exception
+     */
+    public void set(final Object bean, final Object value) throws Exception {
+        // Sanity checks
+        if (Objects.isNull(setter)) {
+            final String errMsg = String.format("Property is not writable : %s", name);
+            throw new IllegalStateException(errMsg);
+        }
+
+        try {
+            setter.invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw asException(t);
+        }
+    }
+
+
+    // Methods :: Primitive setters
+    // ------------------------------------------------------------------------
+
+    public void setInt(final Object bean, final int value) throws Exception {
+        try {
+            this.primitiveSetter(int.class).invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw asException(t);
+        }
+    }
+
+    public void setLong(final Object bean, final long value) throws Exception {
+        try {
+            this.primitiveSetter(long.class).invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw asException(t);
+        }
+    }
+
+    public void setDouble(final Object bean, final double value) throws Exception {
+        try {
+            this.primitiveSetter(double.class).invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw asException(t);
+        }
+    }
+
+    public void setFloat(final Object bean, final float value) throws Exception {
+        try {
+            this.primitiveSetter(float.class).invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw asException(t);
+        }
+    }
+
+    public void setShort(final Object bean, final short value) throws Exception {
+        try {
+            this.primitiveSetter(short.class).invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw asException(t);
+        }
+    }
+
+    public void setByte(final Object bean, final byte value) throws Exception {
+        try {
+            this.primitiveSetter(byte.class).invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw asException(t);
+        }
+    }
+
+    public void setBoolean(final Object bean, final boolean value) throws Exception {
+        try {
+            this.primitiveSetter(boolean.class).invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw asException(t);
+        }
+    }
+
+    public void setChar(final Object bean, final char value) throws Exception {
+        try {
+            this.primitiveSetter(char.class).invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw asException(t);
+        }
+    }
+
+
+    // Private Methods
+    // ------------------------------------------------------------------------
+
+    private MethodHandle primitiveSetter(final Class<?> primitiveType) {
+        // Sanity checks
+        if (Objects.isNull(primitiveSetter) || !primitiveType.equals(type)) {
+            final String errMsg = String.format("Property is not a writable %s : %s", primitiveType, name);
+            throw new IllegalStateException(errMsg);
+        }
+
+        return primitiveSetter;
+    }
+
+    static Exception asException(final Throwable t) {
+        if (t instanceof Exception) {
+            return (Exception) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new UndeclaredThrowableException(t);
+    }
+
+
+    // Getters and Setters
+    // ------------------------------------------------------------------------
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+
+    // Object Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    public String toString() {
+        return "PropertyAccessor [name=" + name + ", type=" + type + ", readable=" + isReadable() + ", writable="
+                + isWritable() + "]";
+    }
+
+
+}
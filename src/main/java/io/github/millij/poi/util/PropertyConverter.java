@@ -0,0 +1,64 @@
+package io.github.millij.poi.util;
+
+
+/**
+ * Converter of the cell values of a single bean property, resolved once per property (see
+ * {@link Converters#resolve(PropertyAccessor, String, io.github.millij.poi.ss.model.DateTimeType)}), which converts
+ * the value and sets it on the bean in one step.
+ *
+ * <p>
+ * Instead of throwing exceptions, the outcome of the conversion is reported as a result code : {@link #OK},
+ * {@link #SKIPPED}, {@link #INVALID} or {@link #FAILED}.
+ * </p>
+ *
+ * @since 3.3.0
+ */
+@FunctionalInterface
+public interface PropertyConverter {
+
+    /** The value is converted and set */
+    int OK = 0;
+
+    /** The value is <code>null</code> or blank, and the property is left unset */
+    int SKIPPED = 1;
+
+    /** The value can not be converted to the property type, and the property is left unset */
+    int INVALID = 2;
+
+    /** The converter or the setter of the property failed */
+    int FAILED = 3;
+
+
+    /**
+     * Converts the cell value and sets it on the bean.
+     *
+     * @param bean the bean object
+     * @param value the cell value
+     *
+     * @return the result code
+     */
+    int set(Object bean, Object value);
+
+
+    /**
+     * @param result the result code
+     *
+     * @return the name of the result code
+     */
+    static String describe(final int result) {
+        switch (result) {
+            case OK:
+                return "OK";
+            case SKIPPED:
+                return "SKIPPED";
+            case INVALID:
+                return "INVALID";
+            case FAILED:
+                return "FAILED";
+            default:
+                return "UNKNOWN(" + result + ")";
+        }
+    }
+
+
+}
@@ -11,6 +11,7 @@ import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.github.millij.poi.ss.model.BeanSchema;
 import io.github.millij.poi.ss.model.Column;
 import io.github.millij.poi.ss.model.DateTimeType;
 import io.github.millij.poi.ss.model.annotations.Sheet;
@@ -42,10 +43,42 @@ public final class Spreadsheet {
      * @return returns the column index "D" from the cell reference "D3"
      */
     public static String getCellColumnReference(final String cellRef) {
-        final String cellColRef = cellRef.split("[0-9]*$")[0];
+        // Strip the trailing Row number
+        int end = cellRef.length();
+        while (end > 0 && Character.isDigit(cellRef.charAt(end - 1))) {
+            end--;
+        }
+
+        final String cellColRef = cellRef.substring(0, end);
         return cellColRef;
     }
 
+    /**
+     * Parses the column index from the CellReference.
+     * 
+     * @param cellRef the cell reference value (ex. D3 or $AB$12)
+     * 
+     * @return returns the column index (indexed from 0) from the cell reference. ex. 3 from "D3", or <code>-1</code>
+     *         if the reference has no column part.
+     * 
+     * @since 3.3.0
+     */
+    public static int getCellColumnIndex(final String cellRef) {
+        int colNum = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            final char ch = cellRef.charAt(i);
+            if (ch >= 'A' && ch <= 'Z') {
+                colNum = colNum * 26 + (ch - 'A' + 1);
+            } else if (ch >= 'a' && ch <= 'z') {
+                colNum = colNum * 26 + (ch - 'a' + 1);
+            } else if (ch != '$') {
+                break; // Row number
+            }
+        }
+
+        return colNum - 1;
+    }
+
 
     //
     // Sheet & SheetColumn Annotations
@@ -105,6 +138,18 @@ public final class Spreadsheet {
     // Bean :: Property Utils
     // ------------------------------------------------------------------------
 
+    /**
+     * Get the Bean property name to {@link Column} definition mapping of the Bean type.
+     * 
+     * <p>
+     * Note that the returned map (and the {@link Column}s) are copies of the cached {@link BeanSchema} definitions, use
+     * {@link #getSchema(Class)} to avoid the copying.
+     * </p>
+     * 
+     * @param beanType The bean Type
+     * 
+     * @return an unmodifiable {@link Map} of Bean property name to {@link Column}.
+     */
     public static Map<String, Column> getPropertyToColumnDefMap(final Class<?> beanType) {
         // Sanity checks
         if (Objects.isNull(beanType)) {
@@ -112,6 +157,70 @@ public final class Spreadsheet {
             throw new IllegalArgumentException(errMsg);
         }
 
+        // Copy of the cached definitions
+        final Map<String, Column> mappings = new HashMap<>();
+        getSchema(beanType).getPropertyColumnMap().forEach((prop, col) -> mappings.put(prop, new Column(col)));
+
+        return Collections.unmodifiableMap(mappings);
+    }
+
+
+    //
+    // Bean :: Schema
+    // ------------------------------------------------------------------------
+
+    private static final ClassValue<BeanSchema> SCHEMA_CACHE = new ClassValue<BeanSchema>() {
+
+        @Override
+        protected BeanSchema computeValue(final Class<?> beanType) {
+            return Spreadsheet.buildSchema(beanType);
+        }
+
+    };
+
+    /**
+     * Get the {@link BeanSchema} of the Bean type.
+     * 
+     * <p>
+     * The schema is computed only once per bean type and cached (weakly against the {@link Class}, so that the
+     * ClassLoader of the type can still be unloaded).
+     * </p>
+     * 
+     * @param beanType The bean Type
+     * 
+     * @return the cached {@link BeanSchema} of the bean type.
+     * 
+     * @since 3.3.0
+     */
+    public static BeanSchema getSchema(final Class<?> beanType) {
+        // Sanity checks
+        if (Objects.isNull(beanType)) {
+            final String errMsg = String.format("#getSchema :: Input type is NULL");
+            throw new IllegalArgumentException(errMsg);
+        }
+
+        return SCHEMA_CACHE.get(beanType);
+    }
+
+    /**
+     * Discards the cached {@link BeanSchema} of the Bean type. The schema will be recomputed on its next use, while the
+     * reads/writes already in progress continue to use the previous (immutable) schema.
+     * 
+     * @param beanType The bean Type
+     * 
+     * @since 3.3.0
+     */
+    public static void invalidateSchema(final Class<?> beanType) {
+        // Sanity checks
+        if (Objects.isNull(beanType)) {
+            return;
+        }
+
+        SCHEMA_CACHE.remove(beanType);
+        BeanAccessor.invalidate(beanType);
+    }
+
+    private static BeanSchema buildSchema(final Class<?> beanType) {
         // Property to Column name Mapping
         final Map<String, Column> mappings = new HashMap<>();
 
@@ -150,17 +259,25 @@ public final class Spreadsheet {
             mappings.put(fieldName, column);
         }
 
-        return Collections.unmodifiableMap(mappings);
+        LOGGER.debug("Prepared the Schema of type {} : {}", beanType, mappings);
+        return new BeanSchema(beanType, getSheetName(beanType), mappings);
     }
 
 
     // Read from Bean : as Row Data
     // ------------------------------------------------------------------------
 
+    /**
+     * Reads the values of the bean properties of the headers, as Strings.
+     * 
+     * @deprecated the writers no longer use this, and write the typed values of the beans a row at a time
+     */
+    @Deprecated
     public static Map<String, String> asRowDataMap(final Object beanObj, final List<String> colHeaders)
             throws Exception {
         // Excel Bean Type
         final Class<?> beanType = beanObj.getClass();
+        final BeanAccessor<?> beanAccessor = BeanAccessor.of(beanType);
 
         // RowData map
         final Map<String, String> rowDataMap = new HashMap<String, String>();
@@ -179,7 +296,7 @@ public final class Spreadsheet {
                 continue;
             }
 
-            rowDataMap.put(header, Beans.getFieldValueAsString(beanObj, fieldName));
+            rowDataMap.put(header, asString(beanAccessor, beanObj, fieldName));
         }
 
         // Methods
@@ -196,12 +313,25 @@ public final class Spreadsheet {
                 continue;
             }
 
-            rowDataMap.put(header, Beans.getFieldValueAsString(beanObj, fieldName));
+            rowDataMap.put(header, asString(beanAccessor, beanObj, fieldName));
         }
 
         return rowDataMap;
     }
 
+    private static String asString(final BeanAccessor<?> beanAccessor, final Object beanObj, final String propName)
+            throws Exception {
+        // Property Accessor
+        final PropertyAccessor accessor = beanAccessor.getProperty(propName);
+        if (Objects.isNull(accessor)) {
+            final String errMsg = String.format("Unknown property '%s' on %s", propName, beanObj.getClass());
+            throw new NoSuchMethodException(errMsg);
+        }
+
+        final Object value = accessor.get(beanObj);
+        return Objects.nonNull(value) ? String.valueOf(value) : null;
+    }
+
 
     // Write to Bean :: from Row data
     // ------------------------------------------------------------------------
@@ -253,7 +383,8 @@ public final class Spreadsheet {
 
         try {
             // Create new Instance
-            final T bean = beanClz.getDeclaredConstructor().newInstance();
+            final BeanAccessor<T> beanAccessor = BeanAccessor.of(beanClz);
+            final T bean = beanAccessor.newInstance();
 
             for (final String propName : propColumnMap.keySet()) {
                 // Prop Column Definition
@@ -268,6 +399,13 @@ public final class Spreadsheet {
                     continue;
                 }
 
+                // Property Accessor
+                final PropertyAccessor accessor = beanAccessor.getProperty(propName);
+                if (Objects.isNull(accessor)) {
+                    LOGGER.debug("{} :: No Accessor found [Prop - Col] : [{} - {}]", beanClz, propName, propColName);
+                    continue;
+                }
+
                 // Property Value and Format
                 final Object propValue = rowDataMap.get(propCellRef);
                 final String dataFormat = propColDef.getFormat();
@@ -276,7 +414,7 @@ public final class Spreadsheet {
                 // Set Value
                 try {
                     // Set the property value in the current row object bean
-                    Beans.setProperty(bean, propName, propValue, dataFormat, datetimeType);
+                    Beans.setProperty(bean, accessor, propValue, dataFormat, datetimeType);
                 } catch (Exception ex) {
                     String exMsg = ex.getMessage();
                     String errMsg = String.format("Error setting prop - %s, val - %s : %s", propName, propValue, exMsg);
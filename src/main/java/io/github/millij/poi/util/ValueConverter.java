@@ -0,0 +1,28 @@
+package io.github.millij.poi.util;
+
+
+/**
+ * Converter of the cell values to a bean property type, to be registered with the {@link Converters} registry for
+ * the types not supported out of the box (or to override the default conversions).
+ *
+ * @param <T> the property type
+ *
+ * @since 3.3.0
+ */
+@FunctionalInterface
+public interface ValueConverter<T> {
+
+    /**
+     * Converts the cell value to the property type.
+     *
+     * @param value the cell value (never <code>null</code>) : a String (formatted value), or a Number / Boolean (raw
+     *        value)
+     *
+     * @return the converted value, <code>null</code> to leave the property unset.
+     *
+     * @throws Exception if the value can not be converted
+     */
+    T convert(Object value) throws Exception;
+
+
+}
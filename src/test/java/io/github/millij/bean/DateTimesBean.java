@@ -0,0 +1,83 @@
+package io.github.millij.bean;
+
+import static io.github.millij.poi.ss.model.DateTimeType.DATE;
+import static io.github.millij.poi.ss.model.DateTimeType.DURATION;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import io.github.millij.poi.ss.model.annotations.Sheet;
+import io.github.millij.poi.ss.model.annotations.SheetColumn;
+
+
+@Sheet
+public class DateTimesBean {
+
+    @SheetColumn("ID")
+    private String id;
+
+    @SheetColumn(value = "Date", datetime = DATE, format = "dd-MM-yyy")
+    private LocalDate date;
+
+    @SheetColumn(value = "Timestamp", datetime = DATE, format = "dd-MM-yyy HH:mm")
+    private LocalDateTime timestamp;
+
+    @SheetColumn(value = "Duration", datetime = DURATION, format = "HH:mm:ss")
+    private Duration duration;
+
+
+    // Constructors
+    // ------------------------------------------------------------------------
+
+    public DateTimesBean() {
+        // Default
+    }
+
+
+    // Getters and Setters
+    // ------------------------------------------------------------------------
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public void setDuration(Duration duration) {
+        this.duration = duration;
+    }
+
+
+    // Object Methods
+    // ------------------------------------------------------------------------
+
+    @Override
+    public String toString() {
+        return "DateTimesBean [id=" + id + ", date=" + date + ", timestamp=" + timestamp + ", duration=" + duration
+                + "]";
+    }
+
+}
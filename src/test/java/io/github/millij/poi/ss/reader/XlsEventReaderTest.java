@@ -0,0 +1,245 @@
+package io.github.millij.poi.ss.reader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.common.UnicodeString;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.millij.bean.Company;
+import io.github.millij.bean.Employee;
+import io.github.millij.poi.SpreadsheetReadException;
+
+
+public class XlsEventReaderTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XlsEventReaderTest.class);
+
+    // XLS
+    private String _filepath_xls_single_sheet;
+    private String _filepath_xls_multiple_sheets;
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Before
+    public void setup() throws ParseException {
+        // filepaths
+
+        // xls
+        _filepath_xls_single_sheet = "src/test/resources/sample-files/xls_sample_single_sheet.xls";
+        _filepath_xls_multiple_sheets = "src/test/resources/sample-files/xls_sample_multiple_sheets.xls";
+    }
+
+    @After
+    public void teardown() {
+        // nothing to do
+    }
+
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_read_xls_single_sheet() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xls_single_sheet :: Reading file - {}", _filepath_xls_single_sheet);
+        final XlsEventReader reader = new XlsEventReader();
+
+        // Read
+        final List<Employee> employees = reader.read(Employee.class, new File(_filepath_xls_single_sheet));
+        Assert.assertNotNull(employees);
+        Assert.assertTrue(employees.size() > 0);
+
+        for (Employee emp : employees) {
+            LOGGER.info("test_read_xls_single_sheet :: Output - {}", emp);
+        }
+
+        // Compare with the usermodel reader
+        final List<Employee> expected = new XlsReader().read(Employee.class, new File(_filepath_xls_single_sheet));
+        Assert.assertEquals(expected.size(), employees.size());
+        Assert.assertEquals(expected.toString(), employees.toString());
+    }
+
+    @Test
+    public void test_read_xls_multiple_sheets() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xls_multiple_sheets :: Reading file - {}", _filepath_xls_multiple_sheets);
+        final XlsEventReader reader = new XlsEventReader();
+        final XlsReader umReader = new XlsReader();
+
+        // Read Sheet 1
+        final File file = new File(_filepath_xls_multiple_sheets);
+        final List<Employee> employees = reader.read(Employee.class, file, 1);
+        Assert.assertNotNull(employees);
+        Assert.assertTrue(employees.size() > 0);
+        Assert.assertEquals(umReader.read(Employee.class, file, 1).size(), employees.size());
+
+        // Read Sheet 2
+        final List<Company> companies = reader.read(Company.class, file, 2);
+        Assert.assertNotNull(companies);
+        Assert.assertTrue(companies.size() > 0);
+        Assert.assertEquals(umReader.read(Company.class, file, 2).size(), companies.size());
+
+        for (Company company : companies) {
+            LOGGER.info("test_read_xls_multiple_sheets :: Output - {}", company);
+        }
+    }
+
+    @Test
+    public void test_read_xls_as_map() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xls_as_map :: Reading file - {}", _filepath_xls_multiple_sheets);
+        final XlsEventReader reader = new XlsEventReader();
+
+        // Read Sheet 2
+        final List<Map<String, Object>> rows;
+        try (final InputStream is = new FileInputStream(_filepath_xls_multiple_sheets)) {
+            rows = reader.read(is, 2);
+        }
+        Assert.assertNotNull(rows);
+
+        try (final InputStream is = new FileInputStream(_filepath_xls_multiple_sheets)) {
+            Assert.assertEquals(new XlsReader().read(is, 2), rows);
+        }
+
+        for (Map<String, Object> row : rows) {
+            LOGGER.info("test_read_xls_as_map :: Output - {}", row);
+        }
+    }
+
+    @Test
+    public void test_read_xls_by_sheet_name() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xls_by_sheet_name :: Reading file - {}", _filepath_xls_multiple_sheets);
+        final XlsEventReader reader = new XlsEventReader();
+        final File file = new File(_filepath_xls_multiple_sheets);
+
+        // Read by Name (case insensitive)
+        final List<Employee> employees = reader.read(Employee.class, file, "employees");
+        Assert.assertNotNull(employees);
+        Assert.assertEquals(reader.read(Employee.class, file, 1).size(), employees.size());
+
+        // Read by the @Sheet name of the bean
+        final List<Company> companies = reader.read(Company.class, file, (String) null);
+        Assert.assertNotNull(companies);
+        Assert.assertEquals(reader.read(Company.class, file, 2).size(), companies.size());
+
+        for (Company company : companies) {
+            LOGGER.info("test_read_xls_by_sheet_name :: Output - {}", company);
+        }
+    }
+
+    @Test(expected = SpreadsheetReadException.class)
+    public void test_read_xls_by_unknown_sheet_name() throws SpreadsheetReadException {
+        final XlsEventReader reader = new XlsEventReader();
+        reader.read(Employee.class, new File(_filepath_xls_multiple_sheets), "Unknown Sheet");
+    }
+
+    @Test
+    public void test_read_xls_with_chart_sheet() throws SpreadsheetReadException, IOException {
+        // Chart sheet "Chart1" ahead of the "Companies" worksheet
+        LOGGER.info("test_read_xls_with_chart_sheet :: Reading a workbook with a chart sheet");
+        final byte[] workbook = newWorkbookWithChartSheet();
+        final XlsEventReader reader = new XlsEventReader();
+
+        // Read by Name
+        final List<Company> byName = reader.read(Company.class, new ByteArrayInputStream(workbook), "Companies");
+        Assert.assertEquals(1, byName.size());
+        Assert.assertEquals("Google", byName.get(0).getName());
+        Assert.assertEquals(Integer.valueOf(12000), byName.get(0).getNoOfEmployees());
+        Assert.assertEquals("Palo Alto, CA", byName.get(0).getAddress());
+
+        // Read by No.
+        final List<Company> byNo = reader.read(Company.class, new ByteArrayInputStream(workbook), 2);
+        Assert.assertEquals(byName.toString(), byNo.toString());
+
+        // Read all
+        final List<Company> all = reader.read(Company.class, new ByteArrayInputStream(workbook));
+        Assert.assertEquals(byName.toString(), all.toString());
+    }
+
+
+    // Helpers
+    // ------------------------------------------------------------------------
+
+    private static byte[] newWorkbookWithChartSheet() throws IOException {
+        final ByteArrayOutputStream records = new ByteArrayOutputStream();
+
+        // Workbook Globals
+        final BOFRecord globalsBof = BOFRecord.createSheetBOF();
+        globalsBof.setType(BOFRecord.TYPE_WORKBOOK);
+        writeRecord(records, globalsBof);
+        writeRecord(records, new BoundSheetRecord("Chart1"));
+        writeRecord(records, new BoundSheetRecord("Companies"));
+
+        final SSTRecord sst = new SSTRecord();
+        for (String str : new String[] {"Company Name", "# of Employees", "Address", "Google", "Palo Alto, CA"}) {
+            sst.addString(new UnicodeString(str));
+        }
+        writeRecord(records, sst);
+        writeRecord(records, EOFRecord.instance);
+
+        // Chart Sheet
+        final BOFRecord chartBof = BOFRecord.createSheetBOF();
+        chartBof.setType(BOFRecord.TYPE_CHART);
+        writeRecord(records, chartBof);
+        writeRecord(records, EOFRecord.instance);
+
+        // Worksheet
+        writeRecord(records, BOFRecord.createSheetBOF());
+        writeRecord(records, newLabelSST(0, 0, 0));
+        writeRecord(records, newLabelSST(0, 1, 1));
+        writeRecord(records, newLabelSST(0, 2, 2));
+        writeRecord(records, newLabelSST(1, 0, 3));
+        final NumberRecord employees = new NumberRecord();
+        employees.setRow(1);
+        employees.setColumn((short) 1);
+        employees.setValue(12000);
+        writeRecord(records, employees);
+        writeRecord(records, newLabelSST(1, 2, 4));
+        writeRecord(records, EOFRecord.instance);
+
+        try (final POIFSFileSystem fs = new POIFSFileSystem()) {
+            fs.createDocument(new ByteArrayInputStream(records.toByteArray()), "Workbook");
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            fs.writeFilesystem(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static LabelSSTRecord newLabelSST(final int row, final int col, final int sstIdx) {
+        final LabelSSTRecord label = new LabelSSTRecord();
+        label.setRow(row);
+        label.setColumn((short) col);
+        label.setSSTIndex(sstIdx);
+        return label;
+    }
+
+    private static void writeRecord(final ByteArrayOutputStream out, final Record record) throws IOException {
+        out.write(record.serialize());
+    }
+
+
+}
@@ -3,11 +3,15 @@ package io.github.millij.poi.ss.reader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -20,6 +24,7 @@ import io.github.millij.bean.Company;
 import io.github.millij.bean.Employee;
 import io.github.millij.poi.SpreadsheetReadException;
 import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.handler.SimpleReadMetrics;
 
 
 public class XlsReaderTest {
@@ -203,4 +208,180 @@ public class XlsReaderTest {
 
     }
 
+
+    // Read as Stream
+
+    @Test
+    public void test_read_xls_as_stream() throws IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xls_as_stream :: Reading file - {}", _filepath_xls_single_sheet);
+        final XlsReader reader = new XlsReader();
+
+        // Read first 2 rows, and stop
+        try (final InputStream fis = new FileInputStream(new File(_filepath_xls_single_sheet));
+                final Stream<Employee> employees = reader.stream(Employee.class, fis, 1)) {
+            final List<Employee> firstTwo = employees.limit(2).collect(Collectors.toList());
+            Assert.assertEquals(2, firstTwo.size());
+
+            for (Employee emp : firstTwo) {
+                LOGGER.info("test_read_xls_as_stream :: Output - {}", emp);
+            }
+        }
+    }
+
+    @Test
+    public void test_read_xls_as_iterator() throws IOException, SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xls_as_iterator :: Reading file - {}", _filepath_xls_single_sheet);
+        final XlsReader reader = new XlsReader();
+
+        // Expected
+        final List<Employee> expected = reader.read(Employee.class, new File(_filepath_xls_single_sheet), 1);
+
+        // Iterate over all rows
+        final List<Employee> employees = new ArrayList<>();
+        try (final InputStream fis = new FileInputStream(new File(_filepath_xls_single_sheet));
+                final RowIterator<Employee> rows = reader.iterator(Employee.class, fis, 1)) {
+            while (rows.hasNext()) {
+                employees.add(rows.next());
+            }
+        }
+
+        Assert.assertEquals(expected.size(), employees.size());
+    }
+
+    @Test
+    public void test_read_xls_by_sheet_name() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xls_by_sheet_name :: Reading file - {}", _filepath_xls_multiple_sheets);
+        final XlsReader reader = new XlsReader();
+        final File file = new File(_filepath_xls_multiple_sheets);
+
+        // Read by Name (case insensitive)
+        final List<Employee> employees = reader.read(Employee.class, file, "employees");
+        Assert.assertNotNull(employees);
+        Assert.assertEquals(reader.read(Employee.class, file, 1).size(), employees.size());
+
+        // Read by the @Sheet name of the bean
+        final List<Company> companies = reader.read(Company.class, file, (String) null);
+        Assert.assertNotNull(companies);
+        Assert.assertEquals(reader.read(Company.class, file, 2).size(), companies.size());
+
+        for (Company company : companies) {
+            LOGGER.info("test_read_xls_by_sheet_name :: Output - {}", company);
+        }
+    }
+
+    @Test(expected = SpreadsheetReadException.class)
+    public void test_read_xls_by_unknown_sheet_name() throws SpreadsheetReadException {
+        final XlsReader reader = new XlsReader();
+        reader.read(Employee.class, new File(_filepath_xls_multiple_sheets), "Unknown Sheet");
+    }
+
+    @Test
+    public void test_read_xls_as_Map_with_column_projection() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xls_as_Map_with_column_projection :: Reading file - {}", _filepath_xls_single_sheet);
+
+        // Reader
+        final XlsReader reader = new XlsReader();
+        reader.setColumnProjection(Arrays.asList("name", " Age "));
+
+        try (final InputStream is = new FileInputStream(_filepath_xls_single_sheet)) {
+            final List<Map<String, Object>> employees = reader.read(is, 1);
+            Assert.assertNotNull(employees);
+            Assert.assertTrue(employees.size() > 0);
+
+            for (Map<String, Object> emp : employees) {
+                LOGGER.info("test_read_xls_as_Map_with_column_projection :: Output - {}", emp);
+                Assert.assertTrue(emp.containsKey("Name"));
+                Assert.assertFalse(emp.containsKey("ID"));
+                Assert.assertFalse(emp.containsKey("Address"));
+                Assert.assertTrue(emp.size() <= 2);
+            }
+        }
+    }
+
+    @Test
+    public void test_read_xls_with_limit() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xls_with_limit :: Reading file - {}", _filepath_xls_single_sheet);
+
+        // Reader
+        final XlsReader reader = new XlsReader();
+        final SimpleReadMetrics metrics = new SimpleReadMetrics();
+        reader.setMetrics(metrics);
+        reader.setLimit(2);
+
+        // No rows parsed past the limit
+        final LimitCheckingListener<Employee> employees = new LimitCheckingListener<>(2);
+        reader.read(Employee.class, new File(_filepath_xls_single_sheet), employees);
+        Assert.assertEquals(2, employees.rows.size());
+        Assert.assertEquals(0, employees.rowsParsedPastLimit);
+        Assert.assertEquals(2, metrics.getRowsRead());
+
+        // Limit applies to each sheet
+        LOGGER.info("test_read_xls_with_limit :: Reading file - {}", _filepath_xls_multiple_sheets);
+        metrics.reset();
+        final LimitCheckingListener<Map<String, Object>> rows = new LimitCheckingListener<>(2);
+        try (final InputStream is = new FileInputStream(_filepath_xls_multiple_sheets)) {
+            reader.read(is, rows);
+        }
+        Assert.assertEquals(4, rows.rows.size());
+        Assert.assertEquals(0, rows.rowsParsedPastLimit);
+        Assert.assertEquals(4, metrics.getRowsRead());
+    }
+
+    @Test
+    public void test_read_xls_till_last_row() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xls_till_last_row :: Reading file - {}", _filepath_xls_single_sheet);
+
+        // Reader
+        final XlsReader reader = new XlsReader(0, 2);
+
+        final List<Employee> employees = reader.read(Employee.class, new File(_filepath_xls_single_sheet));
+        Assert.assertEquals(2, employees.size());
+    }
+
+
+    // Helpers
+    // ------------------------------------------------------------------------
+
+    /**
+     * Collects the rows, and counts the rows parsed (in any sheet) after the limit of the sheet is reached.
+     */
+    private static final class LimitCheckingListener<T> implements RowListener<T> {
+
+        private final int limit;
+        private final List<T> rows = new ArrayList<>();
+
+        private int sheetRows = 0;
+        private int rowsParsedPastLimit = 0;
+
+        private LimitCheckingListener(final int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void beforeSheet(final String sheetName) {
+            sheetRows = 0;
+        }
+
+        @Override
+        public void beforeRow(final int rowNum) {
+            if (sheetRows >= limit) {
+                rowsParsedPastLimit++;
+            }
+        }
+
+        @Override
+        public void row(final int rowNum, final T rowObj) {
+            rows.add(rowObj);
+            sheetRows++;
+        }
+
+    }
+
+
 }
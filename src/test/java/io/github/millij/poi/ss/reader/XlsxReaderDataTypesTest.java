@@ -1,8 +1,16 @@
 package io.github.millij.poi.ss.reader;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -12,7 +20,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.millij.bean.DataTypesBean;
+import io.github.millij.bean.DateTimesBean;
+import io.github.millij.bean.Gender;
 import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.model.DateTimeType;
+import io.github.millij.poi.util.Beans;
+import io.github.millij.poi.util.Converters;
+import io.github.millij.poi.util.DateTimes;
 
 
 public class XlsxReaderDataTypesTest {
@@ -61,4 +75,194 @@ public class XlsxReaderDataTypesTest {
     }
 
 
+    @Test
+    public void test_read_xlsx_data_types_raw_values() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_data_types_raw_values :: Reading file - {}", _filepath_xlsx_data_types);
+        final XlsxReader reader = new XlsxReader();
+        reader.setRawValues(true);
+
+        // Read
+        final List<DataTypesBean> beans = reader.read(DataTypesBean.class, new File(_filepath_xlsx_data_types));
+        Assert.assertNotNull(beans);
+        Assert.assertTrue(beans.size() > 0);
+
+        for (final DataTypesBean bean : beans) {
+            LOGGER.info("test_read_xlsx_data_types_raw_values :: Output - {}", bean);
+        }
+
+        // Compare with the formatted values
+        final File file = new File(_filepath_xlsx_data_types);
+        final List<DataTypesBean> expected = new XlsxReader().read(DataTypesBean.class, file);
+        Assert.assertEquals(expected.size(), beans.size());
+        for (int i = 0; i < beans.size(); i++) {
+            Assert.assertEquals(expected.get(i).getName(), beans.get(i).getName());
+            Assert.assertEquals(expected.get(i).getAge(), beans.get(i).getAge());
+            Assert.assertEquals(expected.get(i).getHeight(), beans.get(i).getHeight());
+            Assert.assertEquals(expected.get(i).getDuration(), beans.get(i).getDuration());
+        }
+    }
+
+    @Test
+    public void test_read_xlsx_data_types_java_time() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_data_types_java_time :: Reading file - {}", _filepath_xlsx_data_types);
+        final XlsxReader reader = new XlsxReader();
+
+        // Read
+        final File file = new File(_filepath_xlsx_data_types);
+        final List<DateTimesBean> beans = reader.read(DateTimesBean.class, file);
+        Assert.assertNotNull(beans);
+        Assert.assertTrue(beans.size() > 0);
+
+        // Compare with the legacy types
+        final List<DataTypesBean> expected = reader.read(DataTypesBean.class, file);
+        Assert.assertEquals(expected.size(), beans.size());
+        for (int i = 0; i < beans.size(); i++) {
+            final DateTimesBean bean = beans.get(i);
+            final DataTypesBean legacy = expected.get(i);
+            LOGGER.info("test_read_xlsx_data_types_java_time :: Output - {}", bean);
+
+            final Date date = legacy.getDate();
+            Assert.assertEquals(date == null ? null : date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate(),
+                    bean.getDate());
+
+            final Long timestamp = legacy.getTimestamp();
+            Assert.assertEquals(timestamp, bean.getTimestamp() == null ? null
+                    : (Long) bean.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+            final Long duration = legacy.getDuration();
+            Assert.assertEquals(duration, bean.getDuration() == null ? null : (Long) bean.getDuration().toMillis());
+        }
+
+        // Known rows
+        final DateTimesBean u1 = beans.get(0);
+        Assert.assertEquals("U1", u1.getId());
+        Assert.assertEquals(LocalDate.of(1988, 12, 25), u1.getDate());
+        Assert.assertEquals(LocalDateTime.of(2023, 12, 23, 18, 30), u1.getTimestamp());
+        Assert.assertEquals(Date.from(LocalDate.of(1988, 12, 25).atStartOfDay(ZoneId.systemDefault()).toInstant()),
+                expected.get(0).getDate());
+
+        final DateTimesBean u3 = beans.get(2);
+        Assert.assertEquals("U3", u3.getId());
+        Assert.assertEquals(LocalDate.of(1990, 6, 12), u3.getDate());
+        Assert.assertEquals(LocalDateTime.of(2023, 11, 6, 0, 0), u3.getTimestamp());
+        Assert.assertEquals(Date.from(LocalDate.of(1990, 6, 12).atStartOfDay(ZoneId.systemDefault()).toInstant()),
+                expected.get(2).getDate());
+
+        final DateTimesBean u4 = beans.get(3);
+        Assert.assertEquals("U4", u4.getId());
+        Assert.assertEquals(LocalDate.of(1978, 8, 8), u4.getDate());
+        Assert.assertNull(u4.getTimestamp()); // No time, as with the SimpleDateFormat
+    }
+
+    @Test
+    public void test_convert_legacy_date_patterns() throws Exception {
+        // Trailing text
+        Assert.assertEquals(LocalDate.of(2024, 2, 1),
+                DateTimes.convert("01/02/2024 (Thu)", LocalDate.class, "dd/MM/yyyy", DateTimeType.DATE));
+
+        // Two digit years, pivoted
+        final int pivotYear = LocalDate.now().getYear() - 80;
+        final int year = pivotYear + 1;
+        Assert.assertEquals(LocalDate.of(year, 2, 1), DateTimes.convert(String.format("01/02/%02d", year % 100),
+                LocalDate.class, "dd/MM/yy", DateTimeType.DATE));
+
+        // Hours of the AM/PM, without the marker
+        Assert.assertEquals(LocalDateTime.of(2024, 2, 1, 3, 15),
+                DateTimes.convert("01/02/2024 03:15", LocalDateTime.class, "dd/MM/yyyy hh:mm", DateTimeType.DATE));
+
+        // Day number of the week, and milliseconds
+        Assert.assertEquals(LocalDateTime.of(2024, 1, 15, 3, 4, 5, 6_000_000), DateTimes.convert(
+                "2024-01-15 1 03:04:05.6", LocalDateTime.class, "yyyy-MM-dd u HH:mm:ss.S", DateTimeType.DATE));
+
+        // Quoted text
+        Assert.assertEquals(LocalDateTime.of(2024, 2, 1, 3, 0),
+                DateTimes.convert("3 o'clock 01/02/2024", LocalDateTime.class, "h 'o''clock' dd/MM/yyyy",
+                        DateTimeType.DATE));
+    }
+
+    @Test
+    public void test_read_xlsx_data_types_registered_converter() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_data_types_registered_converter :: Reading file - {}", _filepath_xlsx_data_types);
+        final XlsxReader reader = new XlsxReader();
+
+        // Converter (all the genders, as FEMALE)
+        Converters.register(Gender.class, value -> Gender.FEMALE);
+        try {
+            final List<DataTypesBean> beans = reader.read(DataTypesBean.class, new File(_filepath_xlsx_data_types));
+            Assert.assertNotNull(beans);
+            Assert.assertTrue(beans.size() > 0);
+
+            for (final DataTypesBean bean : beans) {
+                LOGGER.info("test_read_xlsx_data_types_registered_converter :: Output - {}", bean);
+                Assert.assertTrue(bean.getGender() == null || bean.getGender() == Gender.FEMALE);
+            }
+        } finally {
+            Converters.unregister(Gender.class);
+        }
+    }
+
+    @Test
+    public void test_convert_integral_values() throws Exception {
+        final DataTypesBean bean = new DataTypesBean();
+
+        // Longs, exactly
+        Beans.setProperty(bean, "timestamp", String.valueOf(Long.MAX_VALUE), null, DateTimeType.NONE);
+        Assert.assertEquals(Long.valueOf(Long.MAX_VALUE), bean.getTimestamp());
+
+        Beans.setProperty(bean, "timestamp", "1234567890123456789", null, DateTimeType.NONE);
+        Assert.assertEquals(Long.valueOf(1234567890123456789L), bean.getTimestamp());
+
+        Beans.setProperty(bean, "timestamp", "-9223372036854775808", null, DateTimeType.NONE);
+        Assert.assertEquals(Long.valueOf(Long.MIN_VALUE), bean.getTimestamp());
+
+        // Integral decimals
+        Beans.setProperty(bean, "age", "12.0", null, DateTimeType.NONE);
+        Assert.assertEquals(Integer.valueOf(12), bean.getAge());
+
+        Beans.setProperty(bean, "age", 21D, null, DateTimeType.NONE);
+        Assert.assertEquals(Integer.valueOf(21), bean.getAge());
+
+        // Invalid : out of range, and fractional (as String or as Number)
+        for (final Object invalid : new Object[] {"9223372036854775808", "12.7", 12.7D, 3e10D}) {
+            try {
+                Beans.setProperty(bean, invalid instanceof String ? "timestamp" : "age", invalid, null,
+                        DateTimeType.NONE);
+                Assert.fail("Invalid value should be rejected : " + invalid);
+            } catch (IllegalArgumentException ex) {
+                LOGGER.info("test_convert_integral_values :: Rejected - {}", ex.getMessage());
+            }
+        }
+
+        Assert.assertEquals(Long.valueOf(Long.MIN_VALUE), bean.getTimestamp());
+        Assert.assertEquals(Integer.valueOf(21), bean.getAge());
+    }
+
+    @Test
+    public void test_read_xlsx_data_types_raw_values_as_map() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_data_types_raw_values_as_map :: Reading file - {}", _filepath_xlsx_data_types);
+        final XlsxReader reader = new XlsxReader();
+        reader.setRawValues(true);
+
+        // Read
+        final List<Map<String, Object>> rows;
+        try (final InputStream is = new FileInputStream(_filepath_xlsx_data_types)) {
+            rows = reader.read(is);
+        }
+        Assert.assertNotNull(rows);
+        Assert.assertTrue(rows.size() > 0);
+
+        for (final Map<String, Object> row : rows) {
+            LOGGER.info("test_read_xlsx_data_types_raw_values_as_map :: Output - {}", row);
+
+            // Typed values
+            final Object height = row.get("Height ");
+            Assert.assertTrue(height == null || height instanceof Double);
+        }
+    }
+
+
 }
@@ -0,0 +1,204 @@
+package io.github.millij.poi.ss.reader;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.millij.bean.Employee;
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.util.JfrEvents;
+
+
+public class XlsxReaderJfrEventsTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XlsxReaderJfrEventsTest.class);
+
+    // Event Names
+    private static final String READ_EVENT = "io.github.millij.poi.Read";
+    private static final String SHEET_PARSE_EVENT = "io.github.millij.poi.SheetParse";
+    private static final String ROWS_BOUND_EVENT = "io.github.millij.poi.RowsBound";
+
+    // XLSX
+    private String _filepath_xlsx_single_sheet;
+
+    // Recording dump
+    private Path _recording_dump;
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Before
+    public void setup() throws ParseException, IOException {
+        // JFR is not available on all the JVMs
+        Assume.assumeTrue("JFR is not available", EventRecording.isAvailable());
+
+        // filepaths
+        _filepath_xlsx_single_sheet = "src/test/resources/sample-files/xlsx_sample_single_sheet.xlsx";
+        _recording_dump = Files.createTempFile("poi-object-mapper-", ".jfr");
+    }
+
+    @After
+    public void teardown() throws IOException {
+        if (_recording_dump != null) {
+            Files.deleteIfExists(_recording_dump);
+        }
+    }
+
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_read_xlsx_jfr_events() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_jfr_events :: Reading file - {}", _filepath_xlsx_single_sheet);
+        final XlsxReader reader = new XlsxReader();
+
+        // Read, while recording
+        final List<Employee> employees;
+        final List<Map<String, Object>> events;
+        try (final EventRecording recording = new EventRecording(READ_EVENT, SHEET_PARSE_EVENT, ROWS_BOUND_EVENT)) {
+            employees = reader.read(Employee.class, new File(_filepath_xlsx_single_sheet), 1);
+            events = recording.stop(_recording_dump);
+        }
+        Assert.assertTrue(employees.size() > 0);
+
+        for (Map<String, Object> event : events) {
+            LOGGER.info("test_read_xlsx_jfr_events :: Event - {}", event);
+        }
+
+        // Read
+        final List<Map<String, Object>> readEvents = eventsOf(events, READ_EVENT);
+        Assert.assertEquals(1, readEvents.size());
+        Assert.assertEquals(Employee.class.getName(), readEvents.get(0).get("beanType"));
+        Assert.assertEquals((long) employees.size(), readEvents.get(0).get("rows"));
+        Assert.assertTrue((long) readEvents.get(0).get("bytes") > 0);
+
+        // Sheet
+        final List<Map<String, Object>> sheetEvents = eventsOf(events, SHEET_PARSE_EVENT);
+        Assert.assertEquals(1, sheetEvents.size());
+        Assert.assertNotNull(sheetEvents.get(0).get("sheetName"));
+        Assert.assertEquals((long) employees.size(), sheetEvents.get(0).get("rows"));
+
+        // Row Batches
+        final List<Map<String, Object>> batchEvents = eventsOf(events, ROWS_BOUND_EVENT);
+        Assert.assertFalse(batchEvents.isEmpty());
+
+        long batchRows = 0;
+        for (Map<String, Object> event : batchEvents) {
+            final long rows = (long) event.get("rows");
+            Assert.assertTrue(rows > 0 && rows <= JfrEvents.ROWS_BATCH_SIZE);
+            batchRows += rows;
+        }
+        Assert.assertEquals(employees.size(), batchRows);
+    }
+
+
+    // Helpers
+    // ------------------------------------------------------------------------
+
+    private static List<Map<String, Object>> eventsOf(final List<Map<String, Object>> events, final String name) {
+        return events.stream() //
+                .filter(e -> name.equals(e.get("name"))) //
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * JFR Recording of the events, driven reflectively (as {@link JfrEvents} does) so that the tests compile and run on
+     * the JVMs without the <code>jdk.jfr</code> API.
+     */
+    private static final class EventRecording implements Closeable {
+
+        private static final String JFR_PKG = "jdk.jfr.";
+
+        private final Object recording;
+
+
+        private EventRecording(final String... eventNames) throws IOException {
+            try {
+                final Class<?> recordingClz = Class.forName(JFR_PKG + "Recording");
+                final Method withoutThreshold = Class.forName(JFR_PKG + "EventSettings").getMethod("withoutThreshold");
+
+                this.recording = recordingClz.getConstructor().newInstance();
+                for (String eventName : eventNames) {
+                    final Object settings = recordingClz.getMethod("enable", String.class).invoke(recording, eventName);
+                    withoutThreshold.invoke(settings);
+                }
+
+                recordingClz.getMethod("start").invoke(recording);
+            } catch (ReflectiveOperationException ex) {
+                throw new IOException("Unable to start the JFR recording", ex);
+            }
+        }
+
+        private static boolean isAvailable() {
+            try {
+                return (boolean) Class.forName(JFR_PKG + "FlightRecorder").getMethod("isAvailable").invoke(null);
+            } catch (ReflectiveOperationException | LinkageError ex) {
+                return false;
+            }
+        }
+
+        /**
+         * Stops the recording, and reads the recorded events (the name and the fields of each event).
+         */
+        private List<Map<String, Object>> stop(final Path dump) throws IOException {
+            try {
+                final Class<?> recordingClz = recording.getClass();
+                recordingClz.getMethod("stop").invoke(recording);
+                recordingClz.getMethod("dump", Path.class).invoke(recording, dump);
+
+                final Class<?> fileClz = Class.forName(JFR_PKG + "consumer.RecordingFile");
+                final Class<?> eventClz = Class.forName(JFR_PKG + "consumer.RecordedEvent");
+                final Method getEventType = eventClz.getMethod("getEventType");
+                final Method getName = Class.forName(JFR_PKG + "EventType").getMethod("getName");
+                final Method getString = eventClz.getMethod("getString", String.class);
+                final Method getLong = eventClz.getMethod("getLong", String.class);
+
+                final List<Map<String, Object>> events = new ArrayList<>();
+                for (Object event : (List<?>) fileClz.getMethod("readAllEvents", Path.class).invoke(null, dump)) {
+                    final Map<String, Object> fields = new HashMap<>();
+                    fields.put("name", getName.invoke(getEventType.invoke(event)));
+                    fields.put("beanType", getString.invoke(event, "beanType"));
+                    fields.put("sheetName", getString.invoke(event, "sheetName"));
+                    fields.put("rows", getLong.invoke(event, "rows"));
+                    fields.put("bytes", getLong.invoke(event, "bytes"));
+                    events.add(fields);
+                }
+                return events;
+            } catch (ReflectiveOperationException ex) {
+                throw new IOException("Unable to read the JFR recording", ex);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                recording.getClass().getMethod("close").invoke(recording);
+            } catch (ReflectiveOperationException ex) {
+                throw new IOException("Unable to close the JFR recording", ex);
+            }
+        }
+
+    }
+
+
+}
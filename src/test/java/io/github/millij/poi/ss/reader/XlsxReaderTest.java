@@ -1,14 +1,29 @@
 package io.github.millij.poi.ss.reader;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -19,7 +34,16 @@ import org.slf4j.LoggerFactory;
 import io.github.millij.bean.Company;
 import io.github.millij.bean.Employee;
 import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.handler.BatchRowListener;
+import io.github.millij.poi.ss.handler.CancellationToken;
+import io.github.millij.poi.ss.handler.ProgressListener;
+import io.github.millij.poi.ss.handler.ReadCancelledException;
+import io.github.millij.poi.ss.handler.ReadMetrics;
+import io.github.millij.poi.ss.handler.ReadProgress;
+import io.github.millij.poi.ss.handler.RowBeanCollector;
 import io.github.millij.poi.ss.handler.RowListener;
+import io.github.millij.poi.ss.handler.RowPipeline;
+import io.github.millij.poi.ss.handler.SimpleReadMetrics;
 
 
 public class XlsxReaderTest {
@@ -203,4 +227,500 @@ public class XlsxReaderTest {
     }
 
 
+    // Read as Stream
+
+    @Test
+    public void test_read_xlsx_as_stream() throws IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_as_stream :: Reading file - {}", _filepath_xlsx_single_sheet);
+        final XlsxReader reader = new XlsxReader();
+
+        // Read first 2 rows, and stop
+        try (final InputStream fis = new FileInputStream(new File(_filepath_xlsx_single_sheet));
+                final Stream<Employee> employees = reader.stream(Employee.class, fis, 1)) {
+            final List<Employee> firstTwo = employees.limit(2).collect(Collectors.toList());
+            Assert.assertEquals(2, firstTwo.size());
+
+            for (Employee emp : firstTwo) {
+                LOGGER.info("test_read_xlsx_as_stream :: Output - {}", emp);
+            }
+        }
+    }
+
+    @Test
+    public void test_read_xlsx_as_iterator() throws IOException, SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_as_iterator :: Reading file - {}", _filepath_xlsx_single_sheet);
+        final XlsxReader reader = new XlsxReader();
+
+        // Expected
+        final List<Employee> expected = reader.read(Employee.class, new File(_filepath_xlsx_single_sheet), 1);
+
+        // Iterate over all rows
+        final List<Employee> employees = new ArrayList<>();
+        try (final InputStream fis = new FileInputStream(new File(_filepath_xlsx_single_sheet));
+                final RowIterator<Employee> rows = reader.iterator(Employee.class, fis, 1)) {
+            while (rows.hasNext()) {
+                employees.add(rows.next());
+            }
+        }
+
+        Assert.assertEquals(expected.size(), employees.size());
+    }
+
+    @Test
+    public void test_read_xlsx_by_sheet_name() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_by_sheet_name :: Reading file - {}", _filepath_xlsx_multiple_sheets);
+        final XlsxReader reader = new XlsxReader();
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+
+        // Read by Name (case insensitive)
+        final List<Employee> employees = reader.read(Employee.class, file, "employees");
+        Assert.assertNotNull(employees);
+        Assert.assertEquals(reader.read(Employee.class, file, 1).size(), employees.size());
+
+        // Read by the @Sheet name of the bean
+        final List<Company> companies = reader.read(Company.class, file, (String) null);
+        Assert.assertNotNull(companies);
+        Assert.assertEquals(reader.read(Company.class, file, 2).size(), companies.size());
+
+        for (Company company : companies) {
+            LOGGER.info("test_read_xlsx_by_sheet_name :: Output - {}", company);
+        }
+    }
+
+    @Test(expected = SpreadsheetReadException.class)
+    public void test_read_xlsx_by_unknown_sheet_name() throws SpreadsheetReadException {
+        final XlsxReader reader = new XlsxReader();
+        reader.read(Employee.class, new File(_filepath_xlsx_multiple_sheets), "Unknown Sheet");
+    }
+
+    @Test
+    public void test_read_xlsx_as_Map_with_column_projection() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_as_Map_with_column_projection :: Reading file - {}", _filepath_xlsx_single_sheet);
+
+        // Reader
+        final XlsxReader reader = new XlsxReader();
+        reader.setColumnProjection(Arrays.asList("name", " Age "));
+
+        try (final InputStream is = new FileInputStream(_filepath_xlsx_single_sheet)) {
+            final List<Map<String, Object>> employees = reader.read(is, 1);
+            Assert.assertNotNull(employees);
+            Assert.assertTrue(employees.size() > 0);
+
+            for (Map<String, Object> emp : employees) {
+                LOGGER.info("test_read_xlsx_as_Map_with_column_projection :: Output - {}", emp);
+                Assert.assertTrue(emp.containsKey("Name"));
+                Assert.assertFalse(emp.containsKey("ID"));
+                Assert.assertFalse(emp.containsKey("Address"));
+                Assert.assertTrue(emp.size() <= 2);
+            }
+        }
+    }
+
+    @Test
+    public void test_read_xlsx_as_Map_with_blank_header_row() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_as_Map_with_blank_header_row :: Reading a sheet with a blank header row");
+
+        // Title, a blank row (as the header) and the data rows
+        final ByteArrayOutputStream workbook = new ByteArrayOutputStream();
+        try (final XSSFWorkbook wb = new XSSFWorkbook()) {
+            final Sheet sheet = wb.createSheet("Employees");
+            sheet.createRow(0).createCell(0).setCellValue("Employees");
+            for (int rowIdx = 2; rowIdx < 4; rowIdx++) {
+                final Row row = sheet.createRow(rowIdx);
+                row.createCell(0).setCellValue("Employee " + rowIdx);
+                row.createCell(1).setCellValue(rowIdx);
+            }
+            wb.write(workbook);
+        }
+
+        // Reader : the rows are skipped, without the header
+        final XlsxReader reader = new XlsxReader(1);
+        final List<Map<String, Object>> rows = reader.read(new ByteArrayInputStream(workbook.toByteArray()), 1);
+        Assert.assertNotNull(rows);
+        Assert.assertTrue(rows.isEmpty());
+    }
+
+    @Test
+    public void test_read_xlsx_with_limit() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_with_limit :: Reading file - {}", _filepath_xlsx_single_sheet);
+
+        // Reader
+        final XlsxReader reader = new XlsxReader();
+        final SimpleReadMetrics metrics = new SimpleReadMetrics();
+        reader.setMetrics(metrics);
+        reader.setLimit(2);
+
+        // No rows parsed past the limit
+        final LimitCheckingListener<Employee> employees = new LimitCheckingListener<>(2);
+        reader.read(Employee.class, new File(_filepath_xlsx_single_sheet), employees);
+        Assert.assertEquals(2, employees.rows.size());
+        Assert.assertEquals(0, employees.rowsParsedPastLimit);
+        Assert.assertEquals(2, metrics.getRowsRead());
+
+        // Limit applies to each sheet
+        LOGGER.info("test_read_xlsx_with_limit :: Reading file - {}", _filepath_xlsx_multiple_sheets);
+        metrics.reset();
+        final LimitCheckingListener<Map<String, Object>> rows = new LimitCheckingListener<>(2);
+        try (final InputStream is = new FileInputStream(_filepath_xlsx_multiple_sheets)) {
+            reader.read(is, rows);
+        }
+        Assert.assertEquals(4, rows.rows.size());
+        Assert.assertEquals(0, rows.rowsParsedPastLimit);
+        Assert.assertEquals(4, metrics.getRowsRead());
+    }
+
+    @Test
+    public void test_read_xlsx_till_last_row() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_till_last_row :: Reading file - {}", _filepath_xlsx_single_sheet);
+
+        // Reader
+        final XlsxReader reader = new XlsxReader(0, 2);
+
+        final List<Employee> employees = reader.read(Employee.class, new File(_filepath_xlsx_single_sheet));
+        Assert.assertEquals(2, employees.size());
+    }
+
+
+    // Read in Parallel
+
+    @Test
+    public void test_read_xlsx_sheets_in_parallel() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_sheets_in_parallel :: Reading file - {}", _filepath_xlsx_multiple_sheets);
+
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (final InputStream is = new FileInputStream(file)) {
+            // Reader
+            final XlsxReader reader = new XlsxReader();
+            reader.setExecutor(executor);
+
+            // Progress, of every row
+            final List<ReadProgress> reports = new ArrayList<>();
+            reader.setProgressInterval(1);
+            reader.setProgressListener(reports::add);
+
+            final Map<String, List<Map<String, Object>>> sheetRows = new ConcurrentHashMap<>();
+            reader.readParallel(is, (sheetNo, sheetName, rowNum, row) -> {
+                sheetRows.computeIfAbsent(sheetName, name -> Collections.synchronizedList(new ArrayList<>())).add(row);
+            });
+            reader.setProgressListener(null);
+
+            LOGGER.info("test_read_xlsx_sheets_in_parallel :: Output - {}", sheetRows);
+            Assert.assertEquals(2, sheetRows.size());
+            try (final InputStream employeesIs = new FileInputStream(file);
+                    final InputStream companiesIs = new FileInputStream(file)) {
+                Assert.assertEquals(reader.read(employeesIs, 1).size(), sheetRows.get("Employees").size());
+                Assert.assertEquals(reader.read(companiesIs, 2).size(), sheetRows.get("Companies").size());
+            }
+
+            // Progress, of the sheets being read
+            final long rowCount = sheetRows.values().stream().mapToLong(List::size).sum();
+            Assert.assertEquals(sheetRows.keySet(),
+                    reports.stream().map(ReadProgress::getSheetName).collect(Collectors.toSet()));
+            Assert.assertEquals(rowCount, reports.get(reports.size() - 1).getRowsRead());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_read_xlsx_sheets_in_parallel_per_sheet() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_sheets_in_parallel_per_sheet :: Reading file - {}", _filepath_xlsx_multiple_sheets);
+
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+        try (final InputStream is = new FileInputStream(file)) {
+            // Reader
+            final XlsxReader reader = new XlsxReader();
+
+            final Map<Integer, RowBeanCollector<Company>> collectors = new ConcurrentHashMap<>();
+            reader.readParallel(Company.class, is, (sheetNo, sheetName) -> {
+                final RowBeanCollector<Company> collector = new RowBeanCollector<>();
+                collectors.put(sheetNo, collector);
+                return collector;
+            });
+
+            final List<Company> companies = collectors.get(2).getBeans();
+            LOGGER.info("test_read_xlsx_sheets_in_parallel_per_sheet :: Output - {}", companies);
+            Assert.assertEquals(reader.read(Company.class, file, 2).size(), companies.size());
+        }
+    }
+
+
+    // Pipelined Read
+
+    @Test
+    public void test_read_xlsx_pipelined() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_pipelined :: Reading file - {}", _filepath_xlsx_single_sheet);
+
+        final File file = new File(_filepath_xlsx_single_sheet);
+        final List<Employee> expected = new XlsxReader().read(Employee.class, file);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Reader
+            final XlsxReader reader = new XlsxReader();
+
+            // Strict order, on the default workers
+            reader.setPipeline(2, 4, RowPipeline.Ordering.STRICT);
+            final List<Employee> employees = reader.read(Employee.class, file);
+            Assert.assertEquals(expected.toString(), employees.toString());
+
+            // Unordered, on the passed executor
+            reader.setPipeline(2, 4, RowPipeline.Ordering.UNORDERED, executor);
+            final List<Employee> unordered = Collections.synchronizedList(new ArrayList<>());
+            reader.read(Employee.class, file, (rowNum, employee) -> unordered.add(employee));
+            Assert.assertEquals(expected.size(), unordered.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+
+    // Shared Strings
+
+    @Test
+    public void test_read_xlsx_with_off_heap_shared_strings() throws SpreadsheetReadException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_with_off_heap_shared_strings :: Reading file - {}", _filepath_xlsx_multiple_sheets);
+
+        final File file = new File(_filepath_xlsx_multiple_sheets);
+        final List<Company> expected = new XlsxReader().read(Company.class, file, 2);
+
+        // Reader
+        final XlsxReader reader = new XlsxReader();
+        reader.setSharedStringsStrategy(XlsxReader.SharedStringsStrategy.OFF_HEAP);
+
+        final List<Company> companies = reader.read(Company.class, file, 2);
+        LOGGER.info("test_read_xlsx_with_off_heap_shared_strings :: Output - {}", companies);
+        Assert.assertEquals(expected.toString(), companies.toString());
+
+        // Auto, off the heap
+        reader.setSharedStringsStrategy(XlsxReader.SharedStringsStrategy.AUTO);
+        reader.setOffHeapThreshold(0);
+        Assert.assertEquals(expected.toString(), reader.read(Company.class, file, 2).toString());
+    }
+
+
+    // Metrics
+
+    @Test
+    public void test_read_xlsx_with_metrics() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_with_metrics :: Reading file - {}", _filepath_xlsx_single_sheet);
+
+        final XlsxReader reader = new XlsxReader();
+        final SimpleReadMetrics metrics = new SimpleReadMetrics();
+        reader.setMetrics(metrics);
+
+        // Read
+        final List<Employee> employees = reader.read(Employee.class, new File(_filepath_xlsx_single_sheet));
+        LOGGER.info("test_read_xlsx_with_metrics :: Metrics - {}", metrics);
+
+        Assert.assertEquals(employees.size(), metrics.getRowsRead());
+        Assert.assertTrue(metrics.getCells() > 0);
+        Assert.assertTrue(metrics.getBytesInflated() > 0);
+        Assert.assertTrue(metrics.getPhaseNanos(ReadMetrics.Phase.PARSE) > 0);
+        Assert.assertTrue(metrics.getRowsPerSecond() > 0);
+
+        // Map rows
+        metrics.reset();
+        try (final InputStream is = new FileInputStream(_filepath_xlsx_single_sheet)) {
+            final List<Map<String, Object>> rows = reader.read(is);
+            Assert.assertEquals(rows.size(), metrics.getRowsRead());
+        }
+    }
+
+    @Test
+    public void test_read_xlsx_cancelled() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_cancelled :: Reading file - {}", _filepath_xlsx_single_sheet);
+
+        final XlsxReader reader = new XlsxReader();
+        final List<ReadProgress> reports = new ArrayList<>();
+        reader.setProgressInterval(2);
+        reader.setProgressListener(progress -> reports.add(progress) && progress.getRowsRead() < 2);
+
+        // Read : cancelled by the progress listener
+        final RowBeanCollector<Employee> employees = new RowBeanCollector<>();
+        try (final InputStream is = new FileInputStream(_filepath_xlsx_single_sheet)) {
+            reader.read(Employee.class, is, employees);
+            Assert.fail("Cancelled read should fail");
+        } catch (SpreadsheetReadException ex) {
+            LOGGER.info("test_read_xlsx_cancelled :: Cancelled - {}", ex.getMessage());
+            Assert.assertTrue(ex.getCause() instanceof ReadCancelledException);
+        }
+        LOGGER.info("test_read_xlsx_cancelled :: Progress - {}", reports);
+
+        Assert.assertEquals(2, employees.getBeans().size());
+        Assert.assertEquals(1, reports.size());
+        Assert.assertTrue(reports.get(0).getBytesRead() > 0);
+        Assert.assertTrue(reports.get(0).getTotalBytes() >= reports.get(0).getBytesRead());
+
+        // Read : cancelled upfront
+        final CancellationToken token = new CancellationToken();
+        token.cancel();
+        reader.setProgressListener(null);
+        reader.setCancellationToken(token);
+
+        try {
+            reader.read(Employee.class, new File(_filepath_xlsx_single_sheet));
+            Assert.fail("Cancelled read should fail");
+        } catch (SpreadsheetReadException ex) {
+            Assert.assertTrue(ex.getCause() instanceof ReadCancelledException);
+        }
+        reader.setCancellationToken(null);
+
+        // Read : cancelled by its own listener, which is also the progress listener of the read
+        final class CancellingListener implements RowListener<Employee>, ProgressListener {
+
+            private final List<Employee> rows = new ArrayList<>();
+
+            @Override
+            public void row(final int rowNum, final Employee employee) {
+                rows.add(employee);
+            }
+
+            @Override
+            public boolean progress(final ReadProgress progress) {
+                return progress.getRowsRead() < 2;
+            }
+
+        }
+
+        final CancellingListener cancelling = new CancellingListener();
+        try (final InputStream is = new FileInputStream(_filepath_xlsx_single_sheet)) {
+            reader.read(Employee.class, is, cancelling);
+            Assert.fail("Cancelled read should fail");
+        } catch (SpreadsheetReadException ex) {
+            Assert.assertTrue(ex.getCause() instanceof ReadCancelledException);
+        }
+        Assert.assertEquals(2, cancelling.rows.size());
+
+        // The later reads are not cancelled
+        final List<Employee> all = reader.read(Employee.class, new File(_filepath_xlsx_single_sheet));
+        Assert.assertTrue(all.size() > 2);
+    }
+
+    @Test
+    public void test_read_xlsx_in_batches() throws SpreadsheetReadException, IOException {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_in_batches :: Reading file - {}", _filepath_xlsx_multiple_sheets);
+        final XlsxReader reader = new XlsxReader();
+
+        // Read in batches of 2 rows
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        final Map<String, Long> sheetRows = new ConcurrentHashMap<>();
+        try (final InputStream is = new FileInputStream(_filepath_xlsx_multiple_sheets)) {
+            reader.readBatches(is, 2, new BatchRowListener<Map<String, Object>>() {
+
+                @Override
+                public void batch(final String sheetName, final List<Map<String, Object>> batch) {
+                    LOGGER.info("test_read_xlsx_in_batches :: Batch - {} : {}", sheetName, batch);
+                    Assert.assertTrue(batch.size() > 0 && batch.size() <= 2);
+                    rows.addAll(batch);
+                }
+
+                @Override
+                public void endSheet(final String sheetName, final long rowCount) {
+                    sheetRows.put(sheetName, rowCount);
+                }
+
+            });
+        }
+
+        // All the rows, and the sheet ends
+        try (final InputStream is = new FileInputStream(_filepath_xlsx_multiple_sheets)) {
+            final List<Map<String, Object>> expected = reader.read(is);
+            Assert.assertEquals(expected, rows);
+            Assert.assertTrue(sheetRows.size() > 1);
+            Assert.assertEquals(expected.size(), sheetRows.values().stream().mapToLong(Long::longValue).sum());
+        }
+    }
+
+    @Test
+    public void test_read_xlsx_async() throws Exception {
+        // Excel Reader
+        LOGGER.info("test_read_xlsx_async :: Reading file - {}", _filepath_xlsx_single_sheet);
+        final XlsxReader reader = new XlsxReader();
+
+        // Read
+        try (final InputStream is = new FileInputStream(_filepath_xlsx_single_sheet)) {
+            final List<Employee> employees = reader.readAsync(Employee.class, is).get();
+            Assert.assertEquals(reader.read(Employee.class, new File(_filepath_xlsx_single_sheet)).size(),
+                    employees.size());
+        }
+
+        // Failure
+        final InputStream invalidStream = new ByteArrayInputStream(new byte[] {1, 2, 3});
+        try {
+            reader.readAsync(Employee.class, invalidStream).get();
+            Assert.fail("Reading an invalid file should fail");
+        } catch (ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof SpreadsheetReadException);
+        }
+
+        // Cancelled before the start
+        final List<Runnable> tasks = new ArrayList<>();
+        final List<Employee> rows = new ArrayList<>();
+        try (final InputStream is = new FileInputStream(_filepath_xlsx_single_sheet)) {
+            final CompletableFuture<Void> future =
+                    reader.readAsync(Employee.class, is, (rowNum, emp) -> rows.add(emp), tasks::add);
+            Assert.assertTrue(future.cancel(true));
+            tasks.forEach(Runnable::run);
+
+            Assert.assertTrue(future.isCancelled());
+            Assert.assertTrue(rows.isEmpty());
+        }
+    }
+
+
+    // Helpers
+    // ------------------------------------------------------------------------
+
+    /**
+     * Collects the rows, and counts the rows parsed (in any sheet) after the limit of the sheet is reached.
+     */
+    private static final class LimitCheckingListener<T> implements RowListener<T> {
+
+        private final int limit;
+        private final List<T> rows = new ArrayList<>();
+
+        private int sheetRows = 0;
+        private int rowsParsedPastLimit = 0;
+
+        private LimitCheckingListener(final int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void beforeSheet(final String sheetName) {
+            sheetRows = 0;
+        }
+
+        @Override
+        public void beforeRow(final int rowNum) {
+            if (sheetRows >= limit) {
+                rowsParsedPastLimit++;
+            }
+        }
+
+        @Override
+        public void row(final int rowNum, final T rowObj) {
+            rows.add(rowObj);
+            sheetRows++;
+        }
+
+    }
+
+
 }
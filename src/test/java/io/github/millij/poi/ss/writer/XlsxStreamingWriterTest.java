@@ -0,0 +1,138 @@
+package io.github.millij.poi.ss.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.millij.bean.Employee;
+import io.github.millij.poi.SpreadsheetReadException;
+import io.github.millij.poi.ss.reader.XlsxReader;
+
+
+public class XlsxStreamingWriterTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XlsxStreamingWriterTest.class);
+
+    private final String _path_test_output = "test-cases/output/";
+
+    // Setup
+    // ------------------------------------------------------------------------
+
+    @Before
+    public void setup() throws ParseException {
+        // prepare
+        final File output_dir = new File(_path_test_output);
+        if (!output_dir.exists()) {
+            output_dir.mkdirs();
+        }
+    }
+
+    @After
+    public void teardown() {
+        // nothing to do
+    }
+
+
+    // Tests
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_write_xlsx_streaming_beyond_window() throws IOException, SpreadsheetReadException {
+        final String filepath_output_file = _path_test_output.concat("streaming_single_sheet.xlsx");
+
+        // Excel Writer :: window smaller than the no. of rows
+        LOGGER.info("test_write_xlsx_streaming_beyond_window :: Writing to file - {}", filepath_output_file);
+        final SpreadsheetWriter gew = new XlsxStreamingWriter(10, true, false);
+
+        // Employees
+        final List<Employee> employees = new ArrayList<>();
+        for (int i = 1; i <= 250; i++) {
+            employees.add(new Employee(String.valueOf(i), "foo " + i, 20 + i % 40, "MALE", 1.68));
+        }
+
+        // Write
+        gew.addSheet(Employee.class, employees);
+        gew.write(filepath_output_file);
+
+        // Read back
+        final List<Employee> read = new XlsxReader().read(Employee.class, new File(filepath_output_file));
+        LOGGER.info("test_write_xlsx_streaming_beyond_window :: Rows read - {}", read.size());
+
+        Assert.assertEquals(employees.size(), read.size());
+    }
+
+    @Test
+    public void test_write_xlsx_streaming_from_stream() throws IOException, SpreadsheetReadException {
+        final String filepath_output_file = _path_test_output.concat("streaming_single_sheet_from_stream.xlsx");
+
+        // Excel Writer
+        LOGGER.info("test_write_xlsx_streaming_from_stream :: Writing to file - {}", filepath_output_file);
+        final SpreadsheetWriter gew = new XlsxStreamingWriter(50);
+
+        // Employees (pulled, as from a cursor)
+        final Stream<Employee> employees = IntStream.rangeClosed(1, 300) //
+                .mapToObj(i -> new Employee(String.valueOf(i), "foo " + i, 20 + i % 40, "MALE", 1.68));
+
+        // Write
+        gew.addSheet(Employee.class, employees, "employees", null);
+        gew.write(filepath_output_file);
+
+        // Read back
+        final List<Employee> read = new XlsxReader().read(Employee.class, new File(filepath_output_file));
+        LOGGER.info("test_write_xlsx_streaming_from_stream :: Rows read - {}", read.size());
+
+        Assert.assertEquals(300, read.size());
+        Assert.assertEquals("foo 300", read.get(299).getName());
+    }
+
+    @Test
+    public void test_write_xlsx_streaming_from_map() throws IOException {
+        final String filepath_output_file = _path_test_output.concat("streaming_single_sheet_map_data.xlsx");
+
+        // Excel Writer
+        LOGGER.info("#test_write_xlsx_streaming_from_map :: Writing to file - {}", filepath_output_file);
+        final SpreadsheetWriter gew = new XlsxStreamingWriter(1, false, true);
+
+        // Headers
+        final List<String> headers = Arrays.asList("S.No.", "Name", "Age");
+
+        // Data
+        final Map<String, Object> row1 = new HashMap<>();
+        row1.put("S.No.", 1);
+        row1.put("Name", "foo");
+        row1.put("Age", 1);
+
+        final Map<String, Object> row2 = new HashMap<>();
+        row2.put("S.No.", 2);
+        row2.put("Name", "bar");
+
+        final List<Map<String, Object>> rowsData = Arrays.asList(row1, null, row2);
+
+        // Add Sheets
+        gew.addSheet(rowsData, "test_sheet", headers);
+
+        // Write
+        gew.write(filepath_output_file);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_write_xlsx_streaming_invalid_window() {
+        new XlsxStreamingWriter(0);
+    }
+
+
+}
@@ -3,6 +3,7 @@ package io.github.millij.poi.ss.writer;
 import java.io.File;
 import java.io.IOException;
 import java.text.ParseException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -10,7 +11,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -118,6 +127,86 @@ public class XlsxWriterTest {
         gew.write(filepath_output_file);
     }
 
+    @Test
+    public void test_write_xlsx_typed_cells() throws IOException {
+        final String filepath_output_file = _path_test_output.concat("single_sheet_typed_cells.xlsx");
+
+        // Excel Writer
+        LOGGER.info("test_write_xlsx_typed_cells :: Writing to file - {}", filepath_output_file);
+        SpreadsheetWriter gew = new XlsxWriter();
+
+        // Employees
+        final Employee employee = new Employee("1", "foo", 12, "MALE", 1.68);
+        employee.setDateOfBirth(new Date());
+
+        // Write
+        gew.addSheet(Employee.class, Arrays.asList(employee), Arrays.asList("Name", "Age", "Height (mts)", "DOB"));
+        gew.write(filepath_output_file);
+
+        // Read back
+        try (final Workbook workbook = new XSSFWorkbook(new File(filepath_output_file))) {
+            final Row row = workbook.getSheetAt(0).getRow(1);
+            LOGGER.info("test_write_xlsx_typed_cells :: Row - {}", row);
+
+            Assert.assertEquals(CellType.STRING, row.getCell(0).getCellType());
+            Assert.assertEquals(CellType.NUMERIC, row.getCell(1).getCellType());
+            Assert.assertEquals(12, row.getCell(1).getNumericCellValue(), 0);
+            Assert.assertEquals(1.68, row.getCell(2).getNumericCellValue(), 0);
+            Assert.assertTrue(DateUtil.isCellDateFormatted(row.getCell(3)));
+            Assert.assertEquals("dd-mm-yyy", row.getCell(3).getCellStyle().getDataFormatString());
+        } catch (InvalidFormatException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    @Test
+    public void test_write_xlsx_local_date_cells() throws IOException {
+        final String filepath_output_file = _path_test_output.concat("single_sheet_local_date_cells.xlsx");
+
+        // Excel Writer
+        LOGGER.info("test_write_xlsx_local_date_cells :: Writing to file - {}", filepath_output_file);
+        final SpreadsheetWriter gew = new XlsxWriter();
+
+        // Data
+        final Map<String, Object> row = new HashMap<>();
+        row.put("Name", "foo");
+        row.put("Joined On", LocalDate.of(2024, 2, 1));
+
+        // Write
+        gew.addSheet(Arrays.asList(row), "dates", Arrays.asList("Name", "Joined On"));
+        gew.write(filepath_output_file);
+
+        // Read back
+        try (final Workbook workbook = new XSSFWorkbook(new File(filepath_output_file))) {
+            final Cell cell = workbook.getSheetAt(0).getRow(1).getCell(1);
+            LOGGER.info("test_write_xlsx_local_date_cells :: Cell - {}", cell);
+
+            Assert.assertTrue(DateUtil.isCellDateFormatted(cell));
+            Assert.assertEquals("yyyy-mm-dd", cell.getCellStyle().getDataFormatString());
+            Assert.assertEquals(LocalDate.of(2024, 2, 1), cell.getLocalDateTimeCellValue().toLocalDate());
+        } catch (InvalidFormatException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    @Test
+    public void test_excel_date_formats() {
+        // Quoted literals
+        Assert.assertEquals("yyyy-mm-dd\"T\"hh:mm:ss",
+                AbstractSpreadsheetWriter.asExcelDateFormat("yyyy-MM-dd'T'HH:mm:ss"));
+        Assert.assertEquals("h \"o'clock\"", AbstractSpreadsheetWriter.asExcelDateFormat("h 'o''clock'"));
+
+        // Fraction of the seconds, only after the seconds
+        Assert.assertEquals("hh:mm:ss.000", AbstractSpreadsheetWriter.asExcelDateFormat("HH:mm:ss.SSS"));
+        Assert.assertNull(AbstractSpreadsheetWriter.asExcelDateFormat("HH:mm SSS"));
+
+        // No Excel equivalent
+        for (final String format : Arrays.asList("yyyy-MM-dd HH:mm z", "yyyy-MM-dd HH:mm Z", "yyyy-MM-dd'T'HH:mmXXX",
+                "yyyy-MM-dd u", "kk:mm", "KK:mm a")) {
+            Assert.assertNull(format, AbstractSpreadsheetWriter.asExcelDateFormat(format));
+        }
+    }
+
 
     //
     // Write from Map